@@ -0,0 +1,75 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import repository.AttendanceRepository;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: AttendanceRepositoryBenchmark
+ * Description: AttendanceRepository.getHoursWorked for a semi-monthly and a
+ *              full-year period, cycling through every employee. The file
+ *              is loaded once in setUp; only the lookups are measured.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AttendanceRepositoryBenchmark {
+
+    private static final LocalDate PERIOD_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2024, 1, 15);
+    private static final LocalDate YEAR_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2024, 12, 31);
+
+    @Param({"1000", "100000", "10000000"})
+    public int attendanceRows;
+
+    private AttendanceRepository repository;
+    private int employees;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = new AttendanceRepository(BenchmarkData.attendanceFile(attendanceRows).toString());
+        repository.getHoursWorked(BenchmarkData.FIRST_EMPLOYEE_ID, PERIOD_START, PERIOD_END); // load
+        employees = BenchmarkData.employeeCount(attendanceRows);
+    }
+
+    @Benchmark
+    public double getHoursWorkedSemiMonthly() {
+        return repository.getHoursWorked(nextEmployeeId(), PERIOD_START, PERIOD_END);
+    }
+
+    @Benchmark
+    public double getHoursWorkedYear() {
+        return repository.getHoursWorked(nextEmployeeId(), YEAR_START, YEAR_END);
+    }
+
+    private int nextEmployeeId() {
+        next = (next + 1 == employees) ? 0 : next + 1;
+        return BenchmarkData.FIRST_EMPLOYEE_ID + next;
+    }
+}
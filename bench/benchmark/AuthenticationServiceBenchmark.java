@@ -0,0 +1,99 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.Employee;
+import repository.CredentialRepository;
+import repository.EmployeeRepository;
+import service.AuthenticationService;
+import service.PasswordHasher;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: AuthenticationServiceBenchmark
+ * Description: AuthenticationService.authenticate with the correct password,
+ *              a wrong password and an unknown employee ID, cycling through
+ *              every employee of the dataset. No employee has a stored
+ *              credential, so this measures the birthday check; the PBKDF2
+ *              cost is measured by PasswordHasherBenchmark.
+ *
+ *              The service gets a throttle whose limits cannot be reached,
+ *              since the default one would refuse nearly every attempt at
+ *              benchmark speed; the throttle's own cost is measured by
+ *              LoginThrottleBenchmark.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationServiceBenchmark {
+
+    private static final String WRONG_PASSWORD = "12/31/1899";
+
+    @Param({"1000", "100000", "10000000"})
+    public int attendanceRows;
+
+    private AuthenticationService authenticationService;
+    private String[] passwords;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path employeeFile = BenchmarkData.employeeFile(attendanceRows);
+        EmployeeRepository repository = new EmployeeRepository(employeeFile.toString());
+
+        // No credential file: every login takes the birthday path
+        CredentialRepository credentials = new CredentialRepository(
+                employeeFile.resolveSibling("no-credentials.csv").toString());
+        authenticationService = new AuthenticationService(repository, credentials,
+                new PasswordHasher(), LoginThrottleBenchmark.unlimited());
+
+        passwords = new String[BenchmarkData.employeeCount(attendanceRows)];
+        for (int i = 0; i < passwords.length; i++) {
+            passwords[i] = BenchmarkData.birthdayOf(BenchmarkData.FIRST_EMPLOYEE_ID + i);
+        }
+    }
+
+    @Benchmark
+    public Employee authenticateValid() {
+        int i = nextIndex();
+        return authenticationService.authenticate(BenchmarkData.FIRST_EMPLOYEE_ID + i, passwords[i]);
+    }
+
+    @Benchmark
+    public Employee authenticateWrongPassword() {
+        return authenticationService.authenticate(BenchmarkData.FIRST_EMPLOYEE_ID + nextIndex(), WRONG_PASSWORD);
+    }
+
+    @Benchmark
+    public Employee authenticateUnknownEmployee() {
+        return authenticationService.authenticate(BenchmarkData.FIRST_EMPLOYEE_ID - 1 - nextIndex(), WRONG_PASSWORD);
+    }
+
+    private int nextIndex() {
+        next = (next + 1 == passwords.length) ? 0 : next + 1;
+        return next;
+    }
+}
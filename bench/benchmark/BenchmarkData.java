@@ -0,0 +1,186 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.EmploymentStatus;
+import model.Money;
+import model.StaffEmployee;
+import repository.EmployeeRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/*
+ * Class: BenchmarkData
+ * Description: Generates the employee and attendance CSV files the
+ *              benchmarks run against.
+ *
+ *              A dataset is sized by its number of attendance rows. Each
+ *              employee gets one row per weekday starting 01/01/2024, about
+ *              500 rows (two years) each, so the roster grows with the
+ *              dataset: 34 employees for 1k rows, 200 for 100k, 20,000 for
+ *              10M. Files are written once to
+ *              ${java.io.tmpdir}/motorph-bench and reused by later runs
+ *              (set -Dmotorph.bench.dir to use another directory).
+ */
+
+public final class BenchmarkData {
+
+    public static final int FIRST_EMPLOYEE_ID = 10001;
+    public static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private static final int ROWS_PER_EMPLOYEE = 500;
+    private static final int MIN_EMPLOYEES = 34;
+    private static final long SEED = 20240101L;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private static final String EMPLOYEE_HEADER = "Employee #,Last Name,First Name,Birthday,Address,"
+            + "Phone Number,SSS #,Philhealth #,TIN #,Pag-ibig #,Status,Position,Immediate Supervisor,"
+            + "Basic Salary,Rice Subsidy,Phone Allowance,Clothing Allowance,Gross Semi-monthly Rate,Hourly Rate";
+    private static final String ATTENDANCE_HEADER = "Employee #,Last Name,First Name,Date,Log In,Log Out";
+
+    private static final String[] POSITIONS = {
+        "Account Rank and File", "Customer Service and Relations", "Sales & Marketing",
+        "Supply Chain and Logistics", "HR Rank and File", "Payroll Rank and File",
+        "IT Operations and Systems", "Account Team Leader"
+    };
+
+    private BenchmarkData() {
+    }
+
+    // =========================
+    // DATASET SIZE
+    // =========================
+
+    // Number of employees in the dataset with the given attendance row count
+    public static int employeeCount(int attendanceRows) {
+        return Math.max(MIN_EMPLOYEES, attendanceRows / ROWS_PER_EMPLOYEE);
+    }
+
+    // Birthday (the login password) of a generated employee, MM/dd/yyyy
+    public static String birthdayOf(int employeeId) {
+        int index = employeeId - FIRST_EMPLOYEE_ID;
+        return LocalDate.of(1970, 1, 1).plusDays(index % 10000).format(DATE_FORMAT);
+    }
+
+    // =========================
+    // EMPLOYEE FILE
+    // =========================
+
+    // Returns the employee CSV for the dataset, generating it on first use
+    public static Path employeeFile(int attendanceRows) throws IOException {
+
+        int employees = employeeCount(attendanceRows);
+        Path file = directory().resolve("employees-" + employees + ".csv");
+        if (Files.exists(file)) {
+            return file;
+        }
+
+        // Written through the repository so the format always matches its parser
+        Path staging = directory().resolve("employees-" + employees + ".staging.csv");
+        Files.write(staging, (EMPLOYEE_HEADER + "\r\n").getBytes(StandardCharsets.UTF_8));
+
+        EmployeeRepository repository = new EmployeeRepository(staging.toString(), Long.MAX_VALUE);
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < employees; i++) {
+            int id = FIRST_EMPLOYEE_ID + i;
+            StaffEmployee employee = new StaffEmployee(id, "First" + i, "Last" + i, birthdayOf(id),
+                    POSITIONS[i % POSITIONS.length], "Operations",
+                    Money.ofPesos(22500 + random.nextInt(40) * 1000), Money.ofPesos(1500),
+                    Money.ofPesos(500 + random.nextInt(3) * 250), Money.ofPesos(500),
+                    (i % 4 == 0) ? EmploymentStatus.PROBATIONARY : EmploymentStatus.REGULAR);
+            employee.setAddress("Block " + i + ", Makati City, Metro Manila");
+            employee.setPhoneNumber("917-" + (100 + i % 900) + "-" + (1000 + i % 9000));
+            repository.addEmployee(employee);
+        }
+
+        if (!repository.compactJournal()) {
+            throw new IOException("Could not write " + staging);
+        }
+
+        Files.move(staging, file, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(Paths.get(staging + ".journal"));
+        Files.deleteIfExists(Paths.get(staging + ".journal.old"));
+        return file;
+    }
+
+    // =========================
+    // ATTENDANCE FILE
+    // =========================
+
+    // Returns the attendance CSV with the given number of rows, generating it on first use
+    public static Path attendanceFile(int attendanceRows) throws IOException {
+
+        Path file = directory().resolve("attendance-" + attendanceRows + ".csv");
+        if (Files.exists(file)) {
+            return file;
+        }
+
+        int employees = employeeCount(attendanceRows);
+        Path staging = directory().resolve("attendance-" + attendanceRows + ".staging.csv");
+        Random random = new Random(SEED);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(staging, StandardCharsets.UTF_8)) {
+
+            writer.write(ATTENDANCE_HEADER);
+            writer.write("\r\n");
+
+            // Day by day, every employee clocks in, until the row count is reached
+            int written = 0;
+            for (LocalDate day = FIRST_DAY; written < attendanceRows; day = day.plusDays(1)) {
+
+                if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+
+                String date = day.format(DATE_FORMAT);
+                for (int i = 0; i < employees && written < attendanceRows; i++, written++) {
+
+                    int minuteIn = 7 * 60 + 30 + random.nextInt(120);
+                    int minuteOut = minuteIn + 8 * 60 + random.nextInt(150);
+
+                    writer.write(String.valueOf(FIRST_EMPLOYEE_ID + i));
+                    writer.write(",Last" + i + ",First" + i + "," + date + ",");
+                    writer.write(time(minuteIn));
+                    writer.write(',');
+                    writer.write(time(minuteOut));
+                    writer.write("\r\n");
+                }
+            }
+        }
+
+        Files.move(staging, file, StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private static Path directory() throws IOException {
+        String dir = System.getProperty("motorph.bench.dir",
+                Paths.get(System.getProperty("java.io.tmpdir"), "motorph-bench").toString());
+        return Files.createDirectories(Paths.get(dir));
+    }
+
+    // Minute of day as H:mm
+    private static String time(int minute) {
+        int m = minute % 60;
+        return (minute / 60) + (m < 10 ? ":0" : ":") + m;
+    }
+}
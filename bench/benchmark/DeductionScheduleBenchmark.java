@@ -0,0 +1,65 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.DeductionSchedule;
+import model.Money;
+import repository.DeductionScheduleRepository;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: DeductionScheduleBenchmark
+ * Description: Cost of one employee's statutory deductions through the
+ *              compiled bracket tables, over salaries spread across every
+ *              tax bracket. Run with -prof gc to confirm it does not
+ *              allocate.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeductionScheduleBenchmark {
+
+    private static final int SALARIES = 1024;
+
+    private DeductionSchedule schedule;
+    private long[] salaries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        schedule = new DeductionScheduleRepository().getLatest();
+
+        Random random = new Random(42);
+        salaries = new long[SALARIES];
+        for (int i = 0; i < SALARIES; i++) {
+            salaries[i] = Money.ofPesos(10_000) + (long) (random.nextDouble() * Money.ofPesos(990_000));
+        }
+    }
+
+    @Benchmark
+    public long totalDeductions() {
+        next = (next + 1) & (SALARIES - 1);
+        return schedule.totalDeductions(salaries[next]);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import repository.EmployeeRepository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: EmployeeRepositoryBenchmark
+ * Description: Time to read the employee CSV (plus journal replay) with
+ *              EmployeeRepository.loadEmployees, for the roster of each
+ *              dataset size.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int attendanceRows;
+
+    private EmployeeRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = new EmployeeRepository(BenchmarkData.employeeFile(attendanceRows).toString());
+    }
+
+    @Benchmark
+    public void loadEmployees() {
+        repository.loadEmployees();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import service.LoginThrottle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: LoginThrottleBenchmark
+ * Description: What LoginThrottle adds to every login: an attempt that
+ *              succeeds, one that fails, and one refused because the account
+ *              is blocked. The first two use a throttle whose limits cannot
+ *              be reached (see unlimited()), so every attempt goes through
+ *              the same path; the blocked account uses the default limits.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginThrottleBenchmark {
+
+    private static final int EMPLOYEE_ID = BenchmarkData.FIRST_EMPLOYEE_ID;
+
+    private LoginThrottle unlimitedThrottle;
+    private LoginThrottle defaultThrottle;
+
+    @Setup
+    public void setUp() {
+        unlimitedThrottle = unlimited();
+
+        // Enough failures to reach MAX_DELAY, so the block outlasts the run
+        defaultThrottle = new LoginThrottle();
+        for (int i = 0; i < LoginThrottle.FREE_ATTEMPTS + 11; i++) {
+            defaultThrottle.recordFailure(EMPLOYEE_ID);
+        }
+    }
+
+    @Benchmark
+    public long successfulAttempt() {
+        long wait = unlimitedThrottle.tryAcquire(EMPLOYEE_ID);
+        unlimitedThrottle.recordSuccess(EMPLOYEE_ID);
+        return wait;
+    }
+
+    @Benchmark
+    public long failedAttempt() {
+        long wait = unlimitedThrottle.tryAcquire(EMPLOYEE_ID);
+        unlimitedThrottle.recordFailure(EMPLOYEE_ID);
+        return wait;
+    }
+
+    @Benchmark
+    public long blockedAttempt() {
+        return defaultThrottle.tryAcquire(EMPLOYEE_ID);
+    }
+
+    // A throttle that never blocks an account or runs out of global tokens,
+    // for benchmarks that log in far faster than the real limits allow
+    static LoginThrottle unlimited() {
+        return new LoginThrottle(Integer.MAX_VALUE, LoginThrottle.BASE_DELAY_MILLIS,
+                LoginThrottle.MAX_DELAY_MILLIS, LoginThrottle.RESET_AFTER_MILLIS,
+                Integer.MAX_VALUE, Integer.MAX_VALUE, System::nanoTime);
+    }
+}
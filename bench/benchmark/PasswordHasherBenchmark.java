@@ -0,0 +1,64 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.Credential;
+import service.PasswordHasher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: PasswordHasherBenchmark
+ * Description: Cost of one PBKDF2 login check (verify) and one password
+ *              change (hash) at several iteration counts, to choose
+ *              motorph.password.iterations against the login latency budget.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "10/11/1983";
+
+    @Param({"10000", "100000", "310000"})
+    public int iterations;
+
+    private PasswordHasher hasher;
+    private Credential credential;
+
+    @Setup
+    public void setUp() {
+        hasher = new PasswordHasher(iterations);
+        credential = hasher.hash(BenchmarkData.FIRST_EMPLOYEE_ID, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.verify(credential, PASSWORD);
+    }
+
+    @Benchmark
+    public Credential hash() {
+        return hasher.hash(BenchmarkData.FIRST_EMPLOYEE_ID, PASSWORD);
+    }
+}
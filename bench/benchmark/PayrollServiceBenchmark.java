@@ -0,0 +1,110 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.Employee;
+import model.PayPeriod;
+import repository.AttendanceRepository;
+import repository.DeductionScheduleRepository;
+import repository.EmployeeRepository;
+import service.PayrollResultCache;
+import service.PayrollService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: PayrollServiceBenchmark
+ * Description: One call of each PayrollService.calculateNetSalary overload
+ *              (no period, hours worked, "YYYY-MM-DD to YYYY-MM-DD" period,
+ *              PayPeriod), cycling through every employee of the dataset.
+ *
+ *              The period overloads are measured without the result cache
+ *              (computed every time), and the string one also with it (a
+ *              hit once the roster fits in the cache).
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PayrollServiceBenchmark {
+
+    private static final String DATE_RANGE = "2024-01-01 to 2024-01-15";
+    private static final PayPeriod PAY_PERIOD = PayPeriod.parse(DATE_RANGE);
+    private static final double HOURS_WORKED = 88.5;
+
+    @Param({"1000", "100000", "10000000"})
+    public int attendanceRows;
+
+    private PayrollService payrollService;
+    private PayrollService cachedPayrollService;
+    private Employee[] employees;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        AttendanceRepository attendance =
+                new AttendanceRepository(BenchmarkData.attendanceFile(attendanceRows).toString());
+        DeductionScheduleRepository schedules = new DeductionScheduleRepository();
+        payrollService = new PayrollService(attendance, schedules,
+                new PayrollResultCache(0, Long.MAX_VALUE, System::nanoTime));
+        cachedPayrollService = new PayrollService(attendance, schedules,
+                new PayrollResultCache(Integer.MAX_VALUE, Long.MAX_VALUE, System::nanoTime));
+
+        List<Employee> roster =
+                new EmployeeRepository(BenchmarkData.employeeFile(attendanceRows).toString()).getAllEmployees();
+        employees = roster.toArray(new Employee[0]);
+
+        payrollService.calculateNetSalary(employees[0], DATE_RANGE); // load attendance
+    }
+
+    @Benchmark
+    public long calculateNetSalary() {
+        return payrollService.calculateNetSalary(nextEmployee());
+    }
+
+    @Benchmark
+    public long calculateNetSalaryFromHours() {
+        return payrollService.calculateNetSalary(nextEmployee(), HOURS_WORKED);
+    }
+
+    @Benchmark
+    public long calculateNetSalaryForPeriod() {
+        return payrollService.calculateNetSalary(nextEmployee(), DATE_RANGE);
+    }
+
+    @Benchmark
+    public long calculateNetSalaryForPayPeriod() {
+        return payrollService.calculateNetSalary(nextEmployee(), PAY_PERIOD);
+    }
+
+    @Benchmark
+    public long calculateNetSalaryForPeriodCached() {
+        return cachedPayrollService.calculateNetSalary(nextEmployee(), DATE_RANGE);
+    }
+
+    private Employee nextEmployee() {
+        next = (next + 1 == employees.length) ? 0 : next + 1;
+        return employees[next];
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package benchmark;
+
+import model.PayPeriod;
+import model.PayrollRun;
+import repository.AttendanceRepository;
+import repository.EmployeeRepository;
+import service.PayrollService;
+import service.PayslipWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Class: PayslipWriterBenchmark
+ * Description: Writing every payslip of one payroll run to a stream that
+ *              discards its input, so only layout and encoding are measured.
+ *              Run with -prof gc to see the allocation per payslip.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PayslipWriterBenchmark {
+
+    private static final PayPeriod PAY_PERIOD = PayPeriod.parse("2024-01-01 to 2024-01-15");
+
+    @Param({"100000", "10000000"})
+    public int attendanceRows;
+
+    private PayrollRun run;
+    private PayslipWriter writer;
+
+    private final OutputStream discard = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup
+    public void setUp() throws IOException {
+        AttendanceRepository attendance =
+                new AttendanceRepository(BenchmarkData.attendanceFile(attendanceRows).toString());
+        run = new PayrollService(attendance).runPayroll(
+                new EmployeeRepository(BenchmarkData.employeeFile(attendanceRows).toString()).getAllEmployees(),
+                PAY_PERIOD);
+        writer = new PayslipWriter();
+    }
+
+    @Benchmark
+    public int writeRun() throws IOException {
+        return writer.write(run, discard);
+    }
+}
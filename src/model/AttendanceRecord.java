@@ -0,0 +1,78 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/*
+ * Class: AttendanceRecord
+ * Description: Represents one day of attendance (log in / log out)
+ *              for a single employee.
+ *
+ *              Instances are immutable so they can be shared safely
+ *              by the attendance index and any caller reading from it.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * All fields are private and final.
+ * Access is controlled through getters only.
+ */
+
+public final class AttendanceRecord {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final int employeeId;
+    private final LocalDate date;
+    private final LocalTime timeIn;
+    private final LocalTime timeOut;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public AttendanceRecord(int employeeId, LocalDate date, LocalTime timeIn, LocalTime timeOut) {
+        this.employeeId = employeeId;
+        this.date = date;
+        this.timeIn = timeIn;
+        this.timeOut = timeOut;
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET Employee ID
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    // GET Attendance Date
+    public LocalDate getDate() {
+        return date;
+    }
+
+    // GET Log In Time
+    public LocalTime getTimeIn() {
+        return timeIn;
+    }
+
+    // GET Log Out Time
+    public LocalTime getTimeOut() {
+        return timeOut;
+    }
+
+    // GET Hours Worked
+    // Difference between log out and log in, in hours
+    public double getHoursWorked() {
+        return (timeOut.toSecondOfDay() - timeIn.toSecondOfDay()) / 3600.0;
+    }
+}
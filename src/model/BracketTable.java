@@ -0,0 +1,92 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.util.Arrays;
+
+/*
+ * Class: BracketTable
+ * Description: One statutory schedule (SSS, PhilHealth, Pag-IBIG or
+ *              withholding tax) compiled into sorted primitive arrays.
+ *
+ *              Bracket i applies to amounts over over[i] (up to the next
+ *              bound) and is worth
+ *
+ *                  base[i] + rate[i] * (amount - over[i])
+ *
+ *              kept between minimum[i] and maximum[i]. Amounts not over the
+ *              first bound are worth 0. Money is in centavos and rates in
+ *              parts per million; the rate term is rounded half up to the
+ *              centavo (Money.applyRate). The bracket is found by binary
+ *              search, so apply() never allocates.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * The arrays are copied in and never exposed, so a BracketTable cannot be
+ * changed once built.
+ */
+
+public final class BracketTable {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final long[] over;
+    private final long[] base;
+    private final long[] rate;
+    private final long[] minimum;
+    private final long[] maximum;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    // Bounds must be strictly ascending; use 0 and Long.MAX_VALUE for
+    // brackets without a minimum or maximum
+    public BracketTable(long[] over, long[] base, long[] rate,
+                        long[] minimum, long[] maximum) {
+
+        int n = over.length;
+        if (n == 0 || base.length != n || rate.length != n
+                || minimum.length != n || maximum.length != n) {
+            throw new IllegalArgumentException("Bracket columns must be non-empty and of equal length.");
+        }
+        for (int i = 1; i < n; i++) {
+            if (over[i] <= over[i - 1]) {
+                throw new IllegalArgumentException("Bracket bounds must be ascending: " + over[i]);
+            }
+        }
+
+        this.over = over.clone();
+        this.base = base.clone();
+        this.rate = rate.clone();
+        this.minimum = minimum.clone();
+        this.maximum = maximum.clone();
+    }
+
+    // =========================
+    // APPLY
+    // =========================
+
+    // Amount due on the given income, in centavos
+    public long apply(long amount) {
+
+        int found = Arrays.binarySearch(over, amount);
+        int i = (found >= 0) ? found - 1 : -found - 2;   // last bound strictly below
+        if (i < 0) return 0;
+
+        long value = base[i] + Money.applyRate(amount - over[i], rate[i]);
+        return Math.min(Math.max(value, minimum[i]), maximum[i]);
+    }
+
+    // GET Number of brackets
+    public int size() {
+        return over.length;
+    }
+}
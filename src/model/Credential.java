@@ -0,0 +1,85 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.util.Arrays;
+
+/*
+ * Class: Credential
+ * Description: Immutable stored password of one employee: a PBKDF2 hash
+ *              together with the random salt and iteration count it was
+ *              derived with. The password itself is never stored.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * All fields are private and final.
+ * Byte arrays are copied in and out, so a Credential cannot be changed.
+ */
+
+public final class Credential {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final int employeeId;
+    private final int iterations;
+    private final byte[] salt;
+    private final byte[] hash;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public Credential(int employeeId, int iterations, byte[] salt, byte[] hash) {
+        this.employeeId = employeeId;
+        this.iterations = iterations;
+        this.salt = salt.clone();
+        this.hash = hash.clone();
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET Employee ID
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    // GET PBKDF2 iteration count used for the hash
+    public int getIterations() {
+        return iterations;
+    }
+
+    // GET Salt (copy)
+    public byte[] getSalt() {
+        return salt.clone();
+    }
+
+    // GET Derived hash (copy)
+    public byte[] getHash() {
+        return hash.clone();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Credential)) return false;
+        Credential other = (Credential) obj;
+        return employeeId == other.employeeId
+                && iterations == other.iterations
+                && Arrays.equals(salt, other.salt)
+                && Arrays.equals(hash, other.hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * employeeId + Arrays.hashCode(hash);
+    }
+}
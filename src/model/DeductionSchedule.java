@@ -0,0 +1,103 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.time.LocalDate;
+
+/*
+ * Class: DeductionSchedule
+ * Description: The statutory deductions in force from one effective date:
+ *              the SSS contribution table, PhilHealth premium with its
+ *              floor and cap, Pag-IBIG contribution with its ceiling, and
+ *              the BIR withholding tax brackets.
+ *
+ *              Contributions are computed on the gross salary; withholding
+ *              tax on the gross salary less the three contributions.
+ *              Every amount is in centavos and each deduction is rounded on
+ *              its own (see BracketTable). Every method works on primitives
+ *              only and never allocates.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * All fields are private and final.
+ * Schedules are loaded once by DeductionScheduleRepository and shared by
+ * every caller.
+ */
+
+public final class DeductionSchedule {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final LocalDate effectiveDate;
+    private final BracketTable sss;
+    private final BracketTable philHealth;
+    private final BracketTable pagIbig;
+    private final BracketTable withholdingTax;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public DeductionSchedule(LocalDate effectiveDate,
+                             BracketTable sss,
+                             BracketTable philHealth,
+                             BracketTable pagIbig,
+                             BracketTable withholdingTax) {
+
+        this.effectiveDate = effectiveDate;
+        this.sss = sss;
+        this.philHealth = philHealth;
+        this.pagIbig = pagIbig;
+        this.withholdingTax = withholdingTax;
+    }
+
+    // =========================
+    // DEDUCTIONS
+    // =========================
+
+    // METHOD NAME: sss
+    public long sss(long grossSalary) {
+        return sss.apply(grossSalary);
+    }
+
+    // METHOD NAME: philHealth
+    public long philHealth(long grossSalary) {
+        return philHealth.apply(grossSalary);
+    }
+
+    // METHOD NAME: pagIbig
+    public long pagIbig(long grossSalary) {
+        return pagIbig.apply(grossSalary);
+    }
+
+    // METHOD NAME: withholdingTax
+    // Tax on income already net of contributions
+    public long withholdingTax(long taxableIncome) {
+        return withholdingTax.apply(taxableIncome);
+    }
+
+    // METHOD NAME: contributions
+    // SSS + PhilHealth + Pag-IBIG
+    public long contributions(long grossSalary) {
+        return sss(grossSalary) + philHealth(grossSalary) + pagIbig(grossSalary);
+    }
+
+    // METHOD NAME: totalDeductions
+    // Contributions plus the tax on what is left after them
+    public long totalDeductions(long grossSalary) {
+        long contributions = contributions(grossSalary);
+        return contributions + withholdingTax(grossSalary - contributions);
+    }
+
+    // GET First day this schedule is in force
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+}
@@ -17,6 +17,9 @@ package model;
  *              It serves as the base abstraction for role-based subclasses
  *              such as HR, Finance, IT, and Staff employees.
  *
+ *              Salary and allowances are monthly amounts in centavos
+ *              (see Money).
+ *
  *              Login Rule:
  *              Username = Employee ID
  *              Password = Birthday
@@ -38,7 +41,7 @@ package model;
  *    - Serves as the superclass for specialized employee subclasses.
  */
 
-public abstract class Employee {
+public abstract class Employee implements Cloneable {
 
     // =========================
     // ATTRIBUTES (Encapsulated)
@@ -51,13 +54,23 @@ public abstract class Employee {
     private String position;
     private String department;
 
-    private double basicSalary;
-    private double riceSubsidy;
-    private double phoneAllowance;
-    private double clothingAllowance;
+    // Money in centavos (see Money)
+    private long basicSalary;
+    private long riceSubsidy;
+    private long phoneAllowance;
+    private long clothingAllowance;
 
     private EmploymentStatus employmentStatus;
 
+    // Contact and government details (optional, set after construction)
+    private String address = "";
+    private String phoneNumber = "";
+    private String sssNumber = "";
+    private String philHealthNumber = "";
+    private String tinNumber = "";
+    private String pagIbigNumber = "";
+    private String immediateSupervisor = "";
+
     // =========================
     // CONSTRUCTOR
     // =========================
@@ -70,10 +83,10 @@ public abstract class Employee {
                     String birthday,
                     String position,
                     String department,
-                    double basicSalary,
-                    double riceSubsidy,
-                    double phoneAllowance,
-                    double clothingAllowance,
+                    long basicSalary,
+                    long riceSubsidy,
+                    long phoneAllowance,
+                    long clothingAllowance,
                     EmploymentStatus employmentStatus) {
 
         this.employeeId = employeeId;
@@ -103,11 +116,21 @@ public abstract class Employee {
         return firstName;
     }
 
+    // SET First Name
+    public void setFirstName(String firstName) {
+        this.firstName = (firstName == null) ? "" : firstName;
+    }
+
     // GET Last Name
     public String getLastName() {
         return lastName;
     }
 
+    // SET Last Name
+    public void setLastName(String lastName) {
+        this.lastName = (lastName == null) ? "" : lastName;
+    }
+
     // GET Full Name
     public String getFullName() {
         return firstName + " " + lastName;
@@ -128,14 +151,14 @@ public abstract class Employee {
         return department;
     }
 
-    // GET Basic Salary
-    public double getBasicSalary() {
+    // GET Basic Salary (monthly, centavos)
+    public long getBasicSalary() {
         return basicSalary;
     }
 
     // SET Basic Salary
     // Used only by authorized roles (e.g., Finance)
-    public void setBasicSalary(double basicSalary) {
+    public void setBasicSalary(long basicSalary) {
 
         if (basicSalary < 0) {
             throw new IllegalArgumentException("Basic salary cannot be negative.");
@@ -144,23 +167,23 @@ public abstract class Employee {
         this.basicSalary = basicSalary;
     }
 
-    // GET Rice Subsidy
-    public double getRiceSubsidy() {
+    // GET Rice Subsidy (centavos)
+    public long getRiceSubsidy() {
         return riceSubsidy;
     }
 
-    // GET Phone Allowance
-    public double getPhoneAllowance() {
+    // GET Phone Allowance (centavos)
+    public long getPhoneAllowance() {
         return phoneAllowance;
     }
 
-    // GET Clothing Allowance
-    public double getClothingAllowance() {
+    // GET Clothing Allowance (centavos)
+    public long getClothingAllowance() {
         return clothingAllowance;
     }
 
-    // GET Total Allowances
-    public double getTotalAllowances() {
+    // GET Total Allowances (centavos)
+    public long getTotalAllowances() {
         return riceSubsidy + phoneAllowance + clothingAllowance;
     }
 
@@ -169,6 +192,95 @@ public abstract class Employee {
         return employmentStatus;
     }
 
+    // =========================
+    // CONTACT & GOVERNMENT DETAILS
+    // =========================
+
+    // GET Address
+    public String getAddress() {
+        return address;
+    }
+
+    // SET Address
+    public void setAddress(String address) {
+        this.address = (address == null) ? "" : address;
+    }
+
+    // GET Phone Number
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    // SET Phone Number
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = (phoneNumber == null) ? "" : phoneNumber;
+    }
+
+    // GET SSS Number
+    public String getSssNumber() {
+        return sssNumber;
+    }
+
+    // SET SSS Number
+    public void setSssNumber(String sssNumber) {
+        this.sssNumber = (sssNumber == null) ? "" : sssNumber;
+    }
+
+    // GET PhilHealth Number
+    public String getPhilHealthNumber() {
+        return philHealthNumber;
+    }
+
+    // SET PhilHealth Number
+    public void setPhilHealthNumber(String philHealthNumber) {
+        this.philHealthNumber = (philHealthNumber == null) ? "" : philHealthNumber;
+    }
+
+    // GET TIN Number
+    public String getTinNumber() {
+        return tinNumber;
+    }
+
+    // SET TIN Number
+    public void setTinNumber(String tinNumber) {
+        this.tinNumber = (tinNumber == null) ? "" : tinNumber;
+    }
+
+    // GET Pag-IBIG Number
+    public String getPagIbigNumber() {
+        return pagIbigNumber;
+    }
+
+    // SET Pag-IBIG Number
+    public void setPagIbigNumber(String pagIbigNumber) {
+        this.pagIbigNumber = (pagIbigNumber == null) ? "" : pagIbigNumber;
+    }
+
+    // GET Immediate Supervisor
+    public String getImmediateSupervisor() {
+        return immediateSupervisor;
+    }
+
+    // SET Immediate Supervisor
+    public void setImmediateSupervisor(String immediateSupervisor) {
+        this.immediateSupervisor = (immediateSupervisor == null) ? "" : immediateSupervisor;
+    }
+
+    // =========================
+    // COPY
+    // =========================
+
+    // METHOD NAME: copy
+    // Returns a separate instance of the same subclass with the same
+    // values, so a form can edit it without changing the shared record
+    public Employee copy() {
+        try {
+            return (Employee) super.clone();   // every field is immutable
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     // =========================
     // ABSTRACT PERMISSION METHODS
     // =========================
@@ -14,6 +14,10 @@ package model;
  *
  *              This classification supports labeling, filtering,
  *              and potential future business rules related to employment status.
+ *
+ *              parse and getLabel are the one mapping between a status and
+ *              its text ("Regular" / "Probationary"), used by both the CSV
+ *              file and the employee forms.
  */
 
 /*
@@ -26,7 +30,28 @@ package model;
 
 public enum EmploymentStatus {
 
-    REGULAR,
-    PROBATIONARY
+    REGULAR("Regular"),
+    PROBATIONARY("Probationary");
+
+    private final String label;
+
+    EmploymentStatus(String label) {
+        this.label = label;
+    }
+
+    // GET Text shown on forms and written to the CSV file
+    public String getLabel() {
+        return label;
+    }
 
+    // Parses a label, ignoring case and surrounding spaces; any other text
+    // is rejected
+    public static EmploymentStatus parse(String text) {
+        for (EmploymentStatus status : values()) {
+            if (status.label.equalsIgnoreCase(text.trim())) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown employment status: " + text);
+    }
 }
\ No newline at end of file
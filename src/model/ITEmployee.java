@@ -32,10 +32,10 @@ public class ITEmployee extends Employee {
                       String birthday,
                       String position,
                       String department,
-                      double basicSalary,
-                      double riceSubsidy,
-                      double phoneAllowance,
-                      double clothingAllowance,
+                      long basicSalary,
+                      long riceSubsidy,
+                      long phoneAllowance,
+                      long clothingAllowance,
                       EmploymentStatus employmentStatus) {
 
         super(employeeId, firstName, lastName, birthday, position, department,
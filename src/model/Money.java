@@ -0,0 +1,207 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+/*
+ * Class: Money
+ * Description: Fixed-point peso arithmetic. Every amount of money in the
+ *              system is a long number of centavos (1 peso = 100), so sums
+ *              are exact and a payroll run's totals always reconcile.
+ *
+ *              Only multiplication and division can produce fractions of a
+ *              centavo. They go through the methods below, which round once,
+ *              half up (away from zero), at the line item being computed:
+ *              one deduction, one prorated salary, one derived rate. Nothing
+ *              here allocates except parse() and format(); appendTo() writes
+ *              into a caller's StringBuilder instead.
+ *
+ *              Rates (SSS 4.5% and the like) are given in parts per million,
+ *              so 0.045 is 45,000 and is exact as well.
+ */
+
+public final class Money {
+
+    public static final long CENTAVOS_PER_PESO = 100;
+
+    // Scale of rates: 1.0 = 1,000,000
+    public static final long RATE_SCALE = 1_000_000;
+
+    private Money() {
+    }
+
+    // =========================
+    // CONVERSION
+    // =========================
+
+    // Whole pesos to centavos
+    public static long ofPesos(long pesos) {
+        return Math.multiplyExact(pesos, CENTAVOS_PER_PESO);
+    }
+
+    // =========================
+    // ROUNDED ARITHMETIC
+    // =========================
+
+    // amount * rate, rate in parts per million
+    public static long applyRate(long amount, long ratePpm) {
+        return divide(Math.multiplyExact(amount, ratePpm), RATE_SCALE);
+    }
+
+    // amount * numerator / denominator, e.g. monthly salary * minutes worked
+    // / minutes in a month
+    public static long prorate(long amount, long numerator, long denominator) {
+        return divide(Math.multiplyExact(amount, numerator), denominator);
+    }
+
+    // Division rounded half up (away from zero); denominator must be positive
+    public static long divide(long dividend, long denominator) {
+
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Denominator must be positive: " + denominator);
+        }
+
+        long quotient = dividend / denominator;
+        long remainder = dividend % denominator;
+
+        if (Math.abs(remainder) * 2 >= denominator) {
+            quotient += (dividend < 0) ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    // =========================
+    // PARSE
+    // =========================
+
+    // Parses a peso amount such as "90,000", "1,500.50" or "-12.5" into
+    // centavos. Digits past the second decimal are rounded half up.
+    public static long parse(CharSequence text) {
+        return parseScaled(text, 2, "amount");
+    }
+
+    // Parses a decimal rate such as "0.045" into parts per million.
+    // Digits past the sixth decimal are rounded half up.
+    public static long parseRate(CharSequence text) {
+        return parseScaled(text, 6, "rate");
+    }
+
+    // =========================
+    // FORMAT
+    // =========================
+
+    // "1234.56": plain, as shown in the payroll panels
+    public static String format(long centavos) {
+        return format(centavos, false);
+    }
+
+    // "1,234.56": grouped, as stored in the employee CSV
+    public static String formatGrouped(long centavos) {
+        return format(centavos, true);
+    }
+
+    // Appends the amount, grouped or plain, without creating a String
+    public static StringBuilder appendTo(StringBuilder sb, long centavos, boolean grouped) {
+
+        if (centavos < 0) sb.append('-');
+
+        long abs = Math.abs(centavos);
+        long pesos = abs / CENTAVOS_PER_PESO;
+
+        if (grouped) {
+            appendGroupedPesos(sb, pesos);
+        } else {
+            sb.append(pesos);
+        }
+
+        long cents = abs % CENTAVOS_PER_PESO;
+        return sb.append('.').append((char) ('0' + cents / 10)).append((char) ('0' + cents % 10));
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private static long parseScaled(CharSequence text, int decimals, String what) {
+
+        if (text == null) {
+            throw new NumberFormatException("Missing " + what);
+        }
+
+        int i = 0;
+        int end = text.length();
+        while (i < end && text.charAt(i) == ' ') i++;
+        while (end > i && text.charAt(end - 1) == ' ') end--;
+
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int fraction = -1;         // decimals read so far, -1 before the point
+        boolean roundUp = false;
+
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == ',' && fraction < 0) {
+                continue;
+            }
+            if (c == '.' && fraction < 0) {
+                fraction = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid " + what + ": \"" + text + "\"");
+            }
+
+            digits++;
+            if (fraction >= decimals) {
+                // only the first dropped digit decides the rounding
+                if (fraction == decimals) roundUp = c >= '5';
+                fraction++;
+                continue;
+            }
+            value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+            if (fraction >= 0) fraction++;
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid " + what + ": \"" + text + "\"");
+        }
+
+        for (int f = Math.max(fraction, 0); f < decimals; f++) {
+            value = Math.multiplyExact(value, 10);
+        }
+        if (roundUp) value++;
+
+        return negative ? -value : value;
+    }
+
+    private static String format(long centavos, boolean grouped) {
+        return appendTo(new StringBuilder(24), centavos, grouped).toString();
+    }
+
+    // 1234567 -> "1,234,567", most significant group first
+    private static void appendGroupedPesos(StringBuilder sb, long pesos) {
+
+        if (pesos < 1000) {
+            sb.append(pesos);
+            return;
+        }
+
+        appendGroupedPesos(sb, pesos / 1000);
+
+        long group = pesos % 1000;
+        sb.append(',');
+        if (group < 100) sb.append('0');
+        if (group < 10) sb.append('0');
+        sb.append(group);
+    }
+}
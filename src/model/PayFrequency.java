@@ -0,0 +1,31 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+/*
+ * Class: PayFrequency
+ * Description: How often employees are paid, which decides how PayCalendar
+ *              cuts a year into pay periods:
+ *
+ *              WEEKLY       - seven days from the calendar's week start day
+ *              SEMI_MONTHLY - the 1st to the 15th, and the 16th to month end
+ *              MONTHLY      - the whole calendar month
+ */
+
+/*
+ * OOP PRINCIPLE: ABSTRACTION
+ * The enum names each supported pay schedule, so no other part of the
+ * system has to know how a schedule is laid out on the calendar.
+ */
+
+public enum PayFrequency {
+
+    WEEKLY,
+    SEMI_MONTHLY,
+    MONTHLY
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/*
+ * Class: PayPeriod
+ * Description: Immutable pay period: a start and end date, both inclusive.
+ *
+ *              The epoch-day bounds and the display label
+ *              ("2024-06-01 to 2024-06-15") are worked out once, on
+ *              construction, so payroll code can hand the period straight to
+ *              the attendance ledger without parsing or converting dates.
+ *              Periods are normally handed out by PayCalendar; parse() reads
+ *              the label back for callers that still pass strings.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * All fields are private and final; a PayPeriod cannot be changed.
+ */
+
+public final class PayPeriod {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private static final String SEPARATOR = " to ";
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final int startDay;
+    private final int endDay;
+    private final String label;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public PayPeriod(LocalDate start, LocalDate end) {
+
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Pay period ends before it starts: " + start + SEPARATOR + end);
+        }
+
+        this.start = start;
+        this.end = end;
+        this.startDay = (int) start.toEpochDay();
+        this.endDay = (int) end.toEpochDay();
+        this.label = start + SEPARATOR + end;
+    }
+
+    // METHOD NAME: parse
+    // Reads "YYYY-MM-DD to YYYY-MM-DD"; IllegalArgumentException if malformed
+    public static PayPeriod parse(String text) {
+
+        int separator = text.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid pay period: " + text);
+        }
+
+        try {
+            return new PayPeriod(LocalDate.parse(text.substring(0, separator).trim()),
+                    LocalDate.parse(text.substring(separator + SEPARATOR.length()).trim()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid pay period: " + text, e);
+        }
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET First day of the period
+    public LocalDate getStart() {
+        return start;
+    }
+
+    // GET Last day of the period
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    // GET First day as an epoch day
+    public int getStartDay() {
+        return startDay;
+    }
+
+    // GET Last day as an epoch day
+    public int getEndDay() {
+        return endDay;
+    }
+
+    // GET Number of days in the period
+    public int getDays() {
+        return endDay - startDay + 1;
+    }
+
+    // True if the date falls within the period
+    public boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        return startDay <= day && day <= endDay;
+    }
+
+    // "YYYY-MM-DD to YYYY-MM-DD", as shown in the pay period lists
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PayPeriod)) return false;
+        PayPeriod other = (PayPeriod) obj;
+        return startDay == other.startDay && endDay == other.endDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startDay + endDay;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+/*
+ * Class: PayrollResult
+ * Description: Immutable payroll figures of one employee for one pay period:
+ *              hours worked, gross salary, each statutory deduction and
+ *              the resulting net salary.
+ *
+ *              Money is in centavos (see Money); each deduction is rounded
+ *              to the centavo on its own, and net salary is exactly gross
+ *              salary less their sum.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * All fields are private and final.
+ * Values are set once by PayrollService and exposed through getters only.
+ */
+
+public final class PayrollResult {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final int employeeId;
+    private final String employeeName;
+    private final double hoursWorked;
+
+    private final long grossSalary;
+    private final long sss;
+    private final long philHealth;
+    private final long pagIbig;
+    private final long withholdingTax;
+    private final long netSalary;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public PayrollResult(int employeeId,
+                         String employeeName,
+                         double hoursWorked,
+                         long grossSalary,
+                         long sss,
+                         long philHealth,
+                         long pagIbig,
+                         long withholdingTax,
+                         long netSalary) {
+
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.hoursWorked = hoursWorked;
+        this.grossSalary = grossSalary;
+        this.sss = sss;
+        this.philHealth = philHealth;
+        this.pagIbig = pagIbig;
+        this.withholdingTax = withholdingTax;
+        this.netSalary = netSalary;
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET Employee ID
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    // GET Employee Full Name
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    // GET Hours Worked within the pay period
+    public double getHoursWorked() {
+        return hoursWorked;
+    }
+
+    // GET Gross Salary
+    public long getGrossSalary() {
+        return grossSalary;
+    }
+
+    // GET SSS Contribution
+    public long getSss() {
+        return sss;
+    }
+
+    // GET PhilHealth Contribution
+    public long getPhilHealth() {
+        return philHealth;
+    }
+
+    // GET Pag-IBIG Contribution
+    public long getPagIbig() {
+        return pagIbig;
+    }
+
+    // GET Withholding Tax
+    public long getWithholdingTax() {
+        return withholdingTax;
+    }
+
+    // GET Total Deductions
+    public long getTotalDeductions() {
+        return sss + philHealth + pagIbig + withholdingTax;
+    }
+
+    // GET Net Salary
+    public long getNetSalary() {
+        return netSalary;
+    }
+}
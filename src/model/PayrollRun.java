@@ -0,0 +1,103 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Class: PayrollRun
+ * Description: Immutable result of a batch payroll computation:
+ *              one PayrollResult per employee for a single pay period,
+ *              kept in the same order as the employee list it was built from.
+ *
+ *              Totals are exact sums of centavos, so gross less deductions
+ *              always equals net.
+ */
+
+/*
+ * OOP PRINCIPLE: ENCAPSULATION
+ * The result list is copied on construction and exposed read-only.
+ */
+
+public final class PayrollRun {
+
+    // =========================
+    // ATTRIBUTES (Encapsulated)
+    // =========================
+
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final List<PayrollResult> results;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public PayrollRun(LocalDate periodStart, LocalDate periodEnd, List<PayrollResult> results) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET Pay Period Start
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    // GET Pay Period End
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    // GET Results (read-only, in employee list order)
+    public List<PayrollResult> getResults() {
+        return results;
+    }
+
+    // GET Number of employees processed
+    public int size() {
+        return results.size();
+    }
+
+    // =========================
+    // TOTALS
+    // =========================
+
+    // GET Total Gross Salary of the run
+    public long getTotalGrossSalary() {
+        long total = 0;
+        for (PayrollResult result : results) {
+            total += result.getGrossSalary();
+        }
+        return total;
+    }
+
+    // GET Total Deductions of the run
+    public long getTotalDeductions() {
+        long total = 0;
+        for (PayrollResult result : results) {
+            total += result.getTotalDeductions();
+        }
+        return total;
+    }
+
+    // GET Total Net Salary of the run
+    public long getTotalNetSalary() {
+        long total = 0;
+        for (PayrollResult result : results) {
+            total += result.getNetSalary();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/*
+ * Class: Permission
+ * Description: The actions a role may be granted. Employee subclasses decide
+ *              them through their can* methods; of(employee) turns those
+ *              answers into a set once, at login.
+ */
+
+public enum Permission {
+
+    MANAGE_EMPLOYEES,
+    PROCESS_PAYROLL,
+    RESET_PASSWORD;
+
+    // Unmodifiable set of the permissions the employee's role grants
+    public static Set<Permission> of(Employee employee) {
+
+        EnumSet<Permission> granted = EnumSet.noneOf(Permission.class);
+
+        if (employee.canManageEmployees()) granted.add(MANAGE_EMPLOYEES);
+        if (employee.canProcessPayroll())  granted.add(PROCESS_PAYROLL);
+        if (employee.canResetPassword())   granted.add(RESET_PASSWORD);
+
+        return Collections.unmodifiableSet(granted);
+    }
+}
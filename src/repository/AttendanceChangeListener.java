@@ -0,0 +1,30 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.time.LocalDate;
+
+/*
+ * Interface: AttendanceChangeListener
+ * Description: Notified by AttendanceRepository when attendance rows change,
+ *              so anything derived from hours worked (such as cached payroll
+ *              results) can be dropped for just the affected employee and
+ *              dates.
+ *
+ *              Called on the thread that made the change, after the hours
+ *              ledger has been updated, while the repository lock is still
+ *              held. Listeners should return quickly.
+ */
+
+public interface AttendanceChangeListener {
+
+    // A row for this employee and date was recorded
+    void attendanceRecorded(int employeeId, LocalDate date);
+
+    // The whole attendance file was re-read; any employee may have changed
+    void attendanceReloaded();
+}
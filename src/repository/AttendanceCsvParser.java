@@ -0,0 +1,225 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * Class: AttendanceCsvParser
+ * Description: Memory-mapped parser for the attendance CSV format
+ *
+ *                  Employee #,Last Name,First Name,Date,Log In,Log Out
+ *                  10001,Garcia,Manuel III,06/03/2024,8:59,18:31
+ *
+ *              The file is mapped with FileChannel.map and each row is decoded
+ *              straight from bytes into primitives: the employee ID as an int,
+ *              the MM/dd/yyyy date as an epoch-day int and the H:mm times as
+ *              minute-of-day shorts. No String, String[], LocalDate or
+ *              LocalTime is created per row.
+ *
+ *              Malformed rows are skipped, the same as the previous
+ *              split-based reader did.
+ */
+
+final class AttendanceCsvParser {
+
+    // Receives one parsed row; called once per valid line, in file order
+    interface RowHandler {
+        void onRow(int employeeId, int epochDay, short minuteIn, short minuteOut);
+    }
+
+    // Largest region mapped at once (files above this are parsed in chunks)
+    private static final long MAX_CHUNK = 1L << 30;
+
+    private AttendanceCsvParser() {
+    }
+
+    // =========================
+    // PARSE FILE
+    // =========================
+
+    // Parses every data row of the file (header skipped); returns rows accepted
+    static int parse(Path path, RowHandler handler) throws IOException {
+
+        int rows = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            long position = 0;
+            boolean headerSkipped = false;
+
+            while (position < size) {
+
+                long length = Math.min(MAX_CHUNK, size - position);
+                boolean lastChunk = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int limit = (int) length;
+                int lineStart = 0;
+
+                while (lineStart < limit) {
+
+                    int lineEnd = indexOf(buffer, (byte) '\n', lineStart, limit);
+                    if (lineEnd < 0) {
+                        if (!lastChunk) break;   // finish this line in the next chunk
+                        lineEnd = limit;
+                    }
+
+                    if (!headerSkipped) {
+                        headerSkipped = true;
+                    } else if (parseLine(buffer, lineStart, lineEnd, handler)) {
+                        rows++;
+                    }
+
+                    lineStart = lineEnd + 1;
+                }
+
+                if (lineStart == 0 && !lastChunk) {
+                    throw new IOException("Attendance line longer than " + MAX_CHUNK + " bytes");
+                }
+
+                position += Math.min(lineStart, limit);
+            }
+        }
+
+        return rows;
+    }
+
+    // =========================
+    // PARSE LINE
+    // =========================
+
+    // Decodes one line [start, end) and passes it to the handler;
+    // returns false if the row is malformed
+    private static boolean parseLine(MappedByteBuffer buf, int start, int end, RowHandler handler) {
+
+        // Trim trailing CR of CRLF line endings
+        if (end > start && buf.get(end - 1) == '\r') {
+            end--;
+        }
+        if (end <= start) return false;
+
+        int pos = skipSpaces(buf, start, end);
+
+        // Employee #
+        int employeeId = 0;
+        int digits = 0;
+        while (pos < end && isDigit(buf.get(pos))) {
+            employeeId = employeeId * 10 + (buf.get(pos) - '0');
+            pos++;
+            digits++;
+        }
+        if (digits == 0 || digits > 9) return false;
+
+        // Skip to the Date field (past Employee #, Last Name, First Name)
+        for (int field = 0; field < 3; field++) {
+            pos = nextField(buf, pos, end);
+            if (pos < 0) return false;
+        }
+
+        // Date MM/dd/yyyy
+        pos = skipSpaces(buf, pos, end);
+        if (pos + 10 > end
+                || buf.get(pos + 2) != '/' || buf.get(pos + 5) != '/') return false;
+
+        int month = twoDigits(buf, pos);
+        int day = twoDigits(buf, pos + 3);
+        int century = twoDigits(buf, pos + 6);
+        int yearOfCentury = twoDigits(buf, pos + 8);
+        if (century < 0 || yearOfCentury < 0) return false;
+
+        int year = century * 100 + yearOfCentury;
+        if (month < 1 || month > 12 || day < 1 || day > EpochDays.daysInMonth(year, month)) {
+            return false;
+        }
+        int epochDay = EpochDays.of(year, month, day);
+
+        // Log In H:mm
+        pos = nextField(buf, pos + 10, end);
+        if (pos < 0) return false;
+        int minuteIn = parseTime(buf, skipSpaces(buf, pos, end), end);
+        if (minuteIn < 0) return false;
+
+        // Log Out H:mm
+        pos = nextField(buf, pos, end);
+        if (pos < 0) return false;
+        int minuteOut = parseTime(buf, skipSpaces(buf, pos, end), end);
+        if (minuteOut < 0) return false;
+
+        handler.onRow(employeeId, epochDay, (short) minuteIn, (short) minuteOut);
+        return true;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Parses H:mm or HH:mm (followed by space, comma or end); -1 if invalid
+    private static int parseTime(MappedByteBuffer buf, int pos, int end) {
+
+        int hour = 0;
+        int digits = 0;
+        while (pos < end && isDigit(buf.get(pos)) && digits < 2) {
+            hour = hour * 10 + (buf.get(pos) - '0');
+            pos++;
+            digits++;
+        }
+        if (digits == 0 || pos + 3 > end || buf.get(pos) != ':') return -1;
+
+        int minute = twoDigits(buf, pos + 1);
+        if (hour > 23 || minute < 0 || minute > 59) return -1;
+
+        pos += 3;
+        if (pos < end && buf.get(pos) != ',' && buf.get(pos) != ' ') return -1;
+
+        return hour * 60 + minute;
+    }
+
+    // Position just after the next unquoted comma, or -1 if none
+    private static int nextField(MappedByteBuffer buf, int pos, int end) {
+
+        boolean inQuotes = false;
+        while (pos < end) {
+            byte b = buf.get(pos++);
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (b == ',' && !inQuotes) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(MappedByteBuffer buf, byte target, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buf.get(i) == target) return i;
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(MappedByteBuffer buf, int pos, int end) {
+        while (pos < end && buf.get(pos) == ' ') pos++;
+        return pos;
+    }
+
+    // Two ASCII digits as an int, or -1 if either is not a digit
+    private static int twoDigits(MappedByteBuffer buf, int pos) {
+        byte tens = buf.get(pos);
+        byte ones = buf.get(pos + 1);
+        if (!isDigit(tens) || !isDigit(ones)) return -1;
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -6,73 +6,347 @@
 
 package repository;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import model.AttendanceRecord;
+import model.Employee;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Class: AttendanceRepository
+ * Description: Handles retrieval of attendance records from CSV storage.
+ *
+ *              The CSV file is read once (on first use), through the
+ *              memory-mapped AttendanceCsvParser, into a columnar
+ *              AttendanceStore: primitive arrays sorted by employee and date
+ *              with per-employee offsets, used to list individual records.
+ *
+ *              Hour totals come from an HoursLedger built alongside the store:
+ *              per-employee cumulative minutes indexed by day, so any
+ *              pay-period total is two array reads and a subtraction.
+ *              recordAttendance appends a row to the CSV file and updates the
+ *              ledger in place, without reloading.
+ *
+ *              Registered AttendanceChangeListeners are told about each
+ *              recorded row and each reload.
+ *
+ * OOP PRINCIPLES APPLIED:
+ *
+ * 1. ABSTRACTION
+ *    - Encapsulates all CSV reading and indexing logic.
+ *
+ * 2. ENCAPSULATION
+ *    - The attendance store is private and never exposed for modification.
+ */
 
 public class AttendanceRepository {
 
     private static final String FILE_PATH = "src/resources/attendance_record.csv";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("H:mm");
+
+    private final String filePath;
+
+    // Built once, then read-only (replaced as a whole by reload)
+    private volatile AttendanceStore store;
+
+    // Built with the store, then updated by recordAttendance
+    private volatile HoursLedger ledger;
+
+    // Rows recorded since the store was loaded (guarded by this)
+    private final List<AttendanceRecord> recordedRows = new ArrayList<>();
+
+    private final List<AttendanceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    public AttendanceRepository() {
+        this(FILE_PATH);
+    }
 
-    private final DateTimeFormatter csvDateFormat = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-    private final DateTimeFormatter csvTimeFormat = DateTimeFormatter.ofPattern("H:mm"); // supports 8:30
+    public AttendanceRepository(String filePath) {
+        this.filePath = filePath;
+    }
+
+    // =========================
+    // QUERIES
+    // =========================
 
     // Returns total hours worked within the date range for one employee
     public double getHoursWorked(int employeeId, LocalDate start, LocalDate end) {
 
-        double totalHours = 0.0;
+        if (start == null || end == null) {
+            return 0.0;
+        }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
+        return getHoursWorked(employeeId, (int) start.toEpochDay(), (int) end.toEpochDay());
+    }
 
-            br.readLine(); // skip header
+    // Returns total hours worked between two epoch days (inclusive) for one employee
+    public double getHoursWorked(int employeeId, int startDay, int endDay) {
 
-            String line;
-            while ((line = br.readLine()) != null) {
+        if (endDay < startDay) {
+            return 0.0;
+        }
 
-                String[] data = line.split(",");
-                if (data.length < 6) continue;
+        return getLedger().minutesBetween(employeeId, startDay, endDay) / 60.0;
+    }
 
-                int id;
-                try {
-                    id = Integer.parseInt(data[0].trim());
-                } catch (NumberFormatException e) {
-                    continue;
-                }
+    // Returns total hours worked within the date range for every employee
+    public Map<Integer, Double> getHoursWorkedByEmployee(LocalDate start, LocalDate end) {
+
+        if (start == null || end == null) {
+            return new HashMap<>();
+        }
 
-                if (id != employeeId) continue;
+        return getHoursWorkedByEmployee((int) start.toEpochDay(), (int) end.toEpochDay());
+    }
 
-                LocalDate date;
-                try {
-                    date = LocalDate.parse(data[3].trim(), csvDateFormat);
-                } catch (Exception e) {
-                    continue;
-                }
+    // Returns total hours worked between two epoch days (inclusive) for every employee
+    public Map<Integer, Double> getHoursWorkedByEmployee(int startDay, int endDay) {
 
-                if (date.isBefore(start) || date.isAfter(end)) continue;
+        HoursLedger hours = getLedger();
 
-                LocalTime timeIn;
-                LocalTime timeOut;
-                try {
-                    timeIn = LocalTime.parse(data[4].trim(), csvTimeFormat);
-                    timeOut = LocalTime.parse(data[5].trim(), csvTimeFormat);
-                } catch (Exception e) {
-                    continue;
+        if (endDay < startDay) {
+            return new HashMap<>();
+        }
+
+        return hours.hoursByEmployee(startDay, endDay);
+    }
+
+    // Returns the earliest attendance date, or null if there are no rows
+    public LocalDate getFirstDate() {
+        int day = getLedger().firstDay();
+        return (day == Integer.MAX_VALUE) ? null : LocalDate.ofEpochDay(day);
+    }
+
+    // Returns the latest attendance date, or null if there are no rows
+    public LocalDate getLastDate() {
+        int day = getLedger().lastDay();
+        return (day == Integer.MIN_VALUE) ? null : LocalDate.ofEpochDay(day);
+    }
+
+    // Returns the attendance records of one employee within the date range (inclusive).
+    // Records are created on demand from the columnar store.
+    public List<AttendanceRecord> getRecords(int employeeId, LocalDate start, LocalDate end) {
+
+        if (start == null || end == null || end.isBefore(start)) {
+            return Collections.emptyList();
+        }
+
+        AttendanceStore attendance = getStore();
+        int ordinal = attendance.ordinalOf(employeeId);
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        if (ordinal >= 0) {
+            int endDay = (int) end.toEpochDay();
+            int endRow = attendance.endRow(ordinal);
+
+            for (int row = attendance.firstRow(ordinal, (int) start.toEpochDay());
+                 row < endRow && attendance.epochDayAt(row) <= endDay;
+                 row++) {
+
+                records.add(new AttendanceRecord(employeeId,
+                        LocalDate.ofEpochDay(attendance.epochDayAt(row)),
+                        LocalTime.ofSecondOfDay(attendance.minuteInAt(row) * 60L),
+                        LocalTime.ofSecondOfDay(attendance.minuteOutAt(row) * 60L)));
+            }
+        }
+
+        // Rows recorded since loading are not in the store yet
+        synchronized (this) {
+            boolean added = false;
+            for (AttendanceRecord record : recordedRows) {
+                if (record.getEmployeeId() == employeeId
+                        && !record.getDate().isBefore(start) && !record.getDate().isAfter(end)) {
+                    records.add(record);
+                    added = true;
                 }
+            }
+            if (added) {
+                records.sort(Comparator.comparing(AttendanceRecord::getDate));
+            }
+        }
 
-                double hours = (timeOut.toSecondOfDay() - timeIn.toSecondOfDay()) / 3600.0;
-                if (hours < 0) continue;
+        return records;
+    }
+
+    // =========================
+    // RECORD ATTENDANCE
+    // =========================
+
+    // Appends one attendance row to the CSV file and adds its minutes to the
+    // hours ledger. Returns false if the row is invalid or could not be saved.
+    public synchronized boolean recordAttendance(Employee employee, LocalDate date,
+                                                 LocalTime timeIn, LocalTime timeOut) {
 
-                totalHours += hours;
+        if (employee == null || date == null || timeIn == null || timeOut == null) {
+            return false;
+        }
+
+        // Minute precision, the same as the CSV file
+        int minuteIn = timeIn.getHour() * 60 + timeIn.getMinute();
+        int minuteOut = timeOut.getHour() * 60 + timeOut.getMinute();
+        if (minuteOut < minuteIn) {
+            return false;
+        }
+
+        HoursLedger hours = getLedger();
+
+        String line = employee.getEmployeeId() + ","
+                + csvText(employee.getLastName()) + ","
+                + csvText(employee.getFirstName()) + ","
+                + date.format(DATE_FORMAT) + ","
+                + timeIn.format(TIME_FORMAT) + ","
+                + timeOut.format(TIME_FORMAT);
+
+        try {
+            appendLine(Paths.get(filePath), line);
+
+        } catch (IOException e) {
+            System.out.println("Error saving attendance: " + e.getMessage());
+            return false;
+        }
+
+        hours.add(employee.getEmployeeId(), (int) date.toEpochDay(), minuteOut - minuteIn);
+        recordedRows.add(new AttendanceRecord(employee.getEmployeeId(), date,
+                LocalTime.of(timeIn.getHour(), timeIn.getMinute()),
+                LocalTime.of(timeOut.getHour(), timeOut.getMinute())));
+
+        for (AttendanceChangeListener listener : listeners) {
+            listener.attendanceRecorded(employee.getEmployeeId(), date);
+        }
+        return true;
+    }
+
+    // =========================
+    // CHANGE LISTENERS
+    // =========================
+
+    public void addChangeListener(AttendanceChangeListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeChangeListener(AttendanceChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // =========================
+    // LOAD ATTENDANCE
+    // =========================
+
+    // Re-reads the CSV file, replacing the current store and ledger
+    public synchronized void reload() {
+        load();
+        for (AttendanceChangeListener listener : listeners) {
+            listener.attendanceReloaded();
+        }
+    }
+
+    // Returns the ledger, loading it on first use
+    private HoursLedger getLedger() {
+        getStore();
+        return ledger;
+    }
+
+    // Returns the store, loading it on first use
+    private AttendanceStore getStore() {
+
+        AttendanceStore attendance = store;
+        if (attendance != null) {
+            return attendance;
+        }
+
+        synchronized (this) {
+            if (store == null) {
+                load();
             }
+            return store;
+        }
+    }
+
+    // Ledger is assigned before the store, so a reader that sees the store sees it
+    private void load() {
+
+        AttendanceStore attendance = loadAttendance();
+        ledger = HoursLedger.from(attendance);
+        recordedRows.clear();
+        store = attendance;
+    }
+
+    private AttendanceStore loadAttendance() {
+
+        AttendanceStore.Builder builder = new AttendanceStore.Builder();
+
+        try {
+            AttendanceCsvParser.parse(Paths.get(filePath), (employeeId, epochDay, minuteIn, minuteOut) -> {
+                if (minuteOut >= minuteIn) { // skip negative hours
+                    builder.add(employeeId, epochDay, minuteIn, minuteOut);
+                }
+            });
 
         } catch (IOException e) {
-            return 0.0;
+            System.out.println("Error loading attendance: " + e.getMessage());
         }
 
-        return totalHours;
+        return builder.build();
     }
-}
 
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Appends a line, first ending the last line if the file has no trailing newline
+    private void appendLine(Path path, String line) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+
+            long size = channel.size();
+            boolean endsWithNewline = true;
+
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, size - 1);
+                endsWithNewline = last.get(0) == '\n';
+            }
+
+            String text = (endsWithNewline ? "" : LINE_SEPARATOR) + line + LINE_SEPARATOR;
+            ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+
+            channel.position(size);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    // Quotes a name that contains a comma
+    private String csvText(String value) {
+
+        String text = (value == null) ? "" : value.replace("\"", "").trim();
+        return text.indexOf(',') >= 0 ? "\"" + text + "\"" : text;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.util.Arrays;
+
+/*
+ * Class: AttendanceStore
+ * Description: Read-only, column-oriented attendance table.
+ *
+ *              Each attendance row is spread across four primitive arrays
+ *              (employee ID, epoch day, minute in, minute out), sorted by
+ *              (employee, day). A per-employee offset table marks where each
+ *              employee's rows start and end, so a pay-period total is a
+ *              binary search followed by a tight loop over contiguous ints and
+ *              shorts: 12 bytes per row, no objects and no boxing.
+ *
+ *              Instances are immutable once built and safe to share between
+ *              threads. Use AttendanceStore.Builder to create one.
+ */
+
+final class AttendanceStore {
+
+    // Columns, sorted by (employee, day); rows of one employee are contiguous
+    private final int[] employeeId;
+    private final int[] epochDay;
+    private final short[] minuteIn;
+    private final short[] minuteOut;
+
+    // employees[k] owns rows [offsets[k], offsets[k + 1]); employees is sorted
+    private final int[] employees;
+    private final int[] offsets;
+    private final IntIntHashMap ordinalById;
+
+    private AttendanceStore(int[] employeeId, int[] epochDay, short[] minuteIn, short[] minuteOut,
+                            int[] employees, int[] offsets, IntIntHashMap ordinalById) {
+        this.employeeId = employeeId;
+        this.epochDay = epochDay;
+        this.minuteIn = minuteIn;
+        this.minuteOut = minuteOut;
+        this.employees = employees;
+        this.offsets = offsets;
+        this.ordinalById = ordinalById;
+    }
+
+    // =========================
+    // QUERIES
+    // =========================
+
+    // Number of attendance rows
+    int size() {
+        return epochDay.length;
+    }
+
+    // Number of distinct employees
+    int employeeCount() {
+        return employees.length;
+    }
+
+    // Employee ID at ordinal k (ordinals follow ascending employee ID)
+    int employeeAt(int ordinal) {
+        return employees[ordinal];
+    }
+
+    // Ordinal of the employee, or -1 if the employee has no rows
+    int ordinalOf(int id) {
+        return ordinalById.getOrDefault(id, -1);
+    }
+
+    // First row of the employee dated on or after startDay
+    int firstRow(int ordinal, int startDay) {
+        return lowerBound(offsets[ordinal], offsets[ordinal + 1], startDay);
+    }
+
+    // One past the last row of the employee
+    int endRow(int ordinal) {
+        return offsets[ordinal + 1];
+    }
+
+    int employeeIdAt(int row) {
+        return employeeId[row];
+    }
+
+    int epochDayAt(int row) {
+        return epochDay[row];
+    }
+
+    short minuteInAt(int row) {
+        return minuteIn[row];
+    }
+
+    short minuteOutAt(int row) {
+        return minuteOut[row];
+    }
+
+    // Total minutes worked by the employee between startDay and endDay inclusive
+    long sumMinutes(int ordinal, int startDay, int endDay) {
+
+        long total = 0;
+        int end = offsets[ordinal + 1];
+
+        for (int row = firstRow(ordinal, startDay); row < end && epochDay[row] <= endDay; row++) {
+            total += minuteOut[row] - minuteIn[row];
+        }
+
+        return total;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private int lowerBound(int from, int to, int day) {
+
+        int low = from;
+        int high = to;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDay[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    // =========================
+    // BUILDER
+    // =========================
+
+    /*
+     * Collects rows in file order (as an AttendanceCsvParser.RowHandler),
+     * then build() groups them by employee with a counting sort and orders
+     * each employee's rows by day. Rows of the same day keep file order.
+     */
+    static final class Builder implements AttendanceCsvParser.RowHandler {
+
+        private int[] ids = new int[1024];
+        private int[] days = new int[1024];
+        private short[] ins = new short[1024];
+        private short[] outs = new short[1024];
+        private int size;
+
+        @Override
+        public void onRow(int employeeId, int epochDay, short minuteIn, short minuteOut) {
+            add(employeeId, epochDay, minuteIn, minuteOut);
+        }
+
+        void add(int employeeId, int epochDay, short minuteIn, short minuteOut) {
+
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                days = Arrays.copyOf(days, capacity);
+                ins = Arrays.copyOf(ins, capacity);
+                outs = Arrays.copyOf(outs, capacity);
+            }
+
+            ids[size] = employeeId;
+            days[size] = epochDay;
+            ins[size] = minuteIn;
+            outs[size] = minuteOut;
+            size++;
+        }
+
+        AttendanceStore build() {
+
+            // Distinct employees, ascending
+            int[] distinct = Arrays.copyOf(ids, size);
+            Arrays.sort(distinct);
+            int count = 0;
+            for (int i = 0; i < distinct.length; i++) {
+                if (i == 0 || distinct[i] != distinct[i - 1]) {
+                    distinct[count++] = distinct[i];
+                }
+            }
+            int[] employees = Arrays.copyOf(distinct, count);
+
+            IntIntHashMap ordinalById = new IntIntHashMap(count);
+            for (int k = 0; k < count; k++) {
+                ordinalById.put(employees[k], k);
+            }
+
+            // Counting sort by employee (stable)
+            int[] offsets = new int[count + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[ordinalById.getOrDefault(ids[i], 0) + 1]++;
+            }
+            for (int k = 0; k < count; k++) {
+                offsets[k + 1] += offsets[k];
+            }
+
+            int[] sortedIds = new int[size];
+            int[] sortedDays = new int[size];
+            short[] sortedIns = new short[size];
+            short[] sortedOuts = new short[size];
+            int[] next = Arrays.copyOf(offsets, count);
+
+            for (int i = 0; i < size; i++) {
+                int row = next[ordinalById.getOrDefault(ids[i], 0)]++;
+                sortedIds[row] = ids[i];
+                sortedDays[row] = days[i];
+                sortedIns[row] = ins[i];
+                sortedOuts[row] = outs[i];
+            }
+
+            // Order each employee's rows by day (usually already in order)
+            for (int k = 0; k < count; k++) {
+                sortByDay(sortedDays, sortedIns, sortedOuts, offsets[k], offsets[k + 1]);
+            }
+
+            return new AttendanceStore(sortedIds, sortedDays, sortedIns, sortedOuts,
+                    employees, offsets, ordinalById);
+        }
+
+        // Stable sort of rows [from, to) by day using packed (day, position) keys
+        private static void sortByDay(int[] days, short[] ins, short[] outs, int from, int to) {
+
+            boolean sorted = true;
+            for (int i = from + 1; i < to && sorted; i++) {
+                sorted = days[i - 1] <= days[i];
+            }
+            if (sorted) return;
+
+            int length = to - from;
+            long[] keys = new long[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = ((long) days[from + i] << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            int[] dayCopy = Arrays.copyOfRange(days, from, to);
+            short[] inCopy = Arrays.copyOfRange(ins, from, to);
+            short[] outCopy = Arrays.copyOfRange(outs, from, to);
+
+            for (int i = 0; i < length; i++) {
+                int source = (int) keys[i];
+                days[from + i] = dayCopy[source];
+                ins[from + i] = inCopy[source];
+                outs[from + i] = outCopy[source];
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import model.Credential;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Class: CredentialRepository
+ * Description: Stores the hashed passwords (Credential records) of employees
+ *              in a CSV file next to the employee roster:
+ *
+ *                  Employee #,Iterations,Salt,Hash
+ *                  10001,310000,<base64 salt>,<base64 hash>
+ *
+ *              Employees without a row have not been migrated yet and still
+ *              log in with their birthday (see AuthenticationService).
+ *
+ *              Changes rewrite the whole file to a temp file, force it to disk
+ *              and rename it over the old one, so a crash never leaves a
+ *              half-written credential store. A missing file is an empty
+ *              store.
+ */
+
+public class CredentialRepository {
+
+    private static final String FILE_PATH = "src/resources/credentials.csv";
+    private static final String CSV_HEADER = "Employee #,Iterations,Salt,Hash";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final String filePath;
+    private final Map<Integer, Credential> credentials = new HashMap<>();
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    public CredentialRepository() {
+        this(FILE_PATH);
+    }
+
+    public CredentialRepository(String filePath) {
+        this.filePath = filePath;
+        loadCredentials();
+    }
+
+    // =========================
+    // FIND / SAVE / REMOVE
+    // =========================
+
+    // Returns the stored credential, or null if the employee has none
+    public synchronized Credential findById(int employeeId) {
+        return credentials.get(employeeId);
+    }
+
+    // Adds or replaces one credential and writes the file
+    public synchronized boolean save(Credential credential) {
+        return saveAll(List.of(credential));
+    }
+
+    // Adds or replaces many credentials with a single file write.
+    // On failure nothing changes in memory either.
+    public synchronized boolean saveAll(Collection<Credential> changed) {
+
+        Map<Integer, Credential> previous = new HashMap<>();
+        for (Credential credential : changed) {
+            Credential old = credentials.put(credential.getEmployeeId(), credential);
+            previous.putIfAbsent(credential.getEmployeeId(), old);
+        }
+
+        if (writeCredentials()) {
+            return true;
+        }
+
+        for (Map.Entry<Integer, Credential> entry : previous.entrySet()) {
+            if (entry.getValue() == null) {
+                credentials.remove(entry.getKey());
+            } else {
+                credentials.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    // Removes the employee's credential, if any, and writes the file.
+    // On failure the credential is kept in memory too.
+    public synchronized boolean remove(int employeeId) {
+
+        Credential old = credentials.remove(employeeId);
+        if (old == null || writeCredentials()) {
+            return true;
+        }
+
+        credentials.put(employeeId, old);
+        return false;
+    }
+
+    // GET Number of stored credentials
+    public synchronized int size() {
+        return credentials.size();
+    }
+
+    // =========================
+    // LOAD CREDENTIALS
+    // =========================
+
+    private void loadCredentials() {
+
+        try (BufferedReader br = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+
+            String line;
+            br.readLine(); // Skip header
+
+            while ((line = br.readLine()) != null) {
+                Credential credential = parseCredential(line);
+                if (credential != null) {
+                    credentials.put(credential.getEmployeeId(), credential);
+                }
+            }
+
+        } catch (NoSuchFileException e) {
+            // nothing migrated yet
+        } catch (IOException e) {
+            System.out.println("Error loading credentials: " + e.getMessage());
+        }
+    }
+
+    // Returns null for malformed rows
+    private Credential parseCredential(String line) {
+
+        String[] data = line.split(",");
+        if (data.length != 4) return null;
+
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            return new Credential(Integer.parseInt(data[0].trim()),
+                    Integer.parseInt(data[1].trim()),
+                    decoder.decode(data[2].trim()),
+                    decoder.decode(data[3].trim()));
+        } catch (IllegalArgumentException e) {   // also NumberFormatException
+            return null;
+        }
+    }
+
+    // =========================
+    // WRITE CREDENTIALS
+    // =========================
+
+    private boolean writeCredentials() {
+
+        List<Credential> sorted = new ArrayList<>(credentials.values());
+        sorted.sort((a, b) -> Integer.compare(a.getEmployeeId(), b.getEmployeeId()));
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        StringBuilder sb = new StringBuilder(CSV_HEADER).append(LINE_SEPARATOR);
+        for (Credential credential : sorted) {
+            sb.append(credential.getEmployeeId()).append(',')
+              .append(credential.getIterations()).append(',')
+              .append(encoder.encodeToString(credential.getSalt())).append(',')
+              .append(encoder.encodeToString(credential.getHash()))
+              .append(LINE_SEPARATOR);
+        }
+
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+
+                ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+
+        } catch (IOException e) {
+            System.out.println("Error saving credentials: " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // temp file is overwritten on the next save anyway
+            }
+            return false;
+        }
+    }
+}
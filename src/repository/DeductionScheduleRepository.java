@@ -0,0 +1,194 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import model.BracketTable;
+import model.DeductionSchedule;
+import model.Money;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Class: DeductionScheduleRepository
+ * Description: Loads the versioned statutory deduction tables.
+ *
+ *              Each version is one CSV file in the deductions directory,
+ *              named after the date it takes effect (2023-01-01.csv):
+ *
+ *                  Schedule,Over,Base,Rate,Minimum,Maximum
+ *                  SSS,0,0,0.045,,
+ *                  SSS,25000,1125,0,,
+ *                  ...
+ *
+ *              with one row per bracket of the SSS, PHILHEALTH, PAGIBIG and
+ *              TAX schedules (see BracketTable). Amounts are in pesos and
+ *              rates are decimal fractions; both are read exactly into
+ *              centavos and parts per million. Blank Minimum/Maximum mean
+ *              no limit. All versions are compiled at construction; a
+ *              missing schedule or malformed row stops the load, since
+ *              payroll must never run on a partly read table.
+ *
+ *              findEffective picks the version in force on a date by binary
+ *              search over the effective dates.
+ */
+
+public class DeductionScheduleRepository {
+
+    private static final String DIRECTORY = "src/resources/deductions";
+    private static final String[] SCHEDULES = {"SSS", "PHILHEALTH", "PAGIBIG", "TAX"};
+
+    // Sorted by effective date; effectiveDays[i] belongs to schedules[i]
+    private final long[] effectiveDays;
+    private final DeductionSchedule[] schedules;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    public DeductionScheduleRepository() {
+        this(DIRECTORY);
+    }
+
+    public DeductionScheduleRepository(String directory) {
+
+        List<DeductionSchedule> loaded = loadSchedules(Paths.get(directory));
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("No deduction schedules found in " + directory);
+        }
+        loaded.sort((a, b) -> a.getEffectiveDate().compareTo(b.getEffectiveDate()));
+
+        this.schedules = loaded.toArray(new DeductionSchedule[0]);
+        this.effectiveDays = new long[schedules.length];
+        for (int i = 0; i < schedules.length; i++) {
+            effectiveDays[i] = schedules[i].getEffectiveDate().toEpochDay();
+        }
+    }
+
+    // =========================
+    // FIND
+    // =========================
+
+    // Schedule in force on the date, or null if the date is before the
+    // first version
+    public DeductionSchedule findEffective(LocalDate date) {
+
+        int found = Arrays.binarySearch(effectiveDays, date.toEpochDay());
+        int i = (found >= 0) ? found : -found - 2;   // last version not after the date
+        return (i < 0) ? null : schedules[i];
+    }
+
+    // GET Most recent schedule
+    public DeductionSchedule getLatest() {
+        return schedules[schedules.length - 1];
+    }
+
+    // GET Number of versions loaded
+    public int size() {
+        return schedules.length;
+    }
+
+    // =========================
+    // LOAD SCHEDULES
+    // =========================
+
+    private List<DeductionSchedule> loadSchedules(Path directory) {
+
+        List<DeductionSchedule> loaded = new ArrayList<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path file : files) {
+                loaded.add(loadSchedule(file));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error loading deduction schedules: " + e.getMessage(), e);
+        }
+        return loaded;
+    }
+
+    private DeductionSchedule loadSchedule(Path file) throws IOException {
+
+        String name = file.getFileName().toString();
+        LocalDate effectiveDate;
+        try {
+            effectiveDate = LocalDate.parse(name.substring(0, name.length() - ".csv".length()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("Deduction file must be named yyyy-MM-dd.csv: " + file);
+        }
+
+        Map<String, List<long[]>> rows = new HashMap<>();
+
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+
+            String line;
+            br.readLine(); // Skip header
+
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+
+                String[] data = line.split(",", -1);
+                if (data.length != 6) {
+                    throw new IllegalStateException("Malformed deduction row in " + file + ": " + line);
+                }
+                rows.computeIfAbsent(data[0].trim().toUpperCase(), k -> new ArrayList<>())
+                    .add(parseRow(data, file, line));
+            }
+        }
+
+        BracketTable[] tables = new BracketTable[SCHEDULES.length];
+        for (int s = 0; s < SCHEDULES.length; s++) {
+            List<long[]> brackets = rows.get(SCHEDULES[s]);
+            if (brackets == null) {
+                throw new IllegalStateException("Missing " + SCHEDULES[s] + " schedule in " + file);
+            }
+            tables[s] = compile(brackets);
+        }
+
+        return new DeductionSchedule(effectiveDate, tables[0], tables[1], tables[2], tables[3]);
+    }
+
+    // Over, Base, Rate, Minimum, Maximum
+    private long[] parseRow(String[] data, Path file, String line) {
+        try {
+            return new long[]{
+                    Money.parse(data[1]),
+                    Money.parse(data[2]),
+                    Money.parseRate(data[3]),
+                    data[4].trim().isEmpty() ? 0 : Money.parse(data[4]),
+                    data[5].trim().isEmpty() ? Long.MAX_VALUE : Money.parse(data[5])
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Malformed deduction row in " + file + ": " + line);
+        }
+    }
+
+    private BracketTable compile(List<long[]> brackets) {
+
+        brackets.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        int n = brackets.size();
+        long[][] columns = new long[5][n];
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < 5; c++) {
+                columns[c][i] = brackets.get(i)[c];
+            }
+        }
+        return new BracketTable(columns[0], columns[1], columns[2], columns[3], columns[4]);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import model.Employee;
+
+/*
+ * Interface: EmployeeChangeListener
+ * Description: Notified by EmployeeRepository after a single employee record
+ *              has been added, updated or removed, so views can patch just
+ *              that record instead of re-reading the whole roster.
+ *
+ *              Called on the thread that made the change, after the change
+ *              has been journaled and applied, while the repository lock is
+ *              still held. Listeners should return quickly and must not
+ *              block waiting on another thread that uses the repository.
+ */
+
+public interface EmployeeChangeListener {
+
+    // A new employee was added (it is last in getAllEmployees order)
+    void employeeAdded(Employee employee);
+
+    // The record with this employee's ID was replaced by the given object
+    void employeeUpdated(Employee employee);
+
+    // The employee with this ID was deleted
+    void employeeRemoved(int employeeId);
+}
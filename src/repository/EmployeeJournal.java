@@ -0,0 +1,227 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Class: EmployeeJournal
+ * Description: Append-only write-ahead log of employee mutations.
+ *
+ *              Each entry is one line: "A,<csv row>" (add), "U,<csv row>"
+ *              (update) or "D,<employee id>" (delete). Entries are replayed
+ *              over the CSV snapshot when the repository is loaded.
+ *
+ *              Compaction first "rolls" the active log into a side file
+ *              (<journal>.old) so new mutations keep appending while the
+ *              snapshot is written; the side file is deleted only after the
+ *              snapshot is safely on disk. Replay reads the side file first,
+ *              then the active log. Entries are full-record upserts and
+ *              deletes, so replaying entries already in the snapshot is
+ *              harmless.
+ *
+ *              A crash mid-append can leave a torn last line. Replay skips it,
+ *              and the log is cut back to its last newline before it is
+ *              appended to or rolled, so the next entry never lands on the
+ *              end of the fragment.
+ *
+ *              Not thread-safe; EmployeeRepository synchronizes access.
+ */
+
+final class EmployeeJournal {
+
+    static final char ADD = 'A';
+    static final char UPDATE = 'U';
+    static final char DELETE = 'D';
+
+    private final Path activePath;
+    private final Path rolledPath;
+
+    private FileChannel channel;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    EmployeeJournal(Path activePath) {
+        this.activePath = activePath;
+        this.rolledPath = activePath.resolveSibling(activePath.getFileName() + ".old");
+    }
+
+    // =========================
+    // READ
+    // =========================
+
+    // Returns all complete entries (rolled log first, then active log).
+    // A trailing line without a newline is a torn write and is ignored.
+    List<String> readEntries() throws IOException {
+
+        List<String> entries = new ArrayList<>();
+        readCompleteLines(rolledPath, entries);
+        readCompleteLines(activePath, entries);
+        return entries;
+    }
+
+    // =========================
+    // WRITE
+    // =========================
+
+    // Appends one entry (buffered by the OS until sync() is called)
+    void append(char type, String payload) throws IOException {
+
+        byte[] bytes = (type + "," + payload + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        FileChannel out = open();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    // Forces appended entries to disk
+    void sync() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    // Size in bytes of the active log
+    long size() throws IOException {
+        return (channel != null) ? channel.size()
+                : (Files.exists(activePath) ? Files.size(activePath) : 0L);
+    }
+
+    // =========================
+    // COMPACTION SUPPORT
+    // =========================
+
+    // Moves the active log aside so a snapshot can be written while new
+    // entries go to a fresh active log
+    void roll() throws IOException {
+
+        sync();
+        close();
+
+        if (!Files.exists(activePath)) {
+            return;
+        }
+
+        try (FileChannel active = FileChannel.open(activePath,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            dropTornTail(active);
+        }
+
+        if (Files.exists(rolledPath)) {
+            // A previous compaction did not finish: keep both, oldest first
+            Files.write(rolledPath, Files.readAllBytes(activePath), StandardOpenOption.APPEND);
+            try (FileChannel rolled = FileChannel.open(rolledPath, StandardOpenOption.WRITE)) {
+                rolled.force(true);
+            }
+            Files.delete(activePath);
+        } else {
+            Files.move(activePath, rolledPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    // Discards the rolled log once its entries are part of the snapshot
+    void deleteRolled() throws IOException {
+        Files.deleteIfExists(rolledPath);
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private FileChannel open() throws IOException {
+
+        if (channel == null) {
+            FileChannel opened = FileChannel.open(activePath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                dropTornTail(opened);
+                opened.position(opened.size());
+            } catch (IOException e) {
+                opened.close();
+                throw e;
+            }
+            channel = opened;
+        }
+        return channel;
+    }
+
+    // Cuts the log back to just after its last newline, removing a torn
+    // entry left by a crash mid-append
+    private static void dropTornTail(FileChannel log) throws IOException {
+
+        long end = log.size();
+        ByteBuffer chunk = ByteBuffer.allocate(4096);
+
+        while (end > 0) {
+            int length = (int) Math.min(chunk.capacity(), end);
+            long start = end - length;
+
+            chunk.clear().limit(length);
+            while (chunk.hasRemaining()) {
+                if (log.read(chunk, start + chunk.position()) < 0) {
+                    throw new IOException("Journal shrank while being read");
+                }
+            }
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    truncate(log, start + i + 1);
+                    return;
+                }
+            }
+            end = start;
+        }
+        truncate(log, 0);
+    }
+
+    private static void truncate(FileChannel log, long size) throws IOException {
+        if (log.size() > size) {
+            log.truncate(size);
+            log.force(false);
+        }
+    }
+
+    private void readCompleteLines(Path path, List<String> entries) throws IOException {
+
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+
+        int start = 0;
+        int newline;
+        while ((newline = content.indexOf('\n', start)) >= 0) {
+            if (newline > start) {
+                entries.add(content.substring(start, newline));
+            }
+            start = newline + 1;
+        }
+    }
+}
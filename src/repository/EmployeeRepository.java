@@ -8,8 +8,20 @@ package repository;
 
 import model.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /*
  * Class: EmployeeRepository
@@ -23,154 +35,598 @@ import java.util.List;
  *
  * 2. ENCAPSULATION
  *    - Manages internal employee list privately.
+ *
+ * Mutations are appended to an EmployeeJournal (write-ahead log) rather
+ * than rewriting the CSV; the CSV is rewritten only when the journal is
+ * compacted.
+ *
+ * Employees are kept in insertion order in employeeList. Deleted entries
+ * are left as null slots (compacted once they pile up), and idIndex maps
+ * each employee ID to its slot so lookup, update and delete are O(1).
+ * birthdayIndex holds each employee's birthday as an epoch day, parsed once
+ * when the record is loaded or changed, for the login check.
+ *
+ * Registered EmployeeChangeListeners are told about each add, update and
+ * delete once it has been applied.
  */
 
 public class EmployeeRepository {
 
     private static final String FILE_PATH = "src/resources/employee_record.csv";
 
-    private List<Employee> employeeList;
+    private static final String CSV_HEADER =
+            "Employee #,Last Name,First Name,Birthday,Address,Phone Number,"
+            + "SSS #,Philhealth #,TIN #,Pag-ibig #,Status,Position,Immediate Supervisor,"
+            + "Basic Salary,Rice Subsidy,Phone Allowance,Clothing Allowance,"
+            + "Gross Semi-monthly Rate,Hourly Rate";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    // Hourly rate column = basic salary / (21 working days x 8 hours)
+    private static final long HOURS_PER_MONTH = 168;
+
+    // Minimum number of deleted slots before the list is compacted
+    private static final int COMPACT_THRESHOLD = 32;
+
+    // Journal size that triggers a background snapshot + journal reset
+    private static final long DEFAULT_JOURNAL_THRESHOLD = 256 * 1024;
+
+    private final String filePath;
+    private final long journalThreshold;
+    private final EmployeeJournal journal;
+
+    private List<Employee> employeeList;   // insertion order; null = deleted slot
+    private IntIntHashMap idIndex;         // employee ID -> slot in employeeList
+    private final IntIntHashMap birthdayIndex = new IntIntHashMap(); // employee ID -> epoch day
+    private int deletedSlots;
+
+    // Serializes snapshot writers (background compaction and callers)
+    private final Object snapshotLock = new Object();
+    private ExecutorService compactionExecutor;
+    private boolean compactionScheduled;
+
+    private final List<EmployeeChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     // =========================
-    // CONSTRUCTOR
+    // CONSTRUCTORS
     // =========================
 
     public EmployeeRepository() {
+        this(FILE_PATH);
+    }
+
+    public EmployeeRepository(String filePath) {
+        this(filePath, DEFAULT_JOURNAL_THRESHOLD);
+    }
+
+    public EmployeeRepository(String filePath, long journalThreshold) {
+        this.filePath = filePath;
+        this.journalThreshold = journalThreshold;
+        this.journal = new EmployeeJournal(Paths.get(filePath + ".journal"));
         employeeList = new ArrayList<>();
+        idIndex = new IntIntHashMap();
         loadEmployees();
     }
 
+    // =========================
+    // CREATE EMPLOYEE
+    // =========================
+
+    // Builds an employee of the subclass matching the position's department,
+    // using the same rule as rows read from the CSV file (not yet added).
+    // Money arguments are in centavos.
+    public Employee createEmployee(int id,
+                                   String firstName,
+                                   String lastName,
+                                   String birthday,
+                                   String position,
+                                   long basicSalary,
+                                   long riceSubsidy,
+                                   long phoneAllowance,
+                                   long clothingAllowance,
+                                   EmploymentStatus status) {
+
+        return createEmployeeByRole(id, firstName, lastName, birthday,
+                position, determineDepartment(position), basicSalary,
+                riceSubsidy, phoneAllowance, clothingAllowance, status);
+    }
+
     // =========================
     // ADD EMPLOYEE
     // =========================
 
-    public void addEmployee(Employee employee) {
-        if (employee != null) {
-            employeeList.add(employee);
+    // Returns false if the employee is null, the ID is already taken,
+    // or the change could not be written to the journal
+    public synchronized boolean addEmployee(Employee employee) {
+
+        if (employee == null || idIndex.containsKey(employee.getEmployeeId())) {
+            return false;
+        }
+
+        if (!appendToJournal(EmployeeJournal.ADD, formatEmployee(employee))) {
+            return false;
+        }
+
+        insert(employee);
+        for (EmployeeChangeListener listener : listeners) {
+            listener.employeeAdded(employee);
         }
+        return true;
     }
 
     // =========================
     // UPDATE EMPLOYEE
     // =========================
 
-    public void updateEmployee(Employee updatedEmployee) {
+    // Returns false if the employee is null, the ID is unknown,
+    // or the change could not be written to the journal
+    public synchronized boolean updateEmployee(Employee updatedEmployee) {
 
-        if (updatedEmployee == null) return;
+        if (updatedEmployee == null) return false;
 
-        for (int i = 0; i < employeeList.size(); i++) {
-            if (employeeList.get(i).getEmployeeId() == updatedEmployee.getEmployeeId()) {
-                employeeList.set(i, updatedEmployee);
-                return;
-            }
+        int slot = idIndex.getOrDefault(updatedEmployee.getEmployeeId(), -1);
+        if (slot < 0) return false;
+
+        if (!appendToJournal(EmployeeJournal.UPDATE, formatEmployee(updatedEmployee))) {
+            return false;
+        }
+
+        replace(slot, updatedEmployee);
+        for (EmployeeChangeListener listener : listeners) {
+            listener.employeeUpdated(updatedEmployee);
         }
+        return true;
     }
 
     // =========================
     // DELETE EMPLOYEE
     // =========================
 
-    // Delete by ID
-    public void deleteEmployeeById(int employeeId) {
-        employeeList.removeIf(emp -> emp.getEmployeeId() == employeeId);
+    // Delete by ID. Returns false if the ID is unknown or the change
+    // could not be written to the journal
+    public synchronized boolean deleteEmployeeById(int employeeId) {
+
+        if (!idIndex.containsKey(employeeId)) return false;
+
+        if (!appendToJournal(EmployeeJournal.DELETE, String.valueOf(employeeId))) {
+            return false;
+        }
+
+        remove(employeeId);
+        for (EmployeeChangeListener listener : listeners) {
+            listener.employeeRemoved(employeeId);
+        }
+        return true;
     }
 
     // Overloaded delete (optional flexibility)
-    public void deleteEmployee(Employee employee) {
-        if (employee == null) return;
-        deleteEmployeeById(employee.getEmployeeId());
+    public boolean deleteEmployee(Employee employee) {
+        if (employee == null) return false;
+        return deleteEmployeeById(employee.getEmployeeId());
+    }
+
+    // =========================
+    // CHANGE LISTENERS
+    // =========================
+
+    public void addChangeListener(EmployeeChangeListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeChangeListener(EmployeeChangeListener listener) {
+        listeners.remove(listener);
     }
 
     // =========================
     // LOAD EMPLOYEES
     // =========================
 
-    public void loadEmployees() {
+    // Loads the CSV snapshot, then replays journaled mutations on top of it
+    public synchronized void loadEmployees() {
         employeeList.clear();
+        idIndex.clear();
+        birthdayIndex.clear();
+        deletedSlots = 0;
 
-        try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
 
             String line;
             br.readLine(); // Skip header
 
             while ((line = br.readLine()) != null) {
 
-                List<String> data = splitCSVLine(line);
-                if (data.size() < 19) continue;
-
-                int id = Integer.parseInt(data.get(0));
-                String lastName = data.get(1);
-                String firstName = data.get(2);
-                String birthday = data.get(3);
-                String position = data.get(11);
-
-                String department = determineDepartment(position);
-
-                double basicSalary = Double.parseDouble(data.get(13).replace(",", ""));
-                double riceSubsidy = Double.parseDouble(data.get(14).replace(",", ""));
-                double phoneAllowance = Double.parseDouble(data.get(15).replace(",", ""));
-                double clothingAllowance = Double.parseDouble(data.get(16).replace(",", ""));
-
-                EmploymentStatus status = data.get(10).equalsIgnoreCase("Regular")
-                        ? EmploymentStatus.REGULAR
-                        : EmploymentStatus.PROBATIONARY;
-
-                Employee employee = createEmployeeByRole(
-                        id,
-                        firstName,
-                        lastName,
-                        birthday,
-                        position,
-                        department,
-                        basicSalary,
-                        riceSubsidy,
-                        phoneAllowance,
-                        clothingAllowance,
-                        status
-                );
-
-                employeeList.add(employee);
+                Employee employee = parseEmployee(splitCSVLine(line));
+                if (employee != null && !idIndex.containsKey(employee.getEmployeeId())) {
+                    insert(employee);
+                }
             }
 
         } catch (IOException e) {
             System.out.println("Error loading employees: " + e.getMessage());
         }
+
+        replayJournal();
     }
 
     // =========================
     // SAVE EMPLOYEES
     // =========================
 
-    public void saveEmployees() {
-        // Still placeholder – implement only if required by milestone
-        System.out.println("Save functionality placeholder.");
+    // Makes every journaled mutation durable (one fsync of the small journal
+    // file, not a rewrite of the roster). Once the journal grows past the
+    // threshold, a snapshot is written in the background and the journal reset.
+    public synchronized boolean saveEmployees() {
+
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            System.out.println("Error saving employees: " + e.getMessage());
+            return false;
+        }
+
+        scheduleCompactionIfNeeded();
+        return true;
+    }
+
+    // Writes the roster to the CSV snapshot and clears the journal.
+    // Mutations made while the snapshot is written go to a fresh journal.
+    public boolean compactJournal() {
+
+        synchronized (snapshotLock) {
+
+            List<Employee> snapshot;
+            synchronized (this) {
+                compactionScheduled = false;
+                try {
+                    journal.roll();
+                } catch (IOException e) {
+                    System.out.println("Error compacting employee journal: " + e.getMessage());
+                    return false;
+                }
+                snapshot = getAllEmployees();
+            }
+
+            if (!writeSnapshot(snapshot)) {
+                return false; // rolled journal is kept and replayed on next load
+            }
+
+            synchronized (this) {
+                try {
+                    journal.deleteRolled();
+                } catch (IOException e) {
+                    System.out.println("Error compacting employee journal: " + e.getMessage());
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Writes the roster to a temp file in one buffered write, forces it
+    // to disk, then atomically renames it over the CSV. A crash at any point
+    // leaves either the old file or the new one, never a truncated roster.
+    private boolean writeSnapshot(List<Employee> employees) {
+
+        StringBuilder sb = new StringBuilder(CSV_HEADER).append(LINE_SEPARATOR);
+        for (Employee emp : employees) {
+            sb.append(formatEmployee(emp)).append(LINE_SEPARATOR);
+        }
+
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+
+                ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            syncDirectory(target.getParent());
+            return true;
+
+        } catch (IOException e) {
+            System.out.println("Error saving employees: " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // temp file is overwritten on the next save anyway
+            }
+            return false;
+        }
     }
 
     // =========================
     // FIND BY ID
     // =========================
 
-    public Employee findById(int id) {
-        for (Employee emp : employeeList) {
-            if (emp.getEmployeeId() == id) {
-                return emp;
-            }
-        }
-        return null;
+    public synchronized Employee findById(int id) {
+        int slot = idIndex.getOrDefault(id, -1);
+        return (slot >= 0) ? employeeList.get(slot) : null;
+    }
+
+    // =========================
+    // GET FILE PATH
+    // =========================
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    // =========================
+    // BIRTHDAY CREDENTIAL
+    // =========================
+
+    // Birthday of the employee as an epoch day, or EpochDays.INVALID
+    // if the ID is unknown or its birthday is not a valid MM/dd/yyyy date
+    public synchronized int getBirthdayEpochDay(int id) {
+        return birthdayIndex.getOrDefault(id, EpochDays.INVALID);
     }
 
     // =========================
     // GET ALL EMPLOYEES
     // =========================
 
-    public List<Employee> getAllEmployees() {
-        return new ArrayList<>(employeeList);
+    public synchronized List<Employee> getAllEmployees() {
+
+        List<Employee> employees = new ArrayList<>(employeeList.size() - deletedSlots);
+        for (Employee emp : employeeList) {
+            if (emp != null) {
+                employees.add(emp);
+            }
+        }
+        return employees;
     }
 
     // =========================
     // HELPER METHODS
     // =========================
 
+    // Builds an Employee from one split CSV row; returns null if malformed
+    private Employee parseEmployee(List<String> data) {
+
+        if (data.size() < 19) return null;
+
+        try {
+            int id = Integer.parseInt(data.get(0));
+            String lastName = data.get(1);
+            String firstName = data.get(2);
+            String birthday = data.get(3);
+            String position = data.get(11);
+
+            String department = determineDepartment(position);
+
+            long basicSalary = Money.parse(data.get(13));
+            long riceSubsidy = Money.parse(data.get(14));
+            long phoneAllowance = Money.parse(data.get(15));
+            long clothingAllowance = Money.parse(data.get(16));
+
+            EmploymentStatus status = EmploymentStatus.parse(data.get(10));
+
+            Employee employee = createEmployeeByRole(
+                    id,
+                    firstName,
+                    lastName,
+                    birthday,
+                    position,
+                    department,
+                    basicSalary,
+                    riceSubsidy,
+                    phoneAllowance,
+                    clothingAllowance,
+                    status
+            );
+
+            employee.setAddress(data.get(4));
+            employee.setPhoneNumber(data.get(5));
+            employee.setSssNumber(data.get(6));
+            employee.setPhilHealthNumber(data.get(7));
+            employee.setTinNumber(data.get(8));
+            employee.setPagIbigNumber(data.get(9));
+            employee.setImmediateSupervisor(data.get(12));
+
+            return employee;
+
+        } catch (IllegalArgumentException e) {   // bad number or status
+            return null;
+        }
+    }
+
+    // Formats an Employee as one CSV row in the same layout loadEmployees reads:
+    // text that may contain commas and all money columns are quoted
+    private String formatEmployee(Employee emp) {
+
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(emp.getEmployeeId()).append(',');
+        sb.append(csvText(emp.getLastName())).append(',');
+        sb.append(csvText(emp.getFirstName())).append(',');
+        sb.append(csvText(emp.getBirthday())).append(',');
+        sb.append(csvText(emp.getAddress())).append(',');
+        sb.append(csvText(emp.getPhoneNumber())).append(',');
+        sb.append(csvText(emp.getSssNumber())).append(',');
+        sb.append(csvText(emp.getPhilHealthNumber())).append(',');
+        sb.append(csvText(emp.getTinNumber())).append(',');
+        sb.append(csvText(emp.getPagIbigNumber())).append(',');
+        sb.append(emp.getEmploymentStatus().getLabel()).append(',');
+        sb.append(csvText(emp.getPosition())).append(',');
+        sb.append(csvText(emp.getImmediateSupervisor())).append(',');
+        sb.append('"').append(Money.formatGrouped(emp.getBasicSalary())).append("\",");
+        sb.append('"').append(Money.formatGrouped(emp.getRiceSubsidy())).append("\",");
+        sb.append('"').append(Money.formatGrouped(emp.getPhoneAllowance())).append("\",");
+        sb.append('"').append(Money.formatGrouped(emp.getClothingAllowance())).append("\",");
+        sb.append('"').append(Money.formatGrouped(Money.divide(emp.getBasicSalary(), 2))).append("\",");
+        sb.append(Money.format(Money.divide(emp.getBasicSalary(), HOURS_PER_MONTH)));
+
+        return sb.toString();
+    }
+
+    // Quotes a text value if it contains a comma. splitCSVLine drops every
+    // quote character, so embedded quotes cannot round-trip and are removed.
+    private String csvText(String value) {
+
+        String text = (value == null) ? "" : value.replace("\"", "").trim();
+        return text.indexOf(',') >= 0 ? "\"" + text + "\"" : text;
+    }
+
+    // Forces the rename itself to disk (best effort; not supported on every OS)
+    private void syncDirectory(Path directory) {
+
+        if (directory == null) return;
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directory fsync is unavailable on this platform
+        }
+    }
+
+    // Appends a mutation to the journal; false if it could not be written
+    private boolean appendToJournal(char type, String payload) {
+
+        try {
+            journal.append(type, payload);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error writing employee journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Applies journal entries over the loaded snapshot (no re-journaling)
+    private void replayJournal() {
+
+        List<String> entries;
+        try {
+            entries = journal.readEntries();
+        } catch (IOException e) {
+            System.out.println("Error reading employee journal: " + e.getMessage());
+            return;
+        }
+
+        for (String entry : entries) {
+
+            if (entry.length() < 2 || entry.charAt(1) != ',') continue;
+            String payload = entry.substring(2);
+
+            switch (entry.charAt(0)) {
+
+                case EmployeeJournal.ADD:
+                case EmployeeJournal.UPDATE:
+                    Employee employee = parseEmployee(splitCSVLine(payload));
+                    if (employee == null) break;
+
+                    int slot = idIndex.getOrDefault(employee.getEmployeeId(), -1);
+                    if (slot >= 0) {
+                        replace(slot, employee);
+                    } else {
+                        insert(employee);
+                    }
+                    break;
+
+                case EmployeeJournal.DELETE:
+                    try {
+                        remove(Integer.parseInt(payload.trim()));
+                    } catch (NumberFormatException e) {
+                        // skip corrupt entry
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    // Hands compaction to the background thread once the journal is large
+    private void scheduleCompactionIfNeeded() {
+
+        long size;
+        try {
+            size = journal.size();
+        } catch (IOException e) {
+            return;
+        }
+
+        if (size < journalThreshold || compactionScheduled) {
+            return;
+        }
+
+        if (compactionExecutor == null) {
+            compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-journal-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        compactionScheduled = true;
+        compactionExecutor.execute(this::compactJournal);
+    }
+
+    private void insert(Employee employee) {
+        idIndex.put(employee.getEmployeeId(), employeeList.size());
+        employeeList.add(employee);
+        indexBirthday(employee);
+    }
+
+    private void replace(int slot, Employee employee) {
+        employeeList.set(slot, employee);
+        indexBirthday(employee);
+    }
+
+    // Malformed birthdays get no entry, so that employee cannot log in
+    private void indexBirthday(Employee employee) {
+        int epochDay = EpochDays.parse(employee.getBirthday());
+        if (epochDay == EpochDays.INVALID) {
+            birthdayIndex.remove(employee.getEmployeeId());
+        } else {
+            birthdayIndex.put(employee.getEmployeeId(), epochDay);
+        }
+    }
+
+    private void remove(int employeeId) {
+
+        int slot = idIndex.getOrDefault(employeeId, -1);
+        if (slot < 0) return;
+
+        idIndex.remove(employeeId);
+        birthdayIndex.remove(employeeId);
+        employeeList.set(slot, null);
+        deletedSlots++;
+
+        if (deletedSlots >= COMPACT_THRESHOLD && deletedSlots * 2 >= employeeList.size()) {
+            compactSlots();
+        }
+    }
+
+    // Drops deleted slots and rebuilds the ID index (keeps insertion order)
+    private void compactSlots() {
+
+        List<Employee> live = getAllEmployees();
+
+        employeeList = new ArrayList<>(live);
+        idIndex = new IntIntHashMap(live.size());
+        for (int i = 0; i < live.size(); i++) {
+            idIndex.put(live.get(i).getEmployeeId(), i);
+        }
+        deletedSlots = 0;
+    }
+
     private String determineDepartment(String position) {
 
         if (position.toLowerCase().contains("hr")) {
@@ -194,10 +650,10 @@ public class EmployeeRepository {
                                           String birthday,
                                           String position,
                                           String department,
-                                          double basicSalary,
-                                          double riceSubsidy,
-                                          double phoneAllowance,
-                                          double clothingAllowance,
+                                          long basicSalary,
+                                          long riceSubsidy,
+                                          long phoneAllowance,
+                                          long clothingAllowance,
                                           EmploymentStatus status) {
 
         if (department.equalsIgnoreCase("HR")) {
@@ -0,0 +1,91 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+/*
+ * Class: EpochDays
+ * Description: Converts calendar dates to epoch days (days since 1970-01-01,
+ *              the same value as LocalDate.toEpochDay) without creating
+ *              LocalDate objects or throwing on malformed input.
+ *
+ *              Used for keys that are compared often, such as attendance
+ *              dates and the birthday credentials checked at login.
+ */
+
+public final class EpochDays {
+
+    // Returned by parse for text that is not a valid MM/dd/yyyy date
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    private EpochDays() {
+    }
+
+    // =========================
+    // PARSE MM/dd/yyyy
+    // =========================
+
+    // Epoch day of an exact MM/dd/yyyy date, or INVALID (never throws)
+    public static int parse(CharSequence text) {
+
+        if (text == null || text.length() != 10
+                || text.charAt(2) != '/' || text.charAt(5) != '/') {
+            return INVALID;
+        }
+
+        int month = twoDigits(text, 0);
+        int day = twoDigits(text, 3);
+        int century = twoDigits(text, 6);
+        int yearOfCentury = twoDigits(text, 8);
+        if (month < 0 || day < 0 || century < 0 || yearOfCentury < 0) {
+            return INVALID;
+        }
+
+        int year = century * 100 + yearOfCentury;
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+        return of(year, month, day);
+    }
+
+    // =========================
+    // CALENDAR ARITHMETIC
+    // =========================
+
+    // Days since 1970-01-01 for a valid year/month/day
+    public static int of(int year, int month, int day) {
+        int y = (month <= 2) ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    public static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Two ASCII digits as an int, or -1 if either is not a digit
+    private static int twoDigits(CharSequence text, int pos) {
+        char tens = text.charAt(pos);
+        char ones = text.charAt(pos + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') return -1;
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
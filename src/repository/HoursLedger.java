@@ -0,0 +1,208 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Class: HoursLedger
+ * Description: Prefix-sum table of minutes worked, per employee and per day.
+ *
+ *              For each employee the ledger covers the days from their first
+ *              to their last attendance row. cumulative[i] holds the minutes
+ *              worked on days [baseDay, baseDay + i), so the total for any
+ *              pay period is two array reads and a subtraction, whatever the
+ *              length of the range. Cost is one int per employee per day
+ *              covered.
+ *
+ *              New rows are applied incrementally: a row after the covered
+ *              span extends the array (amortized O(1)), a back-dated row adds
+ *              to the suffix of that employee's array only. Nothing else is
+ *              rebuilt.
+ *
+ *              Methods are synchronized; a lookup holds the lock only for
+ *              the two reads.
+ */
+
+final class HoursLedger {
+
+    private final IntIntHashMap slotById = new IntIntHashMap();
+
+    private int[] employeeIds = new int[16];
+    private int[] baseDays = new int[16];
+    private int[] lengths = new int[16];      // days covered per employee
+    private int[][] cumulative = new int[16][];
+    private int slots;
+
+    // =========================
+    // BUILD
+    // =========================
+
+    // Builds the ledger from every row of the store
+    static HoursLedger from(AttendanceStore store) {
+
+        HoursLedger ledger = new HoursLedger();
+
+        for (int k = 0; k < store.employeeCount(); k++) {
+
+            int firstRow = store.firstRow(k, Integer.MIN_VALUE);
+            int endRow = store.endRow(k);
+            if (firstRow == endRow) continue;
+
+            int baseDay = store.epochDayAt(firstRow);
+            int length = store.epochDayAt(endRow - 1) - baseDay + 1;
+
+            // Minutes per day, then running total
+            int[] sums = new int[length + 1];
+            for (int row = firstRow; row < endRow; row++) {
+                sums[store.epochDayAt(row) - baseDay + 1] += store.minuteOutAt(row) - store.minuteInAt(row);
+            }
+            for (int i = 1; i <= length; i++) {
+                sums[i] += sums[i - 1];
+            }
+
+            ledger.addSlot(store.employeeAt(k), baseDay, length, sums);
+        }
+
+        return ledger;
+    }
+
+    // =========================
+    // QUERIES
+    // =========================
+
+    // Minutes worked by the employee between startDay and endDay inclusive
+    synchronized long minutesBetween(int employeeId, int startDay, int endDay) {
+
+        int slot = slotById.getOrDefault(employeeId, -1);
+        return (slot < 0) ? 0L : rangeMinutes(slot, startDay, endDay);
+    }
+
+    // Hours worked between startDay and endDay for every employee in the ledger
+    synchronized Map<Integer, Double> hoursByEmployee(int startDay, int endDay) {
+
+        Map<Integer, Double> hours = new HashMap<>();
+        for (int slot = 0; slot < slots; slot++) {
+            hours.put(employeeIds[slot], rangeMinutes(slot, startDay, endDay) / 60.0);
+        }
+        return hours;
+    }
+
+    // First day with attendance for any employee (Integer.MAX_VALUE if none)
+    synchronized int firstDay() {
+
+        int first = Integer.MAX_VALUE;
+        for (int slot = 0; slot < slots; slot++) {
+            first = Math.min(first, baseDays[slot]);
+        }
+        return first;
+    }
+
+    // Last day covered for any employee (Integer.MIN_VALUE if none)
+    synchronized int lastDay() {
+
+        int last = Integer.MIN_VALUE;
+        for (int slot = 0; slot < slots; slot++) {
+            last = Math.max(last, baseDays[slot] + lengths[slot] - 1);
+        }
+        return last;
+    }
+
+    // =========================
+    // UPDATES
+    // =========================
+
+    // Adds minutes worked by the employee on the given day
+    synchronized void add(int employeeId, int day, int minutes) {
+
+        int slot = slotById.getOrDefault(employeeId, -1);
+
+        if (slot < 0) {
+            int[] sums = new int[8];
+            sums[1] = minutes;
+            addSlot(employeeId, day, 1, sums);
+            return;
+        }
+
+        if (day < baseDays[slot]) {
+            prepend(slot, baseDays[slot] - day);
+        } else if (day >= baseDays[slot] + lengths[slot]) {
+            extend(slot, day - baseDays[slot] + 1);
+        }
+
+        int[] sums = cumulative[slot];
+        int length = lengths[slot];
+        for (int i = day - baseDays[slot] + 1; i <= length; i++) {
+            sums[i] += minutes;
+        }
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private long rangeMinutes(int slot, int startDay, int endDay) {
+
+        int base = baseDays[slot];
+        int from = Math.max(startDay, base) - base;
+        int to = Math.min(endDay, base + lengths[slot] - 1) - base;
+
+        if (from > to) {
+            return 0L;
+        }
+
+        int[] sums = cumulative[slot];
+        return sums[to + 1] - sums[from];
+    }
+
+    private void addSlot(int employeeId, int baseDay, int length, int[] sums) {
+
+        if (slots == employeeIds.length) {
+            int capacity = slots * 2;
+            employeeIds = Arrays.copyOf(employeeIds, capacity);
+            baseDays = Arrays.copyOf(baseDays, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            cumulative = Arrays.copyOf(cumulative, capacity);
+        }
+
+        employeeIds[slots] = employeeId;
+        baseDays[slots] = baseDay;
+        lengths[slots] = length;
+        cumulative[slots] = sums;
+        slotById.put(employeeId, slots);
+        slots++;
+    }
+
+    // Grows the covered span to newLength days (new days worked 0 minutes)
+    private void extend(int slot, int newLength) {
+
+        int[] sums = cumulative[slot];
+        int length = lengths[slot];
+
+        if (newLength + 1 > sums.length) {
+            sums = Arrays.copyOf(sums, Math.max(newLength + 1, sums.length * 2));
+            cumulative[slot] = sums;
+        }
+
+        Arrays.fill(sums, length + 1, newLength + 1, sums[length]);
+        lengths[slot] = newLength;
+    }
+
+    // Moves baseDay back by the given number of days (rare: back-dated rows)
+    private void prepend(int slot, int days) {
+
+        int length = lengths[slot];
+        int[] sums = new int[length + days + 1];
+        System.arraycopy(cumulative[slot], 1, sums, days + 1, length);
+
+        cumulative[slot] = sums;
+        baseDays[slot] -= days;
+        lengths[slot] = length + days;
+    }
+}
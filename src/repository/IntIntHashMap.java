@@ -0,0 +1,171 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.util.Arrays;
+
+/*
+ * Class: IntIntHashMap
+ * Description: Minimal open-addressing hash map from int keys to int values,
+ *              used by the repositories to index records by employee ID
+ *              without boxing keys into Integer objects.
+ *
+ *              Uses linear probing with backward-shift deletion, so removed
+ *              entries leave no tombstones and lookups stay constant time.
+ *
+ *              Not thread-safe; callers synchronize as needed.
+ */
+
+final class IntIntHashMap {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    IntIntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    // =========================
+    // QUERIES
+    // =========================
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    // Returns the value mapped to key, or defaultValue if absent
+    int getOrDefault(int key, int defaultValue) {
+        int index = indexOf(key);
+        return (index >= 0) ? values[index] : defaultValue;
+    }
+
+    // =========================
+    // UPDATES
+    // =========================
+
+    void put(int key, int value) {
+
+        int index = slot(key);
+        while (used[index]) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        used[index] = true;
+        keys[index] = key;
+        values[index] = value;
+
+        if (++size > (int) (keys.length * LOAD_FACTOR)) {
+            resize(keys.length * 2);
+        }
+    }
+
+    // Removes key; returns true if it was present
+    boolean remove(int key) {
+
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+
+        // Backward-shift the rest of the probe chain into the freed slot
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        used[gap] = false;
+        size--;
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private int indexOf(int key) {
+
+        int index = slot(key);
+        while (used[index]) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Spreads sequential IDs (10001, 10002, ...) across the table
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void resize(int capacity) {
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
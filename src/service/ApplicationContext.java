@@ -0,0 +1,135 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.nio.file.Paths;
+
+import repository.AttendanceRepository;
+import repository.CredentialRepository;
+import repository.DeductionScheduleRepository;
+import repository.EmployeeRepository;
+
+/*
+ * Class: ApplicationContext
+ * Description: Holds the single set of repositories and services used by the
+ *              whole application.
+ *
+ *              Created once at startup (by Login) and passed to every frame,
+ *              panel and form, so the employee roster is parsed exactly once
+ *              per process and every screen sees the same data. The
+ *              attendance file is still loaded lazily, on the first hours
+ *              query (opening a payroll panel, which lists the pay periods
+ *              covering it).
+ *
+ *              The employee search index is built here, before any screen
+ *              can change the roster, and then kept current by repository
+ *              change events. The same events invalidate cached payroll
+ *              results.
+ *
+ *              Logged-in users are tracked by the SessionManager, whose
+ *              sweeper thread only starts with the first login.
+ *
+ * OOP PRINCIPLES APPLIED:
+ *
+ * 1. ENCAPSULATION
+ *    - Repositories and services are created here and exposed read-only.
+ *
+ * 2. ABSTRACTION
+ *    - GUI classes receive ready-made services instead of wiring them up.
+ */
+
+public class ApplicationContext {
+
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final CredentialRepository credentialRepository;
+    private final DeductionScheduleRepository deductionScheduleRepository;
+
+    private final EmployeeService employeeService;
+    private final PayrollService payrollService;
+    private final AuthenticationService authenticationService;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final SessionManager sessionManager;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    // Uses the default CSV files under src/resources
+    public ApplicationContext() {
+        this(new EmployeeRepository(), new AttendanceRepository());
+    }
+
+    // Credentials are kept in credentials.csv next to the employee file
+    public ApplicationContext(EmployeeRepository employeeRepository,
+                              AttendanceRepository attendanceRepository) {
+        this(employeeRepository, attendanceRepository, new CredentialRepository(
+                Paths.get(employeeRepository.getFilePath()).resolveSibling("credentials.csv").toString()));
+    }
+
+    public ApplicationContext(EmployeeRepository employeeRepository,
+                              AttendanceRepository attendanceRepository,
+                              CredentialRepository credentialRepository) {
+
+        this.employeeRepository = employeeRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.credentialRepository = credentialRepository;
+        this.deductionScheduleRepository = new DeductionScheduleRepository();
+
+        this.employeeService = new EmployeeService(employeeRepository);
+        this.payrollService = new PayrollService(attendanceRepository, deductionScheduleRepository);
+        this.authenticationService = new AuthenticationService(
+                employeeRepository, credentialRepository, new PasswordHasher());
+
+        this.employeeSearchIndex = new EmployeeSearchIndex(employeeRepository.getAllEmployees());
+        employeeRepository.addChangeListener(employeeSearchIndex);
+        employeeRepository.addChangeListener(payrollService.getResultCache());
+        employeeRepository.addChangeListener(authenticationService);
+
+        this.sessionManager = new SessionManager();
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    public EmployeeRepository getEmployeeRepository() {
+        return employeeRepository;
+    }
+
+    public AttendanceRepository getAttendanceRepository() {
+        return attendanceRepository;
+    }
+
+    public CredentialRepository getCredentialRepository() {
+        return credentialRepository;
+    }
+
+    public DeductionScheduleRepository getDeductionScheduleRepository() {
+        return deductionScheduleRepository;
+    }
+
+    public EmployeeService getEmployeeService() {
+        return employeeService;
+    }
+
+    public PayrollService getPayrollService() {
+        return payrollService;
+    }
+
+    public AuthenticationService getAuthenticationService() {
+        return authenticationService;
+    }
+
+    public EmployeeSearchIndex getEmployeeSearchIndex() {
+        return employeeSearchIndex;
+    }
+
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+}
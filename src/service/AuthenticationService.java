@@ -6,17 +6,37 @@
 
 package service;
 
+import model.Credential;
 import model.Employee;
+import repository.CredentialRepository;
+import repository.EmployeeChangeListener;
 import repository.EmployeeRepository;
-
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import repository.EpochDays;
 
 /*
  * Class: AuthenticationService
  * Description: Handles user authentication and role identification.
  *
+ *              Employees with a stored Credential log in with their password,
+ *              checked by PasswordHasher (salted PBKDF2). A hash made with
+ *              fewer iterations than currently configured is re-derived
+ *              after a successful login.
+ *
+ *              Employees not yet migrated by CredentialMigration still log in
+ *              with their birthday (MM/dd/yyyy). Stored birthdays are
+ *              pre-parsed to epoch days by EmployeeRepository, so that check
+ *              is one hash lookup and one int comparison.
+ *
+ *              Every attempt first passes the LoginThrottle: accounts with
+ *              repeated failures are blocked with exponential backoff, and
+ *              all attempts share a global rate limit. A throttled attempt
+ *              is refused before any password is checked.
+ *
+ *              As an EmployeeChangeListener it removes the credential of a
+ *              deleted employee (and any leftover one when an ID is added),
+ *              so a reused employee number starts again from the birthday
+ *              login instead of inheriting the old password.
+ *
  * OOP PRINCIPLES APPLIED:
  *
  * 1. ABSTRACTION
@@ -26,49 +46,155 @@ import java.time.format.DateTimeParseException;
  *    - Returns Employee reference that may hold different subclass types.
  */
 
-public class AuthenticationService {
+public class AuthenticationService implements EmployeeChangeListener {
+
+    // Shortest password accepted by resetPassword
+    public static final int MIN_PASSWORD_LENGTH = 8;
 
     private EmployeeRepository employeeRepository;
-    private final DateTimeFormatter formatter =
-            DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private final CredentialRepository credentialRepository;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
 
     // =========================
-    // CONSTRUCTOR
+    // CONSTRUCTORS
     // =========================
 
-    public AuthenticationService(EmployeeRepository employeeRepository) {
+    public AuthenticationService(EmployeeRepository employeeRepository,
+                                 CredentialRepository credentialRepository,
+                                 PasswordHasher passwordHasher) {
+        this(employeeRepository, credentialRepository, passwordHasher, new LoginThrottle());
+    }
+
+    public AuthenticationService(EmployeeRepository employeeRepository,
+                                 CredentialRepository credentialRepository,
+                                 PasswordHasher passwordHasher,
+                                 LoginThrottle loginThrottle) {
         this.employeeRepository = employeeRepository;
+        this.credentialRepository = credentialRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginThrottle = loginThrottle;
     }
 
     // =========================
     // AUTHENTICATE METHOD
     // =========================
 
+    // Returns the employee, or null if the credentials are wrong or the
+    // attempt was throttled (see getRetryAfterMillis)
     public Employee authenticate(int employeeId, String password) {
 
-        Employee employee = employeeRepository.findById(employeeId);
-
-        if (employee == null) {
+        if (loginThrottle.tryAcquire(employeeId) > 0) {
             return null;
         }
 
+        // The attempt is reserved until settled here, even if the check throws
+        Employee employee = null;
         try {
+            employee = checkPassword(employeeId, password);
+            return employee;
+        } finally {
+            if (employee == null) {
+                loginThrottle.recordFailure(employeeId);
+            } else {
+                loginThrottle.recordSuccess(employeeId);
+            }
+        }
+    }
+
+    // Milliseconds before this employee ID may try to log in again
+    // (0 if it may try now)
+    public long getRetryAfterMillis(int employeeId) {
+        return loginThrottle.retryAfterMillis(employeeId);
+    }
 
-            LocalDate storedBirthday =
-                    LocalDate.parse(employee.getBirthday(), formatter);
+    // =========================
+    // RESET PASSWORD
+    // =========================
 
-            LocalDate inputBirthday =
-                    LocalDate.parse(password, formatter);
+    // Replaces the employee's password; false if the employee is unknown,
+    // the password is too short, or the credential could not be saved
+    public boolean resetPassword(int employeeId, String newPassword) {
 
-            if (storedBirthday.equals(inputBirthday)) {
-                return employee;
-            }
+        if (newPassword == null || newPassword.length() < MIN_PASSWORD_LENGTH) {
+            return false;
+        }
+
+        if (employeeRepository.findById(employeeId) == null) {
+            return false;
+        }
 
-        } catch (DateTimeParseException e) {
-            return null; // malformed date in CSV or input
+        if (!credentialRepository.save(passwordHasher.hash(employeeId, newPassword))) {
+            return false;
         }
 
-        return null;
+        loginThrottle.reset(employeeId);   // a reset also unlocks the account
+        return true;
     }
-}
 
+    // =========================
+    // EMPLOYEE CHANGES
+    // =========================
+
+    @Override
+    public void employeeAdded(Employee employee) {
+        dropCredential(employee.getEmployeeId());
+    }
+
+    @Override
+    public void employeeUpdated(Employee employee) {
+        // same person: the password stays
+    }
+
+    @Override
+    public void employeeRemoved(int employeeId) {
+        dropCredential(employeeId);
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Forgets the password and failed attempts recorded for an employee number
+    private void dropCredential(int employeeId) {
+
+        if (!credentialRepository.remove(employeeId)) {
+            System.out.println("Error removing the credential of employee " + employeeId);
+        }
+        loginThrottle.reset(employeeId);
+    }
+
+    private Employee checkPassword(int employeeId, String password) {
+
+        Credential credential = credentialRepository.findById(employeeId);
+
+        if (credential == null) {
+            return authenticateByBirthday(employeeId, password);
+        }
+
+        Employee employee = employeeRepository.findById(employeeId);
+        if (employee == null || !passwordHasher.verify(credential, password)) {
+            return null;
+        }
+
+        if (passwordHasher.needsRehash(credential)) {
+            credentialRepository.save(passwordHasher.hash(employeeId, password));
+        }
+        return employee;
+    }
+
+    // Login of an employee without a stored credential
+    private Employee authenticateByBirthday(int employeeId, String password) {
+
+        int storedBirthday = employeeRepository.getBirthdayEpochDay(employeeId);
+        if (storedBirthday == EpochDays.INVALID) {
+            return null; // unknown ID or malformed date in CSV
+        }
+
+        if (EpochDays.parse(password) != storedBirthday) {
+            return null; // wrong or malformed date input
+        }
+
+        return employeeRepository.findById(employeeId);
+    }
+}
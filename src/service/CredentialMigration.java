@@ -0,0 +1,177 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import model.Credential;
+import model.Employee;
+import repository.CredentialRepository;
+import repository.EmployeeRepository;
+import repository.EpochDays;
+
+/*
+ * Class: CredentialMigration
+ * Description: Bulk migration from birthday passwords to salted PBKDF2
+ *              credentials.
+ *
+ *              Every employee that has no stored Credential yet and a valid
+ *              birthday gets one, hashed from that birthday, so nobody's
+ *              login changes. The hashing runs in parallel on a ForkJoinPool
+ *              with one worker per core, and all results are written to the
+ *              credential file at once. Employees that already have a
+ *              credential are left alone, so the migration can be re-run.
+ *
+ *              Command line:
+ *
+ *                  java service.CredentialMigration [options]
+ *
+ *                  --iterations N       PBKDF2 iterations (default: the
+ *                                       motorph.password.iterations setting)
+ *                  --target-ms N        calibrate iterations to about N ms
+ *                                       per login on this machine
+ *                  --employees FILE     employee CSV (default src/resources)
+ *                  --credentials FILE   credential CSV (default next to it)
+ *                  --threads N          worker threads (default: all cores)
+ */
+
+public class CredentialMigration {
+
+    private static final String USAGE = "Usage: CredentialMigration [--iterations N | --target-ms N]"
+            + " [--employees FILE] [--credentials FILE] [--threads N], with N > 0";
+
+    private final EmployeeRepository employeeRepository;
+    private final CredentialRepository credentialRepository;
+    private final PasswordHasher passwordHasher;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public CredentialMigration(EmployeeRepository employeeRepository,
+                               CredentialRepository credentialRepository,
+                               PasswordHasher passwordHasher) {
+        this.employeeRepository = employeeRepository;
+        this.credentialRepository = credentialRepository;
+        this.passwordHasher = passwordHasher;
+    }
+
+    // =========================
+    // MIGRATE
+    // =========================
+
+    // Hashes the birthday of every employee still without a credential,
+    // using the given number of threads. Returns the number migrated,
+    // or -1 if the credential file could not be written.
+    public int migrate(int threads) {
+
+        List<Employee> pending = employeeRepository.getAllEmployees().stream()
+                .filter(e -> credentialRepository.findById(e.getEmployeeId()) == null)
+                .filter(e -> EpochDays.parse(e.getBirthday()) != EpochDays.INVALID)
+                .collect(Collectors.toList());
+
+        if (pending.isEmpty()) return 0;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<Credential> hashed;
+        try {
+            hashed = pool.submit(() -> pending.parallelStream()
+                    .map(e -> passwordHasher.hash(e.getEmployeeId(), e.getBirthday()))
+                    .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (ExecutionException e) {
+            System.out.println("Error migrating credentials: " + e.getCause().getMessage());
+            return -1;
+        } finally {
+            pool.shutdown();
+        }
+
+        return credentialRepository.saveAll(hashed) ? hashed.size() : -1;
+    }
+
+    // =========================
+    // COMMAND LINE
+    // =========================
+
+    public static void main(String[] args) {
+
+        String employeeFile = "src/resources/employee_record.csv";
+        String credentialFile = null;
+        Integer iterations = null;
+        Double targetMillis = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 == args.length) {
+                    System.err.println("Missing value for " + option);
+                    System.err.println(USAGE);
+                    return;
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--iterations":  iterations = Integer.valueOf(value); break;
+                    case "--target-ms":   targetMillis = Double.valueOf(value); break;
+                    case "--employees":   employeeFile = value; break;
+                    case "--credentials": credentialFile = value; break;
+                    case "--threads":     threads = Integer.parseInt(value); break;
+                    default:
+                        System.err.println("Unknown option: " + option);
+                        System.err.println(USAGE);
+                        return;
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Not a number: " + e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+
+        if (threads < 1 || (iterations != null && iterations < 1)
+                || (targetMillis != null && !(targetMillis > 0))) {
+            System.err.println(USAGE);
+            return;
+        }
+        if (credentialFile == null) {
+            credentialFile = Paths.get(employeeFile).resolveSibling("credentials.csv").toString();
+        }
+
+        if (iterations == null) {
+            iterations = (targetMillis != null)
+                    ? PasswordHasher.calibrate(targetMillis)
+                    : new PasswordHasher().getIterations();
+        }
+        PasswordHasher hasher = new PasswordHasher(iterations);
+
+        System.out.printf("PBKDF2 iterations: %d (%.1f ms per login on this machine)%n",
+                iterations, PasswordHasher.measureMillis(iterations));
+
+        CredentialMigration migration = new CredentialMigration(
+                new EmployeeRepository(employeeFile),
+                new CredentialRepository(credentialFile),
+                hasher);
+
+        long start = System.nanoTime();
+        int migrated = migration.migrate(threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (migrated < 0) {
+            System.out.println("Migration failed; no credentials were changed.");
+        } else {
+            System.out.printf("Migrated %d employees in %.1f s on %d threads -> %s%n",
+                    migrated, seconds, threads, credentialFile);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import model.Employee;
+import repository.EmployeeChangeListener;
+
+/*
+ * Class: EmployeeSearchIndex
+ * Description: In-memory type-ahead index over the employee roster.
+ *
+ *              Searchable fields: employee ID, last and first name,
+ *              position, department, and the SSS, PhilHealth, TIN and
+ *              Pag-IBIG numbers. Each field is split into lower-case words
+ *              with dashes dropped, so "44-4506057-3" is found by typing
+ *              "44-45" or "4445".
+ *
+ *              Words live in a sorted map (word -> postings), which serves
+ *              as a flattened prefix trie: all words starting with a prefix
+ *              form one contiguous subMap range. A query is split into
+ *              words and an employee matches when every query word is a
+ *              prefix of one of its words. Candidates come from the postings
+ *              of the longest query word only, and are then checked against
+ *              the remaining words, so the cost follows the number of
+ *              matches, not the roster size.
+ *
+ *              Every employee gets a sequence number in roster order.
+ *              Candidates are collected in a BitSet over those numbers,
+ *              so results come back in roster order without sorting.
+ *
+ *              Kept current as an EmployeeChangeListener. Postings are never
+ *              shrunk: entries left by an update or delete are filtered out
+ *              when candidates are checked. All methods are synchronized.
+ *
+ * OOP PRINCIPLES APPLIED:
+ *
+ * 1. ENCAPSULATION
+ *    - Index structures are private; callers only see search results.
+ *
+ * 2. ABSTRACTION
+ *    - The directory asks for matches without knowing how they are found.
+ */
+
+public class EmployeeSearchIndex implements EmployeeChangeListener {
+
+    private static final String[] NO_WORDS = new String[0];
+
+    private final NavigableMap<String, Postings> postingsByWord = new TreeMap<>();
+    private final Map<Integer, Integer> seqById = new HashMap<>();
+
+    // Indexed by sequence number; null once the employee is removed
+    private Employee[] employees = new Employee[64];
+    private String[][] wordsBySeq = new String[64][];
+    private int nextSeq;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    public EmployeeSearchIndex(List<Employee> roster) {
+        for (Employee employee : roster) {
+            employeeAdded(employee);
+        }
+    }
+
+    // =========================
+    // SEARCH
+    // =========================
+
+    // Returns the employees matching every word of the query, in roster
+    // order. A blank query returns the whole roster.
+    public synchronized List<Employee> search(String query) {
+
+        String[] queryWords = tokenize(query);
+        List<Employee> matches = new ArrayList<>();
+
+        if (queryWords.length == 0) {
+            for (int seq = 0; seq < nextSeq; seq++) {
+                if (employees[seq] != null) {
+                    matches.add(employees[seq]);
+                }
+            }
+            return matches;
+        }
+
+        BitSet candidates = candidatesFor(longest(queryWords));
+
+        for (int seq = candidates.nextSetBit(0); seq >= 0; seq = candidates.nextSetBit(seq + 1)) {
+            if (employees[seq] != null && matchesAll(wordsBySeq[seq], queryWords)) {
+                matches.add(employees[seq]);
+            }
+        }
+        return matches;
+    }
+
+    // Checks one employee against a query without using the index
+    public static boolean matches(String query, Employee employee) {
+        return matchesAll(wordsOf(employee), tokenize(query));
+    }
+
+    // =========================
+    // INDEX MAINTENANCE
+    // =========================
+
+    @Override
+    public synchronized void employeeAdded(Employee employee) {
+
+        Integer seq = seqById.get(employee.getEmployeeId());
+        if (seq != null) {
+            employeeUpdated(employee);
+            return;
+        }
+
+        ensureCapacity(nextSeq + 1);
+        int newSeq = nextSeq++;
+        seqById.put(employee.getEmployeeId(), newSeq);
+        employees[newSeq] = employee;
+        wordsBySeq[newSeq] = index(wordsOf(employee), NO_WORDS, newSeq);
+    }
+
+    @Override
+    public synchronized void employeeUpdated(Employee employee) {
+
+        Integer seq = seqById.get(employee.getEmployeeId());
+        if (seq == null) return;
+
+        employees[seq] = employee;
+        wordsBySeq[seq] = index(wordsOf(employee), wordsBySeq[seq], seq);
+    }
+
+    @Override
+    public synchronized void employeeRemoved(int employeeId) {
+
+        Integer seq = seqById.remove(employeeId);
+        if (seq == null) return;
+
+        employees[seq] = null;
+        wordsBySeq[seq] = null;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Adds seq to the postings of each word not already indexed for it
+    // and returns the words, sharing the map's String instances
+    private String[] index(String[] words, String[] previous, int seq) {
+
+        String[] shared = new String[words.length];
+
+        for (int i = 0; i < words.length; i++) {
+
+            // One tree descent finds or creates the word's postings
+            Postings postings = postingsByWord.computeIfAbsent(words[i], Postings::new);
+
+            if (!Arrays.asList(previous).contains(postings.word)) {
+                postings.add(seq);
+            }
+            shared[i] = postings.word;
+        }
+        return shared;
+    }
+
+    // Union of the postings of every word starting with the prefix
+    private BitSet candidatesFor(String prefix) {
+
+        BitSet candidates = new BitSet(nextSeq);
+        for (Postings postings : postingsByWord
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            postings.addTo(candidates);
+        }
+        return candidates;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > employees.length) {
+            int capacity = Math.max(size, employees.length * 2);
+            employees = Arrays.copyOf(employees, capacity);
+            wordsBySeq = Arrays.copyOf(wordsBySeq, capacity);
+        }
+    }
+
+    private static boolean matchesAll(String[] words, String[] queryWords) {
+
+        for (String queryWord : queryWords) {
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(queryWord)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private static String longest(String[] words) {
+        String longest = words[0];
+        for (String word : words) {
+            if (word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+        return longest;
+    }
+
+    // Distinct lower-case words of every searchable field
+    private static String[] wordsOf(Employee employee) {
+
+        List<String> words = new ArrayList<>();
+        words.add(String.valueOf(employee.getEmployeeId()));
+        addWords(words, employee.getLastName());
+        addWords(words, employee.getFirstName());
+        addWords(words, employee.getPosition());
+        addWords(words, employee.getDepartment());
+        addWords(words, employee.getSssNumber());
+        addWords(words, employee.getPhilHealthNumber());
+        addWords(words, employee.getTinNumber());
+        addWords(words, employee.getPagIbigNumber());
+
+        return words.stream().distinct().toArray(String[]::new);
+    }
+
+    private static void addWords(List<String> words, String field) {
+        words.addAll(Arrays.asList(tokenize(field)));
+    }
+
+    // Splits on whitespace and commas, lower-cases, and drops dashes
+    private static String[] tokenize(String text) {
+
+        if (text == null) return NO_WORDS;
+
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0; i <= text.length(); i++) {
+
+            char c = (i < text.length()) ? text.charAt(i) : ' ';
+
+            if (Character.isWhitespace(c) || c == ',') {
+                if (word.length() > 0) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                }
+            } else if (c != '-') {
+                word.append(Character.toLowerCase(c));
+            }
+        }
+        return words.isEmpty() ? NO_WORDS : words.toArray(NO_WORDS);
+    }
+
+    // =========================
+    // POSTINGS
+    // =========================
+
+    // Growable list of sequence numbers for one word
+    private static final class Postings {
+
+        private final String word;   // the map's key instance
+        private int[] seqs = new int[2];
+        private int size;
+
+        Postings(String word) {
+            this.word = word;
+        }
+
+        void add(int seq) {
+            if (size == seqs.length) {
+                seqs = Arrays.copyOf(seqs, size * 2);
+            }
+            seqs[size++] = seq;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(seqs[i]);
+            }
+        }
+    }
+}
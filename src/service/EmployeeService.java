@@ -7,6 +7,8 @@
 package service;
 
 import model.Employee;
+import model.EmploymentStatus;
+import repository.EmployeeChangeListener;
 import repository.EmployeeRepository;
 
 import java.util.List;
@@ -40,6 +42,20 @@ public class EmployeeService {
         this.employeeRepository = employeeRepository;
     }
 
+    // METHOD NAME: createEmployee
+    // Builds (but does not add) an employee whose role follows the position.
+    // Money arguments are in centavos.
+    public Employee createEmployee(int employeeId, String firstName, String lastName,
+                                   String birthday, String position,
+                                   long basicSalary, long riceSubsidy,
+                                   long phoneAllowance, long clothingAllowance,
+                                   EmploymentStatus status) {
+
+        return employeeRepository.createEmployee(employeeId, firstName, lastName,
+                birthday, position, basicSalary, riceSubsidy,
+                phoneAllowance, clothingAllowance, status);
+    }
+
     // METHOD NAME: addEmployee
     // Adds a new employee if ID does not already exist.
     public boolean addEmployee(Employee employee) {
@@ -48,13 +64,11 @@ public class EmployeeService {
             return false;
         }
 
-        if (employeeRepository.findById(employee.getEmployeeId()) != null) {
-            return false;
+        if (!employeeRepository.addEmployee(employee)) {
+            return false; // duplicate employee ID
         }
 
-        employeeRepository.addEmployee(employee);
-        employeeRepository.saveEmployees();
-        return true;
+        return employeeRepository.saveEmployees();
     }
 
     // METHOD NAME: updateEmployee
@@ -65,27 +79,22 @@ public class EmployeeService {
             return false;
         }
 
-        if (employeeRepository.findById(updatedEmployee.getEmployeeId()) == null) {
-            return false;
+        if (!employeeRepository.updateEmployee(updatedEmployee)) {
+            return false; // unknown ID, or the journal write failed
         }
 
-        employeeRepository.updateEmployee(updatedEmployee);
-        employeeRepository.saveEmployees();
-        return true;
+        return employeeRepository.saveEmployees();
     }
 
     // METHOD NAME: deleteEmployee
     // Removes employee by ID.
     public boolean deleteEmployee(int employeeId) {
 
-        Employee employee = employeeRepository.findById(employeeId);
-        if (employee == null) {
-            return false;
+        if (!employeeRepository.deleteEmployeeById(employeeId)) {
+            return false; // unknown ID, or the journal write failed
         }
 
-        employeeRepository.deleteEmployeeById(employeeId);
-        employeeRepository.saveEmployees();
-        return true;
+        return employeeRepository.saveEmployees();
     }
 
     // METHOD NAME: getEmployeeById
@@ -99,6 +108,17 @@ public class EmployeeService {
     public List<Employee> getAllEmployees() {
         return employeeRepository.getAllEmployees();
     }
+
+    // METHOD NAME: addChangeListener
+    // Subscribes to single-record add/update/delete notifications.
+    public void addChangeListener(EmployeeChangeListener listener) {
+        employeeRepository.addChangeListener(listener);
+    }
+
+    // METHOD NAME: removeChangeListener
+    public void removeChangeListener(EmployeeChangeListener listener) {
+        employeeRepository.removeChangeListener(listener);
+    }
 }
 
 
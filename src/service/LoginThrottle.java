@@ -0,0 +1,341 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/*
+ * Class: LoginThrottle
+ * Description: Brute-force protection for AuthenticationService, safe for
+ *              concurrent logins from several kiosks without any locks.
+ *
+ *              PER ACCOUNT: each employee ID with recent failures has its own
+ *              AtomicLong in a ConcurrentHashMap keyed by the exact ID, so no
+ *              two accounts ever share a count. The value packs the failure
+ *              count (high 16 bits), the attempts still in progress (next 8
+ *              bits) and the time of the last failure (low 40 bits, in ms).
+ *              The first FREE_ATTEMPTS failures cost nothing; after that the
+ *              account is blocked for BASE_DELAY, doubling with every further
+ *              failure up to MAX_DELAY. A successful login, or RESET_AFTER
+ *              without failures, clears the count. Unknown IDs are counted
+ *              too, so probing for valid IDs is throttled the same way.
+ *              tryAcquire reserves the attempt with a CAS on that value and
+ *              recordFailure/recordSuccess settle it, so attempts in progress
+ *              count as failures: concurrent logins cannot all slip through
+ *              while the stored count is still below FREE_ATTEMPTS, and a
+ *              blocked account gets one retry at a time once its delay is up.
+ *              Entries quiet for longer than RESET_AFTER are swept out once
+ *              the map grows past SWEEP_SIZE, so guessed IDs cannot fill it.
+ *
+ *              GLOBAL: a token bucket over all attempts, kept as a single
+ *              AtomicLong "theoretical arrival time" (the generic cell rate
+ *              algorithm): an attempt is allowed while that time is no more
+ *              than the burst allowance ahead of now, and each allowed
+ *              attempt pushes it forward by one interval.
+ *
+ *              A successful login costs two map lookups, two CAS operations
+ *              on the account and one on the bucket, and one map removal.
+ */
+
+public class LoginThrottle {
+
+    // Failures allowed before the account is blocked
+    public static final int FREE_ATTEMPTS = 3;
+
+    public static final long BASE_DELAY_MILLIS = 1_000;
+    public static final long MAX_DELAY_MILLIS = 15 * 60 * 1_000;
+    public static final long RESET_AFTER_MILLIS = 60 * 60 * 1_000;
+
+    // Global limit: sustained attempts per second, and burst size
+    public static final int GLOBAL_ATTEMPTS_PER_SECOND = 20;
+    public static final int GLOBAL_BURST = 50;
+
+    // Map size that triggers a sweep of accounts past the reset window
+    private static final int SWEEP_SIZE = 4096;
+
+    private static final int TIME_BITS = 40;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final int PENDING_SHIFT = TIME_BITS;
+    private static final int FAILURES_SHIFT = 48;
+    private static final int MAX_PENDING = 0xFF;
+    private static final int MAX_FAILURES = 0xFFFF;
+
+    // State of an account that has been taken out of the map; a thread that
+    // still holds it looks the ID up again
+    private static final long REMOVED = -1L;
+
+    private final ConcurrentHashMap<Integer, AtomicLong> accounts = new ConcurrentHashMap<>();
+    private volatile int nextSweepSize = SWEEP_SIZE;
+    private final AtomicLong theoreticalArrival = new AtomicLong();
+
+    private final int freeAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long resetAfterMillis;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    public LoginThrottle() {
+        this(FREE_ATTEMPTS, BASE_DELAY_MILLIS, MAX_DELAY_MILLIS, RESET_AFTER_MILLIS,
+             GLOBAL_ATTEMPTS_PER_SECOND, GLOBAL_BURST, System::nanoTime);
+    }
+
+    public LoginThrottle(int freeAttempts,
+                         long baseDelayMillis,
+                         long maxDelayMillis,
+                         long resetAfterMillis,
+                         int globalAttemptsPerSecond,
+                         int globalBurst,
+                         LongSupplier nanoClock) {
+
+        this.freeAttempts = freeAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.resetAfterMillis = resetAfterMillis;
+        this.intervalNanos = 1_000_000_000L / globalAttemptsPerSecond;
+        this.burstNanos = intervalNanos * (globalBurst - 1);
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.theoreticalArrival.set(startNanos);
+    }
+
+    // =========================
+    // CHECK / RECORD
+    // =========================
+
+    // Returns 0 if an attempt for this ID may go ahead now (and reserves it
+    // and takes a global token), otherwise the milliseconds to wait. Every
+    // attempt that got 0 must be settled with recordFailure or recordSuccess.
+    public long tryAcquire(int employeeId) {
+
+        long now = nanoClock.getAsLong();
+
+        long accountWait = reserve(employeeId, toMillis(now));
+        if (accountWait > 0) {
+            return accountWait;
+        }
+
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long globalWait = globalWaitMillis(arrival, now);
+            if (globalWait > 0) {
+                update(employeeId, state -> pack(failures(state), pending(state) - 1, lastFailure(state)));
+                return globalWait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, now) + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Milliseconds until this ID may try again (0 if it may now), from
+    // either its own backoff or the global limit; does not take a token
+    public long retryAfterMillis(int employeeId) {
+        long now = nanoClock.getAsLong();
+        return Math.max(reservationWaitMillis(state(employeeId), toMillis(now)),
+                        globalWaitMillis(theoreticalArrival.get(), now));
+    }
+
+    // Settles a reserved attempt as failed (also counts a failure that was
+    // never reserved)
+    public void recordFailure(int employeeId) {
+
+        long now = toMillis(nanoClock.getAsLong());
+
+        while (true) {
+            AtomicLong account = accounts.computeIfAbsent(employeeId, id -> new AtomicLong());
+            long state = account.get();
+            if (state == REMOVED) {
+                accounts.remove(employeeId, account);
+                continue;
+            }
+
+            long next = pack(Math.min(currentFailures(state, now) + 1, MAX_FAILURES), pending(state) - 1, now);
+            if (account.compareAndSet(state, next)) {
+                break;
+            }
+        }
+
+        if (accounts.size() > nextSweepSize) {
+            sweep(now);
+        }
+    }
+
+    // Settles a reserved attempt as successful and clears the failures
+    public void recordSuccess(int employeeId) {
+        update(employeeId, state -> pack(0, pending(state) - 1, 0));
+    }
+
+    // Clears the failures without settling an attempt (password reset)
+    public void reset(int employeeId) {
+        update(employeeId, state -> pack(0, pending(state), 0));
+    }
+
+    // GET Failures currently counted against the ID
+    int failures(int employeeId) {
+        return failures(state(employeeId));
+    }
+
+    // GET Attempts reserved for the ID and not yet settled
+    int pending(int employeeId) {
+        return pending(state(employeeId));
+    }
+
+    // GET Number of IDs with failures on record
+    int trackedAccounts() {
+        return accounts.size();
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Packed state of the ID (0 = nothing on record)
+    private long state(int employeeId) {
+        AtomicLong account = accounts.get(employeeId);
+        long state = (account == null) ? 0 : account.get();
+        return (state == REMOVED) ? 0 : state;
+    }
+
+    // Counts one more attempt in progress, unless the account must wait;
+    // returns 0 if reserved, otherwise the milliseconds to wait
+    private long reserve(int employeeId, long nowMillis) {
+
+        while (true) {
+            AtomicLong account = accounts.computeIfAbsent(employeeId, id -> new AtomicLong());
+            long state = account.get();
+            if (state == REMOVED) {
+                accounts.remove(employeeId, account);
+                continue;
+            }
+
+            long wait = reservationWaitMillis(state, nowMillis);
+            if (wait > 0) {
+                return wait;
+            }
+            if (account.compareAndSet(state, state + (1L << PENDING_SHIFT))) {
+                return 0;
+            }
+        }
+    }
+
+    // Applies the change to the account, if it is in the map, and takes the
+    // account out once nothing is left on record
+    private void update(int employeeId, LongUnaryOperator change) {
+
+        AtomicLong account = accounts.get(employeeId);
+        if (account == null) {
+            return;
+        }
+
+        while (true) {
+            long state = account.get();
+            if (state == REMOVED) {
+                return;
+            }
+
+            long next = change.applyAsLong(state);
+            if (next == 0) {
+                next = REMOVED;
+            }
+            if (account.compareAndSet(state, next)) {
+                if (next == REMOVED) {
+                    accounts.remove(employeeId, account);
+                }
+                return;
+            }
+        }
+    }
+
+    // Drops accounts with nothing in progress whose last failure is past the
+    // reset window; if most are still recent, waits for the map to double
+    // before trying again
+    private void sweep(long nowMillis) {
+        accounts.forEach((employeeId, account) -> {
+            long state = account.get();
+            if (state != REMOVED && pending(state) == 0
+                    && nowMillis - lastFailure(state) > resetAfterMillis
+                    && account.compareAndSet(state, REMOVED)) {
+                accounts.remove(employeeId, account);
+            }
+        });
+        nextSweepSize = Math.max(SWEEP_SIZE, accounts.size() * 2);
+    }
+
+    // Attempts in progress count as failures until they are settled. Once
+    // the free attempts are used up, only one attempt at a time may be in
+    // progress, and only after the backoff delay.
+    private long reservationWaitMillis(long state, long nowMillis) {
+
+        int pending = pending(state);
+        if (pending == 0) {
+            return accountWaitMillis(state, nowMillis);
+        }
+        if (pending < MAX_PENDING && currentFailures(state, nowMillis) + pending < freeAttempts) {
+            return 0;
+        }
+        return Math.max(accountWaitMillis(state, nowMillis), baseDelayMillis);
+    }
+
+    private long accountWaitMillis(long state, long nowMillis) {
+
+        int failures = failures(state);
+        if (failures < freeAttempts) return 0;
+
+        long elapsed = nowMillis - lastFailure(state);
+        if (elapsed > resetAfterMillis) return 0;
+
+        int doublings = Math.min(failures - freeAttempts, 30);
+        long delay = Math.min(baseDelayMillis << doublings, maxDelayMillis);
+        return Math.max(0, delay - elapsed);
+    }
+
+    // Wait before the bucket has a token again (0 if it has one now)
+    private long globalWaitMillis(long arrival, long nowNanos) {
+        long ahead = Math.max(arrival, nowNanos) + intervalNanos - nowNanos;
+        long excess = ahead - burstNanos - intervalNanos;
+        return (excess > 0) ? Math.max(1, excess / 1_000_000) : 0;
+    }
+
+    // Milliseconds since the throttle was created, never 0 (0 = no failure)
+    private long toMillis(long nanos) {
+        return (((nanos - startNanos) / 1_000_000) + 1) & TIME_MASK;
+    }
+
+    // Failures on record, or 0 once the reset window has passed
+    private int currentFailures(long state, long nowMillis) {
+        return (nowMillis - lastFailure(state) > resetAfterMillis) ? 0 : failures(state);
+    }
+
+    private static long pack(int failures, int pending, long lastFailure) {
+        return ((long) failures << FAILURES_SHIFT)
+             | ((long) Math.max(pending, 0) << PENDING_SHIFT)
+             | lastFailure;
+    }
+
+    private static int failures(long state) {
+        return (int) (state >>> FAILURES_SHIFT);
+    }
+
+    private static int pending(long state) {
+        return (int) (state >>> PENDING_SHIFT) & MAX_PENDING;
+    }
+
+    private static long lastFailure(long state) {
+        return state & TIME_MASK;
+    }
+}
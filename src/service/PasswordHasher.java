@@ -0,0 +1,158 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import model.Credential;
+
+/*
+ * Class: PasswordHasher
+ * Description: Derives and checks salted PBKDF2-HMAC-SHA256 password hashes.
+ *
+ *              The iteration count sets the cost of every login. It defaults
+ *              to DEFAULT_ITERATIONS and can be changed with the system
+ *              property motorph.password.iterations. Each Credential keeps
+ *              the count it was made with, so raising the setting does not
+ *              invalidate existing hashes: needsRehash reports the ones to
+ *              upgrade on the next successful login.
+ *
+ *              measureMillis and calibrate time the derivation on the
+ *              current machine, to pick a count that fits the login latency
+ *              budget.
+ *
+ *              Thread-safe; a new SecretKeyFactory is used per derivation.
+ */
+
+public class PasswordHasher {
+
+    public static final String ITERATIONS_PROPERTY = "motorph.password.iterations";
+
+    // OWASP's recommended minimum for PBKDF2-HMAC-SHA256
+    public static final int DEFAULT_ITERATIONS = 310_000;
+
+    // Lowest count calibrate will suggest
+    public static final int MIN_ITERATIONS = 10_000;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    // Uses motorph.password.iterations, or DEFAULT_ITERATIONS if unset
+    public PasswordHasher() {
+        this(Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS));
+    }
+
+    public PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    // =========================
+    // HASH / VERIFY
+    // =========================
+
+    // Hashes the password with a fresh random salt
+    public Credential hash(int employeeId, String password) {
+
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+
+        return new Credential(employeeId, iterations, salt,
+                derive(password, salt, iterations));
+    }
+
+    // Re-derives with the credential's own salt and iteration count and
+    // compares in constant time
+    public boolean verify(Credential credential, String password) {
+
+        if (credential == null || password == null) return false;
+
+        byte[] expected = credential.getHash();
+        byte[] actual = derive(password, credential.getSalt(), credential.getIterations());
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    // True if the credential was made with fewer iterations than configured
+    public boolean needsRehash(Credential credential) {
+        return credential.getIterations() < iterations;
+    }
+
+    // GET Configured iteration count
+    public int getIterations() {
+        return iterations;
+    }
+
+    // =========================
+    // MEASURE / CALIBRATE
+    // =========================
+
+    // Fastest of a few timed derivations at the given count, in milliseconds
+    public static double measureMillis(int iterations) {
+
+        byte[] salt = new byte[SALT_BYTES];
+        long best = Long.MAX_VALUE;
+
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            derive("calibration", salt, iterations);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    // Iteration count whose derivation takes about targetMillis here,
+    // rounded down to a thousand and never below MIN_ITERATIONS
+    public static int calibrate(double targetMillis) {
+
+        int sample = 5 * MIN_ITERATIONS;
+        for (int run = 0; run < 3; run++) {
+            derive("warm-up", new byte[SALT_BYTES], sample);   // JIT warm-up
+        }
+
+        double millisPerIteration = measureMillis(sample) / sample;
+        long suggested = (long) (targetMillis / millisPerIteration) / 1000 * 1000;
+
+        return (int) Math.max(MIN_ITERATIONS, Math.min(Integer.MAX_VALUE, suggested));
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+
+        char[] chars = password.toCharArray();
+        PBEKeySpec spec = new PBEKeySpec(chars, salt, iterations, HASH_BITS);
+
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            // PBKDF2WithHmacSHA256 is required of every Java SE platform
+            throw new IllegalStateException("Error hashing password: " + e.getMessage(), e);
+        } finally {
+            spec.clearPassword();
+            Arrays.fill(chars, '\0');
+        }
+    }
+}
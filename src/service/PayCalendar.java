@@ -0,0 +1,167 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import model.PayFrequency;
+import model.PayPeriod;
+
+/*
+ * Class: PayCalendar
+ * Description: Generates the pay periods of any year from one rule, the
+ *              PayFrequency (see there for how each one cuts the calendar).
+ *
+ *              A period belongs to the year it starts in. Weekly periods
+ *              start on the week start day (Monday by default), so the days
+ *              before a year's first Monday belong to the previous year's
+ *              last week; every day is in exactly one period.
+ *
+ *              Each year is generated once, on first use, and kept as an
+ *              unmodifiable list of shared PayPeriod objects, so handing out
+ *              periods never allocates. periodContaining is a binary search
+ *              of that list.
+ *
+ *              The frequency defaults to SEMI_MONTHLY and can be changed with
+ *              the system property motorph.payroll.frequency (WEEKLY,
+ *              SEMI_MONTHLY or MONTHLY).
+ *
+ *              Thread-safe.
+ */
+
+public class PayCalendar {
+
+    public static final String FREQUENCY_PROPERTY = "motorph.payroll.frequency";
+
+    private final PayFrequency frequency;
+    private final DayOfWeek weekStart;
+
+    private final ConcurrentMap<Integer, List<PayPeriod>> periodsByYear = new ConcurrentHashMap<>();
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    // Uses motorph.payroll.frequency, or SEMI_MONTHLY if unset
+    public PayCalendar() {
+        this(PayFrequency.valueOf(System.getProperty(FREQUENCY_PROPERTY, PayFrequency.SEMI_MONTHLY.name())));
+    }
+
+    public PayCalendar(PayFrequency frequency) {
+        this(frequency, DayOfWeek.MONDAY);
+    }
+
+    public PayCalendar(PayFrequency frequency, DayOfWeek weekStart) {
+        this.frequency = frequency;
+        this.weekStart = weekStart;
+    }
+
+    // =========================
+    // PERIODS
+    // =========================
+
+    // GET Pay frequency
+    public PayFrequency getFrequency() {
+        return frequency;
+    }
+
+    // Pay periods starting in the year, in date order (read-only)
+    public List<PayPeriod> periods(int year) {
+        return periodsByYear.computeIfAbsent(year, this::generate);
+    }
+
+    // The pay period that contains the date
+    public PayPeriod periodContaining(LocalDate date) {
+
+        int year = (frequency == PayFrequency.WEEKLY)
+                ? date.with(TemporalAdjusters.previousOrSame(weekStart)).getYear()
+                : date.getYear();
+
+        List<PayPeriod> periods = periods(year);
+        long day = date.toEpochDay();
+
+        int low = 0;
+        int high = periods.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (periods.get(mid).getStartDay() <= day) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return periods.get(low);
+    }
+
+    // Pay periods overlapping from..to (inclusive), in date order
+    public List<PayPeriod> periodsBetween(LocalDate from, LocalDate to) {
+
+        List<PayPeriod> result = new ArrayList<>();
+        if (to.isBefore(from)) {
+            return result;
+        }
+
+        PayPeriod first = periodContaining(from);
+        for (int year = first.getStart().getYear(); year <= to.getYear(); year++) {
+            for (PayPeriod period : periods(year)) {
+                if (period.getStartDay() >= first.getStartDay() && !period.getStart().isAfter(to)) {
+                    result.add(period);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private List<PayPeriod> generate(int year) {
+
+        List<PayPeriod> periods = new ArrayList<>();
+
+        switch (frequency) {
+            case WEEKLY:
+                for (LocalDate start = LocalDate.of(year, 1, 1).with(TemporalAdjusters.nextOrSame(weekStart));
+                     start.getYear() == year;
+                     start = start.plusWeeks(1)) {
+                    periods.add(new PayPeriod(start, start.plusDays(6)));
+                }
+                break;
+
+            case SEMI_MONTHLY:
+                for (int month = 1; month <= 12; month++) {
+                    LocalDate first = LocalDate.of(year, month, 1);
+                    periods.add(new PayPeriod(first, first.withDayOfMonth(15)));
+                    periods.add(new PayPeriod(first.withDayOfMonth(16),
+                            first.with(TemporalAdjusters.lastDayOfMonth())));
+                }
+                break;
+
+            case MONTHLY:
+                for (int month = 1; month <= 12; month++) {
+                    LocalDate first = LocalDate.of(year, month, 1);
+                    periods.add(new PayPeriod(first, first.with(TemporalAdjusters.lastDayOfMonth())));
+                }
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown pay frequency: " + frequency);
+        }
+
+        return Collections.unmodifiableList(periods);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import model.Employee;
+import model.PayPeriod;
+import model.PayrollResult;
+import repository.AttendanceChangeListener;
+import repository.EmployeeChangeListener;
+
+/*
+ * Class: PayrollResultCache
+ * Description: Remembers computed PayrollResults by (employee ID, period
+ *              start, period end), so reopening the same employee and pay
+ *              period in the payroll panels does not recompute attendance
+ *              and deductions.
+ *
+ *              Bounded two ways: at most maxEntries results, the least
+ *              recently used dropped first (an access-ordered LinkedHashMap),
+ *              and each result is only served for ttl after it was computed.
+ *
+ *              Kept correct by change events rather than by the TTL: as an
+ *              EmployeeChangeListener it drops every result of an employee
+ *              whose record is added, updated or removed, and as an
+ *              AttendanceChangeListener it drops the results of that employee
+ *              whose period contains the recorded date (everything on a
+ *              reload). A per-employee key index makes this a few map
+ *              operations, not a scan.
+ *
+ *              Results are computed outside the lock. A result whose
+ *              computation overlapped an invalidation is returned but not
+ *              stored, so a stale result is never cached.
+ *
+ *              The limits default to DEFAULT_MAX_ENTRIES and DEFAULT_TTL_MINUTES
+ *              and can be changed with the system properties
+ *              motorph.payroll.cache.entries and motorph.payroll.cache.ttl.minutes
+ *              (0 entries turns the cache off).
+ *
+ *              Thread-safe.
+ */
+
+public class PayrollResultCache implements EmployeeChangeListener, AttendanceChangeListener {
+
+    public static final String MAX_ENTRIES_PROPERTY = "motorph.payroll.cache.entries";
+    public static final String TTL_MINUTES_PROPERTY = "motorph.payroll.cache.ttl.minutes";
+
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+    public static final int DEFAULT_TTL_MINUTES = 10;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    // Access order: the first entry is the least recently used
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() <= maxEntries) return false;
+            unindex(eldest.getKey());
+            evictions++;
+            return true;
+        }
+    };
+
+    private final Map<Integer, Set<Key>> keysByEmployee = new HashMap<>();
+
+    // Bumped by every invalidation; a computation that saw an older value is not stored
+    private long version;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    // Uses the motorph.payroll.cache.* properties, or the defaults if unset
+    public PayrollResultCache() {
+        this(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES),
+             TimeUnit.MINUTES.toNanos(Integer.getInteger(TTL_MINUTES_PROPERTY, DEFAULT_TTL_MINUTES)),
+             System::nanoTime);
+    }
+
+    public PayrollResultCache(int maxEntries, long ttlNanos, LongSupplier nanoClock) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("max entries must not be negative: " + maxEntries);
+        }
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttlNanos);
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    // =========================
+    // LOOKUP
+    // =========================
+
+    // Returns the cached result for the employee and period, or computes,
+    // caches and returns it
+    public PayrollResult get(int employeeId, PayPeriod period,
+                             Supplier<PayrollResult> computation) {
+
+        Key key = new Key(employeeId, period.getStartDay(), period.getEndDay());
+        long seenVersion;
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (nanoClock.getAsLong() - entry.computedNanos < ttlNanos) {
+                    hits++;
+                    return entry.result;
+                }
+                remove(key);
+            }
+            misses++;
+            seenVersion = version;
+        }
+
+        PayrollResult result = computation.get();
+
+        synchronized (this) {
+            if (version == seenVersion && maxEntries > 0 && result != null) {
+                if (entries.put(key, new Entry(result, nanoClock.getAsLong())) == null) {
+                    keysByEmployee.computeIfAbsent(employeeId, id -> new HashSet<>()).add(key);
+                }
+            }
+        }
+        return result;
+    }
+
+    // =========================
+    // INVALIDATION
+    // =========================
+
+    // Drops every cached result of the employee
+    public synchronized void invalidate(int employeeId) {
+
+        version++;
+
+        Set<Key> keys = keysByEmployee.remove(employeeId);
+        if (keys != null) {
+            for (Key key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    // Drops the employee's cached results whose period contains the date
+    public synchronized void invalidate(int employeeId, LocalDate date) {
+
+        version++;
+
+        Set<Key> keys = keysByEmployee.get(employeeId);
+        if (keys == null) return;
+
+        long day = date.toEpochDay();
+        for (Iterator<Key> it = keys.iterator(); it.hasNext(); ) {
+            Key key = it.next();
+            if (key.startDay <= day && day <= key.endDay) {
+                entries.remove(key);
+                it.remove();
+            }
+        }
+        if (keys.isEmpty()) {
+            keysByEmployee.remove(employeeId);
+        }
+    }
+
+    // Drops everything
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+        keysByEmployee.clear();
+    }
+
+    @Override
+    public void employeeAdded(Employee employee) {
+        invalidate(employee.getEmployeeId());
+    }
+
+    @Override
+    public void employeeUpdated(Employee employee) {
+        invalidate(employee.getEmployeeId());
+    }
+
+    @Override
+    public void employeeRemoved(int employeeId) {
+        invalidate(employeeId);
+    }
+
+    @Override
+    public void attendanceRecorded(int employeeId, LocalDate date) {
+        invalidate(employeeId, date);
+    }
+
+    @Override
+    public void attendanceReloaded() {
+        clear();
+    }
+
+    // =========================
+    // STATISTICS
+    // =========================
+
+    // GET Lookups answered from the cache
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    // GET Lookups that had to compute the result
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    // GET Results dropped to stay within maxEntries
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    // GET Number of cached results (expired ones included until looked up)
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private void remove(Key key) {
+        entries.remove(key);
+        unindex(key);
+    }
+
+    private void unindex(Key key) {
+        Set<Key> keys = keysByEmployee.get(key.employeeId);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByEmployee.remove(key.employeeId);
+        }
+    }
+
+    private static final class Key {
+
+        private final int employeeId;
+        private final int startDay;
+        private final int endDay;
+
+        Key(int employeeId, int startDay, int endDay) {
+            this.employeeId = employeeId;
+            this.startDay = startDay;
+            this.endDay = endDay;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return employeeId == other.employeeId
+                    && startDay == other.startDay
+                    && endDay == other.endDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * employeeId + startDay) + endDay;
+        }
+    }
+
+    private static final class Entry {
+
+        private final PayrollResult result;
+        private final long computedNanos;
+
+        Entry(PayrollResult result, long computedNanos) {
+            this.result = result;
+            this.computedNanos = computedNanos;
+        }
+    }
+}
@@ -6,16 +6,48 @@
 
 package service;
 
+import model.DeductionSchedule;
 import model.Employee;
+import model.Money;
+import model.PayPeriod;
+import model.PayrollResult;
+import model.PayrollRun;
 import repository.AttendanceRepository;
+import repository.DeductionScheduleRepository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /*
  * Class: PayrollService
  * Description: Centralizes all payroll-related computations
  *              and salary processing logic.
  *
+ *              Statutory deductions come from the DeductionSchedule in force
+ *              at the end of the pay period (the latest one when no period
+ *              is given), loaded from the versioned tables by
+ *              DeductionScheduleRepository.
+ *
+ *              All money is in centavos (see Money). Hours worked are
+ *              converted to whole minutes, so prorating a salary is exact
+ *              integer arithmetic with one rounding.
+ *
+ *              Pay periods are PayPeriod objects from the PayCalendar, which
+ *              carry epoch-day bounds, so computing a period's pay involves
+ *              no date parsing. The "YYYY-MM-DD to YYYY-MM-DD" string
+ *              overloads parse once and delegate.
+ *
+ *              Results for one employee and pay period are kept in a
+ *              PayrollResultCache, which listens to attendance changes
+ *              itself; ApplicationContext also registers it with the
+ *              EmployeeRepository so edited records are recomputed.
+ *
  * OOP PRINCIPLES APPLIED:
  *
  * 1. ABSTRACTION
@@ -32,17 +64,100 @@ import java.time.LocalDate;
 public class PayrollService {
 
     private static final double STANDARD_MONTHLY_HOURS = 160.0;
+    private static final long STANDARD_MONTHLY_MINUTES = 160 * 60;
+
+    // Employees per fork/join leaf task in a parallel payroll run
+    private static final int PARALLEL_BATCH_SIZE = 512;
 
     private final AttendanceRepository attendanceRepository;
+    private final DeductionScheduleRepository deductionSchedules;
+    private final PayrollResultCache resultCache;
+    private final PayCalendar payCalendar;
+
+    // Number of worker threads used by runPayrollParallel
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     // CONSTRUCTOR (Dependency Injection)
-    public PayrollService(AttendanceRepository attendanceRepository) {
+    public PayrollService(AttendanceRepository attendanceRepository,
+                          DeductionScheduleRepository deductionSchedules,
+                          PayrollResultCache resultCache,
+                          PayCalendar payCalendar) {
         this.attendanceRepository = attendanceRepository;
+        this.deductionSchedules = deductionSchedules;
+        this.resultCache = resultCache;
+        this.payCalendar = payCalendar;
+        attendanceRepository.addChangeListener(resultCache);
+    }
+
+    // CONSTRUCTOR (Default pay calendar)
+    public PayrollService(AttendanceRepository attendanceRepository,
+                          DeductionScheduleRepository deductionSchedules,
+                          PayrollResultCache resultCache) {
+        this(attendanceRepository, deductionSchedules, resultCache, new PayCalendar());
+    }
+
+    // CONSTRUCTOR (Default result cache)
+    public PayrollService(AttendanceRepository attendanceRepository,
+                          DeductionScheduleRepository deductionSchedules) {
+        this(attendanceRepository, deductionSchedules, new PayrollResultCache());
+    }
+
+    // CONSTRUCTOR (Default deduction tables)
+    public PayrollService(AttendanceRepository attendanceRepository) {
+        this(attendanceRepository, new DeductionScheduleRepository());
     }
 
     // CONSTRUCTOR (Convenience)
     public PayrollService() {
-        this.attendanceRepository = new AttendanceRepository();
+        this(new AttendanceRepository());
+    }
+
+    // =========================
+    // CONFIGURATION
+    // =========================
+
+    // GET Parallelism (worker threads for parallel payroll runs)
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // SET Parallelism
+    public void setParallelism(int parallelism) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    // GET Cache of per-employee, per-period results (hit/miss counters)
+    public PayrollResultCache getResultCache() {
+        return resultCache;
+    }
+
+    // GET Pay calendar the pay periods come from
+    public PayCalendar getPayCalendar() {
+        return payCalendar;
+    }
+
+    // =========================
+    // PAY PERIODS
+    // =========================
+
+    // METHOD NAME: getPayPeriods
+    // Pay periods covering the attendance on file, oldest first; the current
+    // year's periods if there is no attendance yet. Loads attendance.
+    public List<PayPeriod> getPayPeriods() {
+
+        LocalDate first = attendanceRepository.getFirstDate();
+        LocalDate last = attendanceRepository.getLastDate();
+
+        if (first == null || last == null) {
+            return payCalendar.periods(LocalDate.now().getYear());
+        }
+
+        return payCalendar.periodsBetween(first, last);
     }
 
     // =========================
@@ -63,12 +178,24 @@ public class PayrollService {
             return 0.0;
         }
 
-        LocalDate[] range = parseDateRange(dateRange);
-        if (range == null) {
+        PayPeriod period = parseDateRange(dateRange);
+        if (period == null) {
+            return 0.0;
+        }
+
+        return calculateHoursWorked(employee, period);
+    }
+
+    // METHOD NAME: calculateHoursWorked (Overloaded)
+    // Returns total hours worked within the pay period
+    public double calculateHoursWorked(Employee employee, PayPeriod period) {
+
+        if (employee == null || period == null) {
             return 0.0;
         }
 
-        return attendanceRepository.getHoursWorked(employee.getEmployeeId(), range[0], range[1]);
+        return attendanceRepository.getHoursWorked(employee.getEmployeeId(),
+                period.getStartDay(), period.getEndDay());
     }
 
     // =========================
@@ -76,39 +203,55 @@ public class PayrollService {
     // =========================
 
     // METHOD NAME: calculateGrossSalary
-    // Computes gross salary including allowances.
-    public double calculateGrossSalary(Employee employee) {
+    // Computes monthly gross salary including allowances, in centavos.
+    public long calculateGrossSalary(Employee employee) {
 
         if (employee == null) {
-            return 0.0;
+            return 0;
         }
 
-        return employee.getBasicSalary()
-                + employee.getRiceSubsidy()
-                + employee.getPhoneAllowance()
-                + employee.getClothingAllowance();
+        return employee.getBasicSalary() + employee.getTotalAllowances();
+    }
+
+    // METHOD NAME: calculateBasicPay
+    // Basic salary earned for the hours worked, in centavos: the monthly
+    // basic salary prorated over the standard monthly hours, to the minute.
+    public long calculateBasicPay(Employee employee, double hoursWorked) {
+
+        if (employee == null || hoursWorked <= 0) {
+            return 0;
+        }
+
+        long minutesWorked = Math.round(hoursWorked * 60);
+        return Money.prorate(employee.getBasicSalary(), minutesWorked, STANDARD_MONTHLY_MINUTES);
     }
 
     // =========================
-    // DEDUCTIONS (Simplified)
+    // DEDUCTIONS
     // =========================
 
     // METHOD NAME: calculateDeductions
-    // Computes total statutory deductions (simplified).
-    public double calculateDeductions(Employee employee) {
+    // Computes total statutory deductions on the monthly gross salary
+    // using the latest deduction schedule, in centavos.
+    public long calculateDeductions(Employee employee) {
 
         if (employee == null) {
-            return 0.0;
+            return 0;
         }
 
-        double gross = calculateGrossSalary(employee);
+        return deductionSchedules.getLatest().totalDeductions(calculateGrossSalary(employee));
+    }
+
+    // METHOD NAME: getDeductionSchedule
+    // Returns the deduction schedule in force on the date.
+    public DeductionSchedule getDeductionSchedule(LocalDate date) {
 
-        double sss = gross * 0.045;
-        double philHealth = gross * 0.03;
-        double pagIbig = 100;
-        double withholdingTax = gross * 0.10;
+        DeductionSchedule schedule = deductionSchedules.findEffective(date);
+        if (schedule == null) {
+            throw new IllegalArgumentException("No deduction schedule in force on " + date);
+        }
 
-        return sss + philHealth + pagIbig + withholdingTax;
+        return schedule;
     }
 
     // =========================
@@ -116,60 +259,222 @@ public class PayrollService {
     // =========================
 
     // METHOD NAME: calculateNetSalary
-    // Computes net salary without date range.
-    public double calculateNetSalary(Employee employee) {
+    // Computes net salary without date range, in centavos.
+    public long calculateNetSalary(Employee employee) {
 
         if (employee == null) {
-            return 0.0;
+            return 0;
         }
 
-        double gross = calculateGrossSalary(employee);
-        double deductions = calculateDeductions(employee);
+        long gross = calculateGrossSalary(employee);
+        long deductions = calculateDeductions(employee);
 
         return gross - deductions;
     }
 
     // METHOD NAME: calculateNetSalary (Overloaded)
-    // Computes net salary using actual hours worked.
-    public double calculateNetSalary(Employee employee, double hoursWorked) {
+    // Computes net salary using actual hours worked, in centavos.
+    public long calculateNetSalary(Employee employee, double hoursWorked) {
 
-        if (employee == null || hoursWorked <= 0) {
-            return 0.0;
+        if (employee == null) {
+            return 0;
         }
 
-        double hourlyRate = employee.getBasicSalary() / STANDARD_MONTHLY_HOURS;
-        double adjustedBasic = hourlyRate * hoursWorked;
-
-        double gross = adjustedBasic
-                + employee.getRiceSubsidy()
-                + employee.getPhoneAllowance()
-                + employee.getClothingAllowance();
+        return calculatePayrollResult(employee, hoursWorked).getNetSalary();
+    }
 
-        double sss = gross * 0.045;
-        double philHealth = gross * 0.03;
-        double pagIbig = 100;
-        double withholdingTax = gross * 0.10;
+    // METHOD NAME: calculateNetSalary (Overloaded)
+    // Computes net salary using attendance hours within selected pay period,
+    // in centavos.
+    public long calculateNetSalary(Employee employee, String dateRange) {
 
-        double deductions = sss + philHealth + pagIbig + withholdingTax;
+        if (employee == null || dateRange == null) {
+            return 0;
+        }
 
-        return gross - deductions;
+        PayrollResult result = calculatePayrollResult(employee, dateRange);
+        return (result == null) ? 0 : result.getNetSalary();
     }
 
     // METHOD NAME: calculateNetSalary (Overloaded)
-    // Computes net salary using attendance hours within selected pay period.
-    public double calculateNetSalary(Employee employee, String dateRange) {
+    // Computes net salary using attendance hours within the pay period,
+    // in centavos.
+    public long calculateNetSalary(Employee employee, PayPeriod period) {
 
-        if (employee == null || dateRange == null) {
-            return 0.0;
+        if (employee == null || period == null) {
+            return 0;
         }
 
-        LocalDate[] range = parseDateRange(dateRange);
-        if (range == null) {
-            return 0.0;
+        return calculatePayrollResult(employee, period).getNetSalary();
+    }
+
+    // =========================
+    // PAYROLL RUN (Batch)
+    // =========================
+
+    // METHOD NAME: calculatePayrollResult
+    // Computes the full payroll breakdown of one employee from hours worked,
+    // using the latest deduction schedule.
+    public PayrollResult calculatePayrollResult(Employee employee, double hoursWorked) {
+        return calculatePayrollResult(employee, hoursWorked, deductionSchedules.getLatest());
+    }
+
+    // METHOD NAME: calculatePayrollResult (Overloaded)
+    // Computes the full payroll breakdown with the given deduction schedule.
+    public PayrollResult calculatePayrollResult(Employee employee, double hoursWorked,
+                                                DeductionSchedule schedule) {
+
+        if (hoursWorked <= 0) {
+            return new PayrollResult(employee.getEmployeeId(), employee.getFullName(),
+                    0.0, 0, 0, 0, 0, 0, 0);
+        }
+
+        long gross = calculateBasicPay(employee, hoursWorked) + employee.getTotalAllowances();
+
+        long sss = schedule.sss(gross);
+        long philHealth = schedule.philHealth(gross);
+        long pagIbig = schedule.pagIbig(gross);
+        long withholdingTax = schedule.withholdingTax(gross - sss - philHealth - pagIbig);
+
+        long deductions = sss + philHealth + pagIbig + withholdingTax;
+
+        return new PayrollResult(employee.getEmployeeId(), employee.getFullName(), hoursWorked,
+                gross, sss, philHealth, pagIbig, withholdingTax, gross - deductions);
+    }
+
+    // METHOD NAME: calculatePayrollResult (Overloaded)
+    // Full payroll breakdown from attendance within "YYYY-MM-DD to YYYY-MM-DD",
+    // or null if the range is invalid. Served from the result cache.
+    public PayrollResult calculatePayrollResult(Employee employee, String dateRange) {
+
+        PayPeriod period = (employee == null || dateRange == null) ? null : parseDateRange(dateRange);
+        if (period == null) {
+            return null;
         }
 
-        double hoursWorked = attendanceRepository.getHoursWorked(employee.getEmployeeId(), range[0], range[1]);
-        return calculateNetSalary(employee, hoursWorked);
+        return calculatePayrollResult(employee, period);
+    }
+
+    // METHOD NAME: calculatePayrollResult (Overloaded)
+    // Full payroll breakdown from attendance within the period, using the
+    // deduction schedule in force at its end. Served from the result cache.
+    public PayrollResult calculatePayrollResult(Employee employee, PayPeriod period) {
+
+        return resultCache.get(employee.getEmployeeId(), period, () -> {
+            double hoursWorked = calculateHoursWorked(employee, period);
+            return calculatePayrollResult(employee, hoursWorked, getDeductionSchedule(period.getEnd()));
+        });
+    }
+
+    // METHOD NAME: runPayroll
+    // Computes every employee's pay for "YYYY-MM-DD to YYYY-MM-DD".
+    public PayrollRun runPayroll(List<Employee> employees, String dateRange) {
+        return runPayroll(employees, requirePeriod(dateRange));
+    }
+
+    // METHOD NAME: runPayroll (Overloaded)
+    // Computes every employee's pay from start to end (inclusive).
+    public PayrollRun runPayroll(List<Employee> employees, LocalDate start, LocalDate end) {
+        return runPayroll(employees, new PayPeriod(start, end));
+    }
+
+    // METHOD NAME: runPayroll (Overloaded)
+    // Computes every employee's pay for the period using one pass over attendance.
+    public PayrollRun runPayroll(List<Employee> employees, PayPeriod period) {
+
+        DeductionSchedule schedule = getDeductionSchedule(period.getEnd());
+
+        Map<Integer, Double> hoursByEmployee =
+                attendanceRepository.getHoursWorkedByEmployee(period.getStartDay(), period.getEndDay());
+
+        List<PayrollResult> results = new ArrayList<>(employees.size());
+
+        for (Employee employee : employees) {
+            if (employee == null) continue;
+
+            double hoursWorked = hoursByEmployee.getOrDefault(employee.getEmployeeId(), 0.0);
+            results.add(calculatePayrollResult(employee, hoursWorked, schedule));
+        }
+
+        return new PayrollRun(period.getStart(), period.getEnd(), results);
+    }
+
+    // METHOD NAME: runPayrollParallel
+    // Parallel variant of runPayroll for "YYYY-MM-DD to YYYY-MM-DD".
+    public PayrollRun runPayrollParallel(List<Employee> employees, String dateRange) {
+        return runPayrollParallel(employees, requirePeriod(dateRange));
+    }
+
+    // METHOD NAME: runPayrollParallel (Overloaded)
+    // Parallel variant of runPayroll from start to end (inclusive).
+    public PayrollRun runPayrollParallel(List<Employee> employees, LocalDate start, LocalDate end) {
+        return runPayrollParallel(employees, new PayPeriod(start, end));
+    }
+
+    // METHOD NAME: runPayrollParallel (Overloaded)
+    // Same result as runPayroll, computed on a fork/join pool of
+    // getParallelism() workers sharing one read-only attendance snapshot.
+    public PayrollRun runPayrollParallel(List<Employee> employees, PayPeriod period) {
+
+        DeductionSchedule schedule = getDeductionSchedule(period.getEnd());
+
+        Map<Integer, Double> hoursByEmployee = Collections.unmodifiableMap(
+                attendanceRepository.getHoursWorkedByEmployee(period.getStartDay(), period.getEndDay()));
+
+        List<Employee> batch = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (employee != null) batch.add(employee);
+        }
+
+        // Each task writes only its own slots, so results keep list order
+        PayrollResult[] results = new PayrollResult[batch.size()];
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new PayrollTask(batch, hoursByEmployee, schedule, results, 0, batch.size()));
+        } finally {
+            pool.shutdown();
+        }
+
+        return new PayrollRun(period.getStart(), period.getEnd(), Arrays.asList(results));
+    }
+
+    // Fork/join task computing results for employees [from, to)
+    private class PayrollTask extends RecursiveAction {
+
+        private final List<Employee> employees;
+        private final Map<Integer, Double> hoursByEmployee;
+        private final DeductionSchedule schedule;
+        private final PayrollResult[] results;
+        private final int from;
+        private final int to;
+
+        PayrollTask(List<Employee> employees, Map<Integer, Double> hoursByEmployee,
+                    DeductionSchedule schedule, PayrollResult[] results, int from, int to) {
+            this.employees = employees;
+            this.hoursByEmployee = hoursByEmployee;
+            this.schedule = schedule;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from <= PARALLEL_BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    Employee employee = employees.get(i);
+                    double hoursWorked = hoursByEmployee.getOrDefault(employee.getEmployeeId(), 0.0);
+                    results[i] = calculatePayrollResult(employee, hoursWorked, schedule);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new PayrollTask(employees, hoursByEmployee, schedule, results, from, mid),
+                      new PayrollTask(employees, hoursByEmployee, schedule, results, mid, to));
+        }
     }
 
     // =========================
@@ -184,18 +489,18 @@ public class PayrollService {
             return "Invalid employee.";
         }
 
-        double gross = calculateGrossSalary(employee);
-        double deductions = calculateDeductions(employee);
-        double net = calculateNetSalary(employee);
+        long gross = calculateGrossSalary(employee);
+        long deductions = calculateDeductions(employee);
+        long net = gross - deductions;
 
         return "---------------------------------------\n"
                 + "MotorPH Payroll System\n"
                 + "Employee: " + employee.getFullName() + "\n"
                 + "Position: " + employee.getPosition() + "\n"
                 + "---------------------------------------\n"
-                + "Gross Salary: " + String.format("%.2f", gross) + "\n"
-                + "Total Deductions: " + String.format("%.2f", deductions) + "\n"
-                + "Net Salary: " + String.format("%.2f", net) + "\n"
+                + "Gross Salary: " + Money.format(gross) + "\n"
+                + "Total Deductions: " + Money.format(deductions) + "\n"
+                + "Net Salary: " + Money.format(net) + "\n"
                 + "---------------------------------------";
     }
 
@@ -204,19 +509,25 @@ public class PayrollService {
     // =========================
 
     // METHOD NAME: parseDateRange
-    // Parses "YYYY-MM-DD to YYYY-MM-DD" into LocalDate start/end.
-    private LocalDate[] parseDateRange(String dateRange) {
+    // Parses "YYYY-MM-DD to YYYY-MM-DD" into a PayPeriod, or null if invalid.
+    private PayPeriod parseDateRange(String dateRange) {
         try {
-            String[] parts = dateRange.split(" to ");
-            if (parts.length != 2) return null;
+            return PayPeriod.parse(dateRange);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-            LocalDate start = LocalDate.parse(parts[0].trim());
-            LocalDate end = LocalDate.parse(parts[1].trim());
+    // METHOD NAME: requirePeriod
+    // Like parseDateRange, but an invalid range is an IllegalArgumentException.
+    private PayPeriod requirePeriod(String dateRange) {
 
-            return new LocalDate[]{start, end};
-        } catch (Exception e) {
-            return null;
+        PayPeriod period = (dateRange == null) ? null : parseDateRange(dateRange);
+        if (period == null) {
+            throw new IllegalArgumentException("Invalid pay period: " + dateRange);
         }
+
+        return period;
     }
 }
 
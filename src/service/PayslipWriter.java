@@ -0,0 +1,293 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import model.Money;
+import model.PayPeriod;
+import model.PayrollResult;
+import model.PayrollRun;
+import repository.AttendanceRepository;
+import repository.EmployeeRepository;
+
+/*
+ * Class: PayslipWriter
+ * Description: Writes the payslips of a whole PayrollRun in one pass, either
+ *              all into one output stream or one file per employee in a
+ *              directory. Each payslip shows the pay period, the hours worked
+ *              from attendance, gross pay, every statutory deduction and net
+ *              pay.
+ *
+ *              Payslips are streamed: each one is laid out in a single reused
+ *              StringBuilder (amounts appended by Money.appendTo, no
+ *              String.format), encoded as UTF-8 into a single reused byte
+ *              buffer and written out before the next one is started. Only
+ *              one payslip's text is ever in memory, whatever the size of the
+ *              run. When writing to a stream the buffer is only flushed when
+ *              full, so thousands of payslips cost a few hundred writes.
+ *
+ *              Not thread-safe (the buffers are reused); use one instance per
+ *              thread.
+ *
+ *              Command line (month-end export):
+ *
+ *                  java service.PayslipWriter [options]
+ *
+ *                  --period "YYYY-MM-DD to YYYY-MM-DD"   pay period (required)
+ *                  --out PATH        file, or directory with --split
+ *                                    (default: standard output)
+ *                  --split           one file per employee in --out
+ *                  --employees FILE  employee CSV (default src/resources)
+ *                  --attendance FILE attendance CSV (default src/resources)
+ */
+
+public class PayslipWriter {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String RULE = "---------------------------------------\n";
+    private static final int LABEL_WIDTH = 18;
+    private static final int AMOUNT_WIDTH = 21;
+    private static final String SPACES = "                                        ";
+
+    // Reused for every payslip
+    private final StringBuilder text = new StringBuilder(1024);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    public PayslipWriter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public PayslipWriter(int bufferSize) {
+        if (bufferSize < 1024) {
+            throw new IllegalArgumentException("Buffer size must be at least 1024 bytes: " + bufferSize);
+        }
+        this.bytes = ByteBuffer.allocate(bufferSize);
+    }
+
+    // =========================
+    // WRITE
+    // =========================
+
+    // Writes every payslip of the run to the stream, one after another.
+    // The stream is flushed but not closed. Returns the number written.
+    public int write(PayrollRun run, OutputStream out) throws IOException {
+
+        WritableByteChannel channel = Channels.newChannel(out);
+        PayPeriod period = new PayPeriod(run.getPeriodStart(), run.getPeriodEnd());
+
+        bytes.clear();
+        int written = 0;
+
+        for (PayrollResult result : run.getResults()) {
+            render(result, period);
+            encode(channel);
+            written++;
+        }
+
+        drain(channel);
+        out.flush();
+        return written;
+    }
+
+    // Writes each payslip of the run to its own file in the directory
+    // (created if missing), named payslip-<employee #>-<period start>.txt.
+    // Returns the number written.
+    public int writeToDirectory(PayrollRun run, Path directory) throws IOException {
+
+        Files.createDirectories(directory);
+        PayPeriod period = new PayPeriod(run.getPeriodStart(), run.getPeriodEnd());
+        String suffix = "-" + period.getStart() + ".txt";
+
+        int written = 0;
+
+        for (PayrollResult result : run.getResults()) {
+            Path file = directory.resolve("payslip-" + result.getEmployeeId() + suffix);
+
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+
+                bytes.clear();
+                render(result, period);
+                encode(channel);
+                drain(channel);
+            }
+            written++;
+        }
+
+        return written;
+    }
+
+    // Returns one payslip as text (same layout as the bulk output)
+    public String format(PayrollResult result, PayPeriod period) {
+        render(result, period);
+        return text.toString();
+    }
+
+    // =========================
+    // LAYOUT
+    // =========================
+
+    // Lays out one payslip in the reused text buffer
+    private void render(PayrollResult result, PayPeriod period) {
+
+        text.setLength(0);
+        text.append(RULE)
+            .append("MotorPH Payroll System\n")
+            .append("Pay Period: ").append(period).append('\n')
+            .append("Employee #: ").append(result.getEmployeeId()).append('\n')
+            .append("Employee: ").append(result.getEmployeeName()).append('\n')
+            .append(RULE);
+
+        // Hours to two decimals, laid out like an amount
+        line("Hours Worked:", Math.round(result.getHoursWorked() * 100));
+        line("Gross Salary:", result.getGrossSalary());
+        text.append(RULE);
+        line("SSS:", result.getSss());
+        line("PhilHealth:", result.getPhilHealth());
+        line("Pag-IBIG:", result.getPagIbig());
+        line("Withholding Tax:", result.getWithholdingTax());
+        line("Total Deductions:", result.getTotalDeductions());
+        text.append(RULE);
+        line("Net Salary:", result.getNetSalary());
+        text.append(RULE).append('\n');
+    }
+
+    // "Label:            1,234.56" with the amount right-aligned
+    private void line(String label, long hundredths) {
+
+        text.append(label).append(SPACES, 0, Math.max(1, LABEL_WIDTH - label.length()));
+
+        int start = text.length();
+        Money.appendTo(text, hundredths, true);
+        int padding = AMOUNT_WIDTH - (text.length() - start);
+        if (padding > 0) {
+            text.insert(start, SPACES, 0, padding);
+        }
+        text.append('\n');
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    // Encodes the text buffer into the byte buffer, writing the byte
+    // buffer out whenever it fills up
+    private void encode(WritableByteChannel channel) throws IOException {
+
+        encoder.reset();
+        CharBuffer chars = CharBuffer.wrap(text);
+
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (result.isOverflow()) {
+                drain(channel);
+                continue;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            break;
+        }
+
+        while (encoder.flush(bytes).isOverflow()) {
+            drain(channel);
+        }
+    }
+
+    // Writes out whatever is in the byte buffer
+    private void drain(WritableByteChannel channel) throws IOException {
+
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    // =========================
+    // COMMAND LINE
+    // =========================
+
+    public static void main(String[] args) throws IOException {
+
+        String period = null;
+        String out = null;
+        boolean split = false;
+        String employeeFile = "src/resources/employee_record.csv";
+        String attendanceFile = "src/resources/attendance_record.csv";
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--split")) {
+                split = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                System.err.println("Missing value for " + option);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--period":     period = value; break;
+                case "--out":        out = value; break;
+                case "--employees":  employeeFile = value; break;
+                case "--attendance": attendanceFile = value; break;
+                default:
+                    System.err.println("Unknown option: " + option);
+                    return;
+            }
+        }
+
+        if (period == null || (split && out == null)) {
+            System.err.println("Usage: PayslipWriter --period \"YYYY-MM-DD to YYYY-MM-DD\" [--out PATH [--split]]");
+            return;
+        }
+
+        PayrollService payrollService = new PayrollService(new AttendanceRepository(attendanceFile));
+        PayrollRun run = payrollService.runPayroll(
+                new EmployeeRepository(employeeFile).getAllEmployees(), PayPeriod.parse(period));
+
+        PayslipWriter writer = new PayslipWriter();
+        long start = System.nanoTime();
+        int written;
+
+        if (split) {
+            written = writer.writeToDirectory(run, Paths.get(out));
+        } else if (out == null) {
+            written = writer.write(run, System.out);
+        } else {
+            try (OutputStream file = Files.newOutputStream(Paths.get(out))) {
+                written = writer.write(run, file);
+            }
+        }
+
+        System.err.printf("Wrote %d payslips for %s in %.1f ms%n",
+                written, period, (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.Set;
+
+import model.Permission;
+
+/*
+ * Class: Session
+ * Description: One logged-in user, as handed out by SessionManager.
+ *
+ *              The token is the only thing a client needs to keep; the
+ *              employee's ID, name and permissions are fixed at login, so
+ *              role checks never go back to the Employee object. Only the
+ *              time of last use changes, and only SessionManager changes it.
+ */
+
+public final class Session {
+
+    private final String token;
+    private final int employeeId;
+    private final String fullName;
+    private final Set<Permission> permissions;
+
+    // Clock reading (ns) of the last lookup through SessionManager
+    private volatile long lastAccessNanos;
+
+    // =========================
+    // CONSTRUCTOR
+    // =========================
+
+    Session(String token, int employeeId, String fullName,
+            Set<Permission> permissions, long nowNanos) {
+        this.token = token;
+        this.employeeId = employeeId;
+        this.fullName = fullName;
+        this.permissions = permissions;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    // =========================
+    // GETTERS
+    // =========================
+
+    // GET Opaque session token
+    public String getToken() {
+        return token;
+    }
+
+    // GET ID of the logged-in employee
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    // GET Name of the logged-in employee, as it was at login
+    public String getFullName() {
+        return fullName;
+    }
+
+    // GET Permissions granted at login (unmodifiable)
+    public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public boolean hasPermission(Permission permission) {
+        return permissions.contains(permission);
+    }
+
+    // =========================
+    // ACCESS TIME
+    // =========================
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long nowNanos) {
+        lastAccessNanos = nowNanos;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import model.Employee;
+import model.Permission;
+
+/*
+ * Class: SessionManager
+ * Description: Store of logged-in sessions, shared by the GUI and any other
+ *              front end (a headless API only needs the token).
+ *
+ *              open() is called once per successful login and returns a
+ *              Session with a random 256-bit token and the employee's
+ *              permissions worked out once. find(token) returns the live
+ *              session and marks it as used; a session unused for longer
+ *              than the idle timeout is gone.
+ *
+ *              Expired sessions are removed by one daemon thread, started
+ *              with the first session and run every SWEEP_INTERVAL, so the
+ *              lookups themselves stay a single map read. find() also checks
+ *              the timeout, so a session never outlives it between sweeps.
+ *
+ *              The idle timeout defaults to DEFAULT_IDLE_MINUTES and can be
+ *              changed with the system property motorph.session.idle.minutes.
+ *
+ *              Thread-safe.
+ */
+
+public class SessionManager implements AutoCloseable {
+
+    public static final String IDLE_MINUTES_PROPERTY = "motorph.session.idle.minutes";
+    public static final int DEFAULT_IDLE_MINUTES = 30;
+
+    public static final long SWEEP_INTERVAL_SECONDS = 60;
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private ScheduledExecutorService sweeper;
+
+    // =========================
+    // CONSTRUCTORS
+    // =========================
+
+    // Uses motorph.session.idle.minutes, or DEFAULT_IDLE_MINUTES if unset
+    public SessionManager() {
+        this(TimeUnit.MINUTES.toNanos(Integer.getInteger(IDLE_MINUTES_PROPERTY, DEFAULT_IDLE_MINUTES)),
+             System::nanoTime);
+    }
+
+    public SessionManager(long idleTimeoutNanos, LongSupplier nanoClock) {
+        if (idleTimeoutNanos <= 0) {
+            throw new IllegalArgumentException("idle timeout must be positive: " + idleTimeoutNanos);
+        }
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    // =========================
+    // OPEN / FIND / CLOSE
+    // =========================
+
+    // Starts a session for an authenticated employee
+    public Session open(Employee employee) {
+
+        String token;
+        Session session;
+        do {
+            token = newToken();
+            session = new Session(token, employee.getEmployeeId(), employee.getFullName(),
+                    Permission.of(employee), nanoClock.getAsLong());
+        } while (sessions.putIfAbsent(token, session) != null);
+
+        startSweeper();
+        return session;
+    }
+
+    // Returns the live session for the token and marks it as used,
+    // or null if the token is unknown, ended or idle too long
+    public Session find(String token) {
+
+        if (token == null) return null;
+
+        Session session = sessions.get(token);
+        if (session == null) return null;
+
+        long now = nanoClock.getAsLong();
+        if (isExpired(session, now)) {
+            sessions.remove(token, session);
+            return null;
+        }
+
+        session.touch(now);
+        return session;
+    }
+
+    // Ends the session (logout); unknown tokens are ignored
+    public void end(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    // GET Number of sessions not yet removed
+    public int size() {
+        return sessions.size();
+    }
+
+    // =========================
+    // SWEEP
+    // =========================
+
+    // Removes every expired session; returns how many were removed
+    public int sweep() {
+
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+
+        for (Session session : sessions.values()) {
+            if (isExpired(session, now) && sessions.remove(session.getToken(), session)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    // Stops the sweeper thread; sessions stay valid until they expire
+    @Override
+    public synchronized void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private boolean isExpired(Session session, long nowNanos) {
+        return nowNanos - session.getLastAccessNanos() > idleTimeoutNanos;
+    }
+
+    private synchronized void startSweeper() {
+
+        if (sweeper != null) return;
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep,
+                SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -6,30 +6,34 @@
 
 package ui;
 
+import model.Employee;
+import model.EmploymentStatus;
+import service.ApplicationContext;
+import service.EmployeeService;
+
 import javax.swing.JOptionPane;
 import javax.swing.WindowConstants;
 
 /*
  * Class: AddNewEmployeeForm
  * Description: GUI for capturing and validating a new employee’s details before saving.
+ *              Saves through the shared EmployeeService of the ApplicationContext.
  */
 public class AddNewEmployeeForm extends javax.swing.JFrame {
 
-    /** Reference to parent directory for table refresh */
-    private EmployeeDirectoryPanel directoryPanel;
+    /** Shared repositories and services */
+    private final ApplicationContext context;
 
-    /** Constructor that initializes the form with a directory panel reference */
-    public AddNewEmployeeForm(EmployeeDirectoryPanel directoryPanel) {
-        this.directoryPanel = directoryPanel;
+    /**
+     * Constructor that initializes the form. Open directory tables pick up
+     * the new employee through the repository's change events.
+     */
+    public AddNewEmployeeForm(ApplicationContext context) {
+        this.context = context;
         initComponents();
         setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
     }
 
-    /** Default constructor that initializes the form without a directory panel reference */
-    public AddNewEmployeeForm() {
-        this(null);
-    }
-
     /** NetBeans-generated UI setup */
     @SuppressWarnings("unchecked")
     // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
@@ -374,80 +378,59 @@ public class AddNewEmployeeForm extends javax.swing.JFrame {
             return;
         }
 
-        // Populate new Employee model
-        EmployeeModelFromFile model = new EmployeeModelFromFile();
-        Employee newEmp = new Employee();
-        newEmp.setEmpNo(empNoText);
-        newEmp.setLastName(jTextFieldLastName.getText());
-        newEmp.setFirstName(jTextFieldFirstName.getText());
-        newEmp.setBirthday(jTextFieldBirthDate.getText());
-        newEmp.setAddress(jTextFieldAddress.getText());
-        newEmp.setPhoneNo(phoneText);
-        newEmp.setSssNo(sssStr);
-        newEmp.setPhilHealthNo(philStr);
-        newEmp.setTinNo(tinStr);
-        newEmp.setPagibigNo(pagibigStr);
-        newEmp.setStatus(jTextFieldStatus.getText());
-        newEmp.setPosition(jTextFieldPosition.getText());
-        newEmp.setSupervisor(jTextFieldImmediateSupervisor.getText());
-
+        // Validate Status input
+        EmploymentStatus status;
         try {
-            // Parse and set salary fields
-            double basicSalary        = Double.parseDouble(jTextFieldBasicSalary.getText().replace(",", ""));
-            double riceSubsidy        = Double.parseDouble(jTextFieldRiceSubsidy.getText().replace(",", ""));
-            double phoneAllowance     = Double.parseDouble(jTextFieldPhoneAllowance.getText().replace(",", ""));
-            double clothingAllowance  = Double.parseDouble(jTextFieldClothingAllowance.getText().replace(",", ""));
-            double semiMonthlyRate    = Double.parseDouble(jTextFieldGrossSemiMonthlyRate.getText().replace(",", ""));
-            double hourlyRate         = semiMonthlyRate / 84.0;
-
-            newEmp.setBasicSalary(basicSalary);
-            newEmp.setRiceSubsidy(riceSubsidy);
-            newEmp.setPhoneAllowance(phoneAllowance);
-            newEmp.setClothingAllowance(clothingAllowance);
-            newEmp.setSemiMonthlyRate(semiMonthlyRate);
-            newEmp.setHourlyRate(hourlyRate);
-
-        // ===== Duplicate‑EmpNo check =====
-        for (Employee existing : model.getEmployeeModelList()) {
-            if (existing.getEmpNo().equals(newEmp.getEmpNo())) {
-                JOptionPane.showMessageDialog(
-                    this,
-                    "An employee with number " + newEmp.getEmpNo() + " already exists.\n" +
-                    "Please choose a different Employee Number.",
-                    "Duplicate Employee Number",
-                    JOptionPane.ERROR_MESSAGE
-                );
-                return;
-            }
-}
-            
-            // Attempt to add employee
-            boolean success = model.addEmployee(newEmp);
-            if (success) {
-                JOptionPane.showMessageDialog(this, "Employee record added successfully.");
-                if (directoryPanel != null) {
-                    directoryPanel.loadEmployeeDataToTable();
-                }
-                dispose();
-            } else {
-                JOptionPane.showMessageDialog(this, "Failed to add employee. Please try again.");
-            }
-
-        } catch (NumberFormatException ex) {
+            status = EmploymentStatus.parse(jTextFieldStatus.getText());
+        } catch (IllegalArgumentException iae) {
             JOptionPane.showMessageDialog(
                 this,
-                "Please enter valid numbers in the Salary Information fields.",
+                "Please enter a Status of Regular or Probationary.",
                 "Input Error",
                 JOptionPane.ERROR_MESSAGE
             );
-        } catch (Exception ex) {
+            return;
+        }
+
+        EmployeeService employeeService = context.getEmployeeService();
+
+        // ===== Duplicate‑EmpNo check =====
+        if (employeeService.getEmployeeById(empNoInt) != null) {
             JOptionPane.showMessageDialog(
                 this,
-                "An unexpected error occurred while adding the employee.",
-                "Error",
+                "An employee with number " + empNoInt + " already exists.\n" +
+                "Please choose a different Employee Number.",
+                "Duplicate Employee Number",
                 JOptionPane.ERROR_MESSAGE
             );
-            ex.printStackTrace();
+            return;
+        }
+
+        // Populate new Employee model (salary and allowances start at zero;
+        // this form has no salary section)
+        Employee newEmp = employeeService.createEmployee(
+                empNoInt,
+                jTextFieldFirstName.getText().trim(),
+                jTextFieldLastName.getText().trim(),
+                jTextFieldBirthDate.getText().trim(),
+                jTextFieldPosition.getText().trim(),
+                0, 0, 0, 0,
+                status);
+        newEmp.setAddress(jTextFieldAddress.getText().trim());
+        newEmp.setPhoneNumber(phoneText);
+        newEmp.setSssNumber(sssStr);
+        newEmp.setPhilHealthNumber(philStr);
+        newEmp.setTinNumber(tinStr);
+        newEmp.setPagIbigNumber(pagibigStr);
+        newEmp.setImmediateSupervisor(jTextFieldImmediateSupervisor.getText().trim());
+
+        // Attempt to add employee
+        boolean success = employeeService.addEmployee(newEmp);
+        if (success) {
+            JOptionPane.showMessageDialog(this, "Employee record added successfully.");
+            dispose();
+        } else {
+            JOptionPane.showMessageDialog(this, "Failed to add employee. Please try again.");
         }
     }//GEN-LAST:event_jButtonSubmitActionPerformed
 
@@ -487,7 +470,7 @@ public class AddNewEmployeeForm extends javax.swing.JFrame {
         /* Create and display the form */
         java.awt.EventQueue.invokeLater(new Runnable() {
             public void run() {
-                new AddNewEmployeeForm().setVisible(true);
+                new AddNewEmployeeForm(new ApplicationContext()).setVisible(true);
             }
         });
     }
@@ -0,0 +1,95 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package ui;
+
+import java.awt.Cursor;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import javax.swing.JComponent;
+import javax.swing.SwingWorker;
+
+/*
+ * Class: BackgroundComputation
+ * Description: Runs a panel's payroll computation on a SwingWorker thread,
+ *              keeping the Event Dispatch Thread free while attendance is
+ *              loaded and summed.
+ *
+ *              Only the latest request counts: starting a new one (or calling
+ *              cancel) cancels the one still running, and a cancelled or
+ *              superseded worker never reaches its callbacks. While a
+ *              computation runs, the owning panel shows a wait cursor.
+ *
+ *              All methods must be called on the EDT; callbacks run on the EDT.
+ */
+
+final class BackgroundComputation<T> {
+
+    private final JComponent owner;
+    private SwingWorker<T, Void> current;
+
+    BackgroundComputation(JComponent owner) {
+        this.owner = owner;
+    }
+
+    // =========================
+    // START / CANCEL
+    // =========================
+
+    // Starts the work in the background, cancelling any earlier request.
+    // onResult receives the value, onError the cause if the work threw.
+    void start(Callable<T> work, Consumer<T> onResult, Consumer<Throwable> onError) {
+
+        cancel();
+
+        SwingWorker<T, Void> worker = new SwingWorker<T, Void>() {
+
+            @Override
+            protected T doInBackground() throws Exception {
+                return work.call();
+            }
+
+            @Override
+            protected void done() {
+
+                if (current != this) return;   // superseded or cancelled
+                finish();
+
+                try {
+                    onResult.accept(get());
+                } catch (ExecutionException e) {
+                    onError.accept(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        current = worker;
+        owner.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        worker.execute();
+    }
+
+    // Cancels the running request, if any; its callbacks will not run
+    void cancel() {
+
+        if (current != null) {
+            current.cancel(true);
+            finish();
+        }
+    }
+
+    // =========================
+    // HELPER METHODS
+    // =========================
+
+    private void finish() {
+        current = null;
+        owner.setCursor(Cursor.getDefaultCursor());
+    }
+}
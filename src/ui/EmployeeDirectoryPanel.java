@@ -6,22 +6,39 @@
 
 package ui;
 
+import model.Employee;
+import service.ApplicationContext;
+import service.EmployeeSearchIndex;
+import service.EmployeeService;
+
 import javax.swing.*;
 import javax.swing.SwingConstants;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 
 /*
  * Class: EmployeeDirectoryPanel
  * Description: Panel displaying a table of all employees with controls to view details
- *              or add a new employee.
+ *              or add a new employee. Employee data comes from the shared
+ *              EmployeeService of the ApplicationContext (no file is read here).
+ *              The search box filters the table on every keystroke through
+ *              the context's EmployeeSearchIndex.
  */
 public class EmployeeDirectoryPanel extends JPanel {
 
-    /** Model for loading and saving employee data from file */
-    private EmployeeModelFromFile employeeModel;
-    /** Index of the currently selected row in the table */
-    private int selectedRow = -1;
+    /** Shared repositories and services */
+    private final ApplicationContext context;
+    /** Employee service used for reads and changes */
+    private final EmployeeService employeeService;
+    /** Table model reading cells straight from the employee list */
+    private final EmployeeTableModel tableModel = new EmployeeTableModel();
+    /** Index answering the search box */
+    private final EmployeeSearchIndex searchIndex;
+    /** Type-ahead search over ID, names, position, department and government IDs */
+    private final JTextField txtSearch = new JTextField();
+    /** Employee number shown in the form (-1 = none); rows move as events arrive, IDs do not */
+    private int selectedEmployeeId = -1;
     /** Panel for displaying detailed information on a selected employee */
     private EmployeeInformationPanel empInformationPanel;
 
@@ -34,20 +51,36 @@ public class EmployeeDirectoryPanel extends JPanel {
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
             frame.setSize(531, 445);
             frame.setLocationRelativeTo(null);          // center on screen
-            frame.add(new EmployeeDirectoryPanel());
+            frame.add(new EmployeeDirectoryPanel(new ApplicationContext()));
             frame.setVisible(true);
         });
     }
 
     /**
-     * Constructor: initializes UI components, formats the table, and loads data.
+     * Constructor: initializes UI components and formats the table.
      */
-    public EmployeeDirectoryPanel() {
+    public EmployeeDirectoryPanel(ApplicationContext context) {
+        this.context = context;
+        this.employeeService = context.getEmployeeService();
+        this.searchIndex = context.getEmployeeSearchIndex();
         initComponents();
+        initSearch();
+
+        // The employee number is the record key and cannot be edited
+        txtOutputEmployeeNO.setEditable(false);
 
-        // Remove any placeholder rows
-        DefaultTableModel model = (DefaultTableModel) tableDirectory.getModel();
-        model.setRowCount(0);
+        // Replace the designer's DefaultTableModel, keeping its columns
+        // (widths and resizability) as laid out in the form
+        tableDirectory.setAutoCreateColumnsFromModel(false);
+        tableDirectory.setModel(tableModel);
+
+        // Drop the selection once its row leaves the table (deleted, or
+        // edited so it no longer matches the search)
+        tableModel.addTableModelListener(e -> {
+            if (selectedEmployeeId >= 0 && tableModel.indexOf(selectedEmployeeId) < 0) {
+                clearSelection();
+            }
+        });
 
         // Make header font bold at size 12
         tableDirectory.getTableHeader()
@@ -61,11 +94,29 @@ public class EmployeeDirectoryPanel extends JPanel {
 
         // Center all cell contents
         centerTableContents();
+    }
 
-        // Populate with employee records
+    /**
+     * Subscribes the table to repository changes and loads the roster
+     * whenever the panel is shown in a window.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        employeeService.addChangeListener(tableModel);
         loadEmployeeDataToTable();
     }
 
+    /**
+     * Unsubscribes the table once the panel leaves its window, so discarded
+     * panels are not kept alive by the repository.
+     */
+    @Override
+    public void removeNotify() {
+        employeeService.removeChangeListener(tableModel);
+        super.removeNotify();
+    }
+
     /**
      * Centers the text within every cell of the table.
      */
@@ -79,6 +130,26 @@ public class EmployeeDirectoryPanel extends JPanel {
         }
     }
 
+    /**
+     * Adds the search box under the action buttons and filters the
+     * table as the user types.
+     */
+    private void initSearch() {
+        JLabel lblSearch = new JLabel("Search");
+        lblSearch.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
+        txtSearch.setFont(new java.awt.Font("Arial", 0, 12));
+        txtSearch.setToolTipText("Employee NO., name, position, department or government ID");
+
+        add(lblSearch, new org.netbeans.lib.awtextra.AbsoluteConstraints(5, 70, 110, 20));
+        add(txtSearch, new org.netbeans.lib.awtextra.AbsoluteConstraints(5, 90, 110, 25));
+
+        txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+            public void insertUpdate(DocumentEvent e)  { loadEmployeeDataToTable(); }
+            public void removeUpdate(DocumentEvent e)  { loadEmployeeDataToTable(); }
+            public void changedUpdate(DocumentEvent e) { loadEmployeeDataToTable(); }
+        });
+    }
+
     /** NetBeans-generated UI setup (do not modify) */
     @SuppressWarnings("unchecked")
     // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
@@ -383,12 +454,12 @@ public class EmployeeDirectoryPanel extends JPanel {
      * or prompts the user to select one first.
      */
     private void viewBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_viewBtnActionPerformed
-        if (selectedRow < 0) {
+        if (selectedEmployeeId < 0) {
             JOptionPane.showMessageDialog(this,
                 "Please select an employee from the table first.");
             return;
         }
-        empInformationPanel = new EmployeeInformationPanel(this, selectedRow);
+        empInformationPanel = new EmployeeInformationPanel(context, selectedEmployeeId);
 
         JFrame frame = new JFrame("Employee Record");
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
@@ -396,120 +467,124 @@ public class EmployeeDirectoryPanel extends JPanel {
         frame.setLocationRelativeTo(null);
         frame.add(empInformationPanel);
         frame.setVisible(true);
-
-        empInformationPanel.loadEmployeeDataToFields(selectedRow, employeeModel);
     }//GEN-LAST:event_viewBtnActionPerformed
 
     /**
      * Opens the form to add a new employee.
      */
     private void addEmployeeBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_addEmployeeBtnActionPerformed
-        new AddNewEmployeeForm(this).setVisible(true);
+        new AddNewEmployeeForm(context).setVisible(true);
     }//GEN-LAST:event_addEmployeeBtnActionPerformed
 
     /**
      * Remember which row was clicked by the user.
      */
     private void tableDirectoryMouseClicked(java.awt.event.MouseEvent evt) {//GEN-FIRST:event_tableDirectoryMouseClicked
-        selectedRow = tableDirectory.getSelectedRow();
-        if (selectedRow < 0) return;
-
-        DefaultTableModel model = (DefaultTableModel) tableDirectory.getModel();
-     
-        txtOutputEmployeeNO.setText(model.getValueAt(selectedRow, 0).toString());
-        txtOutputLastName   .setText(model.getValueAt(selectedRow, 1).toString());
-        txtOutputFirstName  .setText(model.getValueAt(selectedRow, 2).toString());
-        txtOutputSSSNO      .setText(model.getValueAt(selectedRow, 3).toString());
-        txtOutputPhilHealthNO.setText(model.getValueAt(selectedRow, 4).toString());
-        txtOutputTINNO      .setText(model.getValueAt(selectedRow, 5).toString());
-        txtOutputPagIbigNO  .setText(model.getValueAt(selectedRow, 6).toString());
+        int row = tableDirectory.getSelectedRow();
+        if (row < 0) return;
+
+        Employee emp = tableModel.getEmployeeAt(row);
+        selectedEmployeeId = emp.getEmployeeId();
+
+        txtOutputEmployeeNO.setText(String.valueOf(emp.getEmployeeId()));
+        txtOutputLastName   .setText(emp.getLastName());
+        txtOutputFirstName  .setText(emp.getFirstName());
+        txtOutputSSSNO      .setText(emp.getSssNumber());
+        txtOutputPhilHealthNO.setText(emp.getPhilHealthNumber());
+        txtOutputTINNO      .setText(emp.getTinNumber());
+        txtOutputPagIbigNO  .setText(emp.getPagIbigNumber());
     }//GEN-LAST:event_tableDirectoryMouseClicked
 
     private void btnUpdateActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnUpdateActionPerformed
-        if (selectedRow < 0) {
+        Employee selected = selectedEmployee();
+        if (selected == null) {
         JOptionPane.showMessageDialog(this, "Please select an employee first.");
         return;
     }
         
-    DefaultTableModel model = (DefaultTableModel) tableDirectory.getModel();
+    // Edit a copy: the shared record changes only if the save succeeds
+    Employee emp = selected.copy();
+    emp.setLastName(        txtOutputLastName.getText().trim());
+    emp.setFirstName(       txtOutputFirstName.getText().trim());
+    emp.setSssNumber(       txtOutputSSSNO.getText().trim());
+    emp.setPhilHealthNumber(txtOutputPhilHealthNO.getText().trim());
+    emp.setTinNumber(       txtOutputTINNO.getText().trim());
+    emp.setPagIbigNumber(   txtOutputPagIbigNO.getText().trim());
+
+    // On success the repository's update event puts the copy in the table row
+    if (!employeeService.updateEmployee(emp)) {
+        JOptionPane.showMessageDialog(this, "Error saving employee.",
+                                      "Update Error", JOptionPane.ERROR_MESSAGE);
+        return;
+    }
 
-    
-    model.setValueAt(txtOutputEmployeeNO.getText(),    selectedRow, 0);
-    model.setValueAt(txtOutputLastName.getText(),      selectedRow, 1);
-    model.setValueAt(txtOutputFirstName.getText(),     selectedRow, 2);
-    model.setValueAt(txtOutputSSSNO.getText(),         selectedRow, 3);
-    model.setValueAt(txtOutputPhilHealthNO.getText(),  selectedRow, 4);
-    model.setValueAt(txtOutputTINNO.getText(),         selectedRow, 5);
-    model.setValueAt(txtOutputPagIbigNO.getText(),     selectedRow, 6);
-
-    Employee emp = employeeModel.getEmployeeModelList()[selectedRow];
-    emp.setEmpNo(      txtOutputEmployeeNO.getText());
-    emp.setLastName(   txtOutputLastName.getText());
-    emp.setFirstName(  txtOutputFirstName.getText());
-    emp.setSssNo(      txtOutputSSSNO.getText());
-    emp.setPhilHealthNo(txtOutputPhilHealthNO.getText());
-    emp.setTinNo(      txtOutputTINNO.getText());
-    emp.setPagibigNo(  txtOutputPagIbigNO.getText());
-    
     JOptionPane.showMessageDialog(this, "Employee updated successfully.");
     
     }//GEN-LAST:event_btnUpdateActionPerformed
 
     private void btnDeleteActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnDeleteActionPerformed
-        if (selectedRow < 0) {
+        Employee selected = selectedEmployee();
+        if (selected == null) {
         JOptionPane.showMessageDialog(this, "Please select an employee first.");
         return;
     }
     int choice = JOptionPane.showConfirmDialog(this,
-        "Are you sure you want to delete this employee?",
+        "Are you sure you want to delete employee " + selected.getEmployeeId()
+            + " (" + selected.getFullName() + ")?",
         "Confirm Delete", JOptionPane.YES_NO_OPTION);
     if (choice != JOptionPane.YES_OPTION) return;
 
-    // 1) Delete from the CSV via your model
-    boolean ok = employeeModel.deleteEmployee(selectedRow);
+    // 1) Delete through the shared service; the repository's delete
+    //    event removes the row from the table
+    boolean ok = employeeService.deleteEmployee(selected.getEmployeeId());
     if (!ok) {
         JOptionPane.showMessageDialog(this, "Error deleting employee from file.",
                                       "Delete Error", JOptionPane.ERROR_MESSAGE);
         return;
     }
 
-    // 2) Reload the JTable from the now‑updated model
-    loadEmployeeDataToTable();
-
-    // 3) Clear selection & form
-    selectedRow = -1;
-    txtOutputEmployeeNO.setText("");
-    txtOutputLastName .setText("");
-    txtOutputFirstName.setText("");
-    txtOutputSSSNO     .setText("");
-    txtOutputPhilHealthNO.setText("");
-    txtOutputTINNO     .setText("");
-    txtOutputPagIbigNO .setText("");
+    // 2) Clear selection & form
+    clearSelection();
 
     JOptionPane.showMessageDialog(this, "Employee deleted.");
     
     }//GEN-LAST:event_btnDeleteActionPerformed
 
     /**
-     * Loads all employees from file into the table.
+     * Loads the employees matching the search box (all of them when it is
+     * empty) from the search index into the table. The model keeps the
+     * list itself; cells are read when painted.
      */
-    public void loadEmployeeDataToTable(){
-        DefaultTableModel model = (DefaultTableModel) tableDirectory.getModel();
-        model.setRowCount(0);
-        employeeModel = new EmployeeModelFromFile();
-        for (Employee emp : employeeModel.getEmployeeModelList()) {
-            model.addRow(new Object[]{
-                emp.getEmpNo(),
-                emp.getLastName(),
-                emp.getFirstName(),
-                emp.getSssNo(),
-                emp.getPhilHealthNo(),
-                emp.getTinNo(),
-                emp.getPagibigNo()
-            });
-        }
+    private void loadEmployeeDataToTable(){
+        String query = txtSearch.getText();
+        tableModel.setEmployees(searchIndex.search(query),
+                employee -> EmployeeSearchIndex.matches(query, employee));
     }
     
+    /**
+     * The employee shown in the form, as currently listed in the table,
+     * or null if nothing is selected.
+     */
+    private Employee selectedEmployee() {
+        int row = (selectedEmployeeId < 0) ? -1 : tableModel.indexOf(selectedEmployeeId);
+        return (row < 0) ? null : tableModel.getEmployeeAt(row);
+    }
+
+    /**
+     * Forgets the selected employee and clears the form.
+     */
+    private void clearSelection() {
+        selectedEmployeeId = -1;
+        tableDirectory.clearSelection();
+        txtOutputEmployeeNO.setText("");
+        txtOutputLastName .setText("");
+        txtOutputFirstName.setText("");
+        txtOutputSSSNO     .setText("");
+        txtOutputPhilHealthNO.setText("");
+        txtOutputTINNO     .setText("");
+        txtOutputPagIbigNO .setText("");
+    }
+
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JPanel actionPanel;
     private javax.swing.JButton addEmployeeBtn;
@@ -5,154 +5,74 @@
  */
 package ui;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import model.Employee;
+import model.Money;
+import service.ApplicationContext;
+import service.EmployeeService;
+
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 
 /*
  * Class: EmployeeInformationPanel
  * Description: Displays an employee’s personal & employment details,
- *              loads attendance from CSV, and computes payslip.
+ *              read from the shared EmployeeService of the ApplicationContext.
  */
 public class EmployeeInformationPanel extends JPanel {
 
-    /** Parent directory panel for refreshing the list */
-    private EmployeeDirectoryPanel directoryPanel;
-    /** Index of the currently selected employee */
-    private int employeeIndex;
+    /** Employee service used to look up the record */
+    private final EmployeeService employeeService;
     /** Employee number for current record */
-    private String selectedEmpNo = "";
-    /** Holds time‐record data for payroll calculations */
-    private EmployeeTimeRecord employeeTimeRecord;
-
-
-    /** CSV file path for attendance records */
-    private static final String ATTENDANCE_FILE = "src/resources/attendance_record.csv";
-    /** ISO date formatter for parsing pay periods */
-    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private int selectedEmpNo;
 
     /**
-     * Constructor: sets up UI, loads employee data & attendance,
-     * populates pay‐period dropdown, and instantiates the edit form.
+     * Constructor: sets up UI and loads the employee's personal and
+     * employment info.
      */
-    public EmployeeInformationPanel(EmployeeDirectoryPanel directoryPanel, int employeeIndex) {
+    public EmployeeInformationPanel(ApplicationContext context, int employeeId) {
         initComponents();
 
         // Fix panel to 500×500
-        setPreferredSize(new java.awt.Dimension(500, 500));
         setMinimumSize(new java.awt.Dimension(500, 500));
         setMaximumSize(new java.awt.Dimension(500, 500));
-        jTabbedPane8.setPreferredSize(new java.awt.Dimension(500, 500));
-
-        this.directoryPanel = directoryPanel;
-        this.employeeIndex  = employeeIndex;
 
-        // Load personal & employment info, plus attendance
-        loadEmployeeDataToFields(employeeIndex, new EmployeeModelFromFile());
+        this.employeeService = context.getEmployeeService();
 
-        // Fill pay‐period choices
-        populateDateRanges();
-        
+        // Load personal & employment info
+        loadEmployeeDetails(employeeId);
     }
 
-
     /**
-     * Loads personal & employment data into the UI fields,
-     * then reads that employee’s attendance from the CSV.
+     * Loads personal & employment data into the UI fields.
      */
-    public void loadEmployeeDataToFields(int empIndex, EmployeeModelFromFile model) {
-        Employee emp = model.getEmployeeModelList()[empIndex];
-        selectedEmpNo      = emp.getEmpNo();
-        employeeTimeRecord = new EmployeeTimeRecord(emp);
-
-        // Read all of this employee’s attendance
-        loadAttendanceFromCSV(ATTENDANCE_FILE, selectedEmpNo);
+    public void loadEmployeeDataToFields(Employee emp) {
+        selectedEmpNo = emp.getEmployeeId();
 
         // --- Personal info fields ---
-        empNumField.setText(emp.getEmpNo());
+        empNumField.setText(String.valueOf(emp.getEmployeeId()));
         nameField.setText(emp.getFirstName() + " " + emp.getLastName());
         birthdayField.setText(emp.getBirthday());
         addressField.setText(emp.getAddress());
-        phoneNoField.setText(emp.getPhoneNo());
-        sssField.setText(emp.getSssNo());
-        philHealthField.setText(emp.getPhilHealthNo());
-        pagIbigField.setText(emp.getPagibigNo());
-        tinField.setText(emp.getTinNo());
+        phoneNoField.setText(emp.getPhoneNumber());
+        sssField.setText(emp.getSssNumber());
+        philHealthField.setText(emp.getPhilHealthNumber());
+        pagIbigField.setText(emp.getPagIbigNumber());
+        tinField.setText(emp.getTinNumber());
 
         // --- Employment info fields ---
-        statusField.setText(emp.getStatus());
+        statusField.setText(emp.getEmploymentStatus().getLabel());
         positionField.setText(emp.getPosition());
-        supervisorField.setText(emp.getSupervisor());
-        salaryField.setText(String.valueOf(emp.getBasicSalary()));
-        riceField.setText(String.valueOf(emp.getRiceSubsidy()));
-        phoneField.setText(String.valueOf(emp.getPhoneAllowance()));
-        clothingField.setText(String.valueOf(emp.getClothingAllowance()));
-    }
-
-    /**
-     * Reads attendance CSV, filters by empNo, converts dates & times,
-     * and adds each day’s hours into employeeTimeRecord.
-     */
-    public void loadAttendanceFromCSV(String filename, String empNo) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            br.readLine(); // skip header
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] data = line.split(",");
-                if (data.length < 6 || !data[0].trim().equals(empNo)) {
-                    continue; // not this employee or malformed
-                }
-                String date       = formatDate(data[3].trim());
-                int timeIn        = parseHour(data[4].trim());
-                int timeOut       = parseHour(data[5].trim());
-                int hoursWorked   = timeOut - timeIn;
-                if (employeeTimeRecord != null && hoursWorked > 0) {
-                    employeeTimeRecord.addWorkHours(date, hoursWorked);
-                }
-            }
-        } catch (IOException ex) {
-            JOptionPane.showMessageDialog(this,
-                "Error reading attendance CSV: " + ex.getMessage());
-        }
-    }
-
-    /**
-     * Parses "HH:mm" into an integer hour, rounding up if minutes ≥30.
-     * Returns 0 on parse failure.
-     */
-    private int parseHour(String time) {
-        try {
-            String[] parts = time.split(":");
-            int hour   = Integer.parseInt(parts[0]);
-            int minute = Integer.parseInt(parts[1]);
-            return (minute >= 30) ? hour + 1 : hour;
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
-    /**
-     * Converts dates from "MM/dd/yyyy" to "yyyy-MM-dd".
-     * If parse fails, returns the original string.
-     */
-    private String formatDate(String rawDate) {
-        try {
-            Date parsed = new SimpleDateFormat("MM/dd/yyyy").parse(rawDate);
-            return new SimpleDateFormat("yyyy-MM-dd").format(parsed);
-        } catch (ParseException e) {
-            return rawDate;
-        }
+        supervisorField.setText(emp.getImmediateSupervisor());
+        salaryField.setText(Money.format(emp.getBasicSalary()));
+        riceField.setText(Money.format(emp.getRiceSubsidy()));
+        phoneField.setText(Money.format(emp.getPhoneAllowance()));
+        clothingField.setText(Money.format(emp.getClothingAllowance()));
     }
 
     /** Clears all UI fields and resets internal state */
     public void clearFields() {
+        selectedEmpNo = 0;
+
         empNumField.setText("");
         nameField.setText("");
         birthdayField.setText("");
@@ -169,54 +89,20 @@ public class EmployeeInformationPanel extends JPanel {
         riceField.setText("");
         phoneField.setText("");
         clothingField.setText("");
-
-        // Clear computed outputs
-        txtMonthlyRateOutput.setText("");
-        txtDailyRateOutput.setText("");
-        txtDaysWorkedOutput.setText("");
-        txtOvertimeOutput.setText("");
-        txtEarningsGrossIncomeOutput.setText("");
-        txtRiceSubsidyOutput.setText("");
-        txtPhoneAllowanceOutput.setText("");
-        txtClothingAllowanceOutput.setText("");
-        txtTotalOutput1.setText("");
-        txtSSSOutput.setText("");
-        txtPhHealthOutput.setText("");
-        txtPagIbigOutput.setText("");
-        txtWithholdingTaxOutput.setText("");
-        txtTotalDeductionsOutput.setText("");
-        txtGrossIncomeOutput.setText("");
-        txtSummaryBenefitsOutput.setText("");
-        txtSummaryDeductionsOutput.setText("");
-        txtTakeHomePayOutput.setText("0.00");
-
-        employeeTimeRecord = null;
-        selectedEmpNo      = "";
     }
 
     /**
      * Refreshes the panel to show details for a different employee.
-     * @param empIndex the index of the employee to load
+     * @param employeeId the employee number to load
      */
-    public void loadEmployeeDetails(int empIndex) {
-        this.employeeIndex = empIndex;
-        loadEmployeeDataToFields(empIndex, new EmployeeModelFromFile());
-    }
-
-    /** Fills the pay‐period combo box with hard‐coded date ranges */
-    private void populateDateRanges() {
-        String[] ranges = {
-            "2024-06-01 to 2024-06-15", "2024-06-16 to 2024-06-30",
-            "2024-07-01 to 2024-07-15", "2024-07-16 to 2024-07-31",
-            "2024-08-01 to 2024-08-15", "2024-08-16 to 2024-08-31",
-            "2024-09-01 to 2024-09-15", "2024-09-16 to 2024-09-30",
-            "2024-10-01 to 2024-10-15", "2024-10-16 to 2024-10-31",
-            "2024-11-01 to 2024-11-15", "2024-11-16 to 2024-11-30",
-            "2024-12-01 to 2024-12-15", "2024-12-16 to 2024-12-31"
-        };
-        for (String range : ranges) {
-            jcbDateRange.addItem(range);
+    public void loadEmployeeDetails(int employeeId) {
+        Employee emp = employeeService.getEmployeeById(employeeId);
+        if (emp == null) {
+            JOptionPane.showMessageDialog(this, "Employee " + employeeId + " not found.");
+            clearFields();
+            return;
         }
+        loadEmployeeDataToFields(emp);
     }
 
     /** NetBeans-generated UI setup (do not modify) */
@@ -0,0 +1,196 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+import model.Employee;
+import repository.EmployeeChangeListener;
+
+/*
+ * Class: EmployeeTableModel
+ * Description: Read-only table model for the employee directory.
+ *
+ *              Cells are read straight from the Employee objects when the
+ *              JTable paints them, so only visible rows are ever touched and
+ *              no per-row Object[]/Vector copy of the roster is built.
+ *              Replacing the list fires a single fireTableDataChanged.
+ *
+ *              As an EmployeeChangeListener it patches one row per
+ *              repository add/update/delete (fireTableRowsInserted/Updated/
+ *              Deleted), so single-record edits never reload the roster.
+ *              Events raised off the EDT are re-posted to it.
+ *
+ *              When the rows are a search result, the filter given with
+ *              them decides whether added or updated employees belong in
+ *              the table, so events keep the result consistent.
+ *
+ *              Must otherwise be used on the Event Dispatch Thread.
+ */
+
+final class EmployeeTableModel extends AbstractTableModel implements EmployeeChangeListener {
+
+    private static final String[] COLUMN_NAMES = {
+        "Employee NO.", "Last Name", "First Name", "SSS NO.",
+        "PhilHealth NO.", "TIN NO.", "Pag-IBIG NO."
+    };
+
+    private static final Class<?>[] COLUMN_TYPES = {
+        Integer.class, String.class, String.class, String.class,
+        String.class, String.class, String.class
+    };
+
+    private List<Employee> employees = new ArrayList<>();
+    private Predicate<Employee> filter = employee -> true;
+
+    // =========================
+    // DATA
+    // =========================
+
+    // Shows the given employees in list order. The list is not copied:
+    // the model takes it over and edits it as change events arrive.
+    void setEmployees(List<Employee> employees) {
+        setEmployees(employees, employee -> true);
+    }
+
+    // Shows a filtered list; filter must accept exactly the listed employees
+    void setEmployees(List<Employee> employees, Predicate<Employee> filter) {
+        this.employees = employees;
+        this.filter = filter;
+        fireTableDataChanged();
+    }
+
+    // GET EMPLOYEE AT ROW
+    Employee getEmployeeAt(int row) {
+        return employees.get(row);
+    }
+
+    // Returns the row holding this employee ID, or -1
+    int indexOf(int employeeId) {
+        for (int row = 0; row < employees.size(); row++) {
+            if (employees.get(row).getEmployeeId() == employeeId) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    // =========================
+    // REPOSITORY CHANGES
+    // =========================
+
+    @Override
+    public void employeeAdded(Employee employee) {
+
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> employeeAdded(employee));
+            return;
+        }
+
+        // Already present if the list was loaded after the change was made
+        if (indexOf(employee.getEmployeeId()) >= 0) {
+            employeeUpdated(employee);
+            return;
+        }
+
+        if (filter.test(employee)) {
+            appendRow(employee);
+        }
+    }
+
+    @Override
+    public void employeeUpdated(Employee employee) {
+
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> employeeUpdated(employee));
+            return;
+        }
+
+        int row = indexOf(employee.getEmployeeId());
+        boolean included = filter.test(employee);
+
+        if (row < 0) {
+            if (included) appendRow(employee);   // now matches the search
+        } else if (!included) {
+            removeRow(row);                      // no longer matches
+        } else {
+            employees.set(row, employee);
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    @Override
+    public void employeeRemoved(int employeeId) {
+
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> employeeRemoved(employeeId));
+            return;
+        }
+
+        int row = indexOf(employeeId);
+        if (row >= 0) {
+            removeRow(row);
+        }
+    }
+
+    private void appendRow(Employee employee) {
+        int row = employees.size();
+        employees.add(employee);
+        fireTableRowsInserted(row, row);
+    }
+
+    private void removeRow(int row) {
+        employees.remove(row);
+        fireTableRowsDeleted(row, row);
+    }
+
+    // =========================
+    // TABLE MODEL
+    // =========================
+
+    @Override
+    public int getRowCount() {
+        return employees.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return COLUMN_TYPES[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+
+        Employee emp = employees.get(row);
+
+        switch (column) {
+            case 0: return emp.getEmployeeId();
+            case 1: return emp.getLastName();
+            case 2: return emp.getFirstName();
+            case 3: return emp.getSssNumber();
+            case 4: return emp.getPhilHealthNumber();
+            case 5: return emp.getTinNumber();
+            case 6: return emp.getPagIbigNumber();
+            default: return null;
+        }
+    }
+}
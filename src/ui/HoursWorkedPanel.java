@@ -7,15 +7,22 @@
 package ui;
 
 import model.Employee;
+import model.Money;
+import model.PayPeriod;
 import service.EmployeeService;
 import service.PayrollService;
 
+import java.util.Collections;
+import java.util.List;
+
 import javax.swing.JOptionPane;
 
 /*
  * Class: HoursWorkedPanel
  * Description: GUI panel that fetches an employee by ID and computes salary
  *              based on actual hours worked within a selected pay period.
+ *              The computation runs in the background so the window stays
+ *              responsive; changing the employee or pay period cancels it.
  */
 
 /*
@@ -30,6 +37,12 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
     private final PayrollService payrollService;
     private Employee currentEmployee;
 
+    private final BackgroundComputation<Long> salaryComputation = new BackgroundComputation<>(this);
+    private final BackgroundComputation<List<PayPeriod>> payPeriodLoading = new BackgroundComputation<>(this);
+
+    // Pay periods in combo box order (after the placeholder item)
+    private List<PayPeriod> payPeriods = Collections.emptyList();
+
     // CONSTRUCTOR
     // Initializes UI and service dependencies
     public HoursWorkedPanel(EmployeeService employeeService,
@@ -39,35 +52,40 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
         this.employeeService = employeeService;
         this.payrollService = payrollService;
         
-        populateDateRanges();
+        populatePayPeriods();
         clearOutputs();
+
+        jcbDateRange.addActionListener(evt -> payPeriodChanged());
     }
 
-    // METHOD NAME: populateDateRanges
-    // Loads predefined pay period ranges into the combo box.
-    private void populateDateRanges() {
-
-        String[] ranges = {
-                "2024-06-01 to 2024-06-15", "2024-06-16 to 2024-06-30",
-                "2024-07-01 to 2024-07-15", "2024-07-16 to 2024-07-31",
-                "2024-08-01 to 2024-08-15", "2024-08-16 to 2024-08-31",
-                "2024-09-01 to 2024-09-15", "2024-09-16 to 2024-09-30",
-                "2024-10-01 to 2024-10-15", "2024-10-16 to 2024-10-31",
-                "2024-11-01 to 2024-11-15", "2024-11-16 to 2024-11-30",
-                "2024-12-01 to 2024-12-15", "2024-12-16 to 2024-12-31"
-        };
-
-        jcbDateRange.removeAllItems();
-        jcbDateRange.addItem("Select Pay Period...");
-        for (String r : ranges) {
-            jcbDateRange.addItem(r);
-        }
+    // METHOD NAME: populatePayPeriods
+    // Lists the pay periods covering the attendance on file (from the
+    // PayCalendar). Finding them loads attendance, so it runs in the background.
+    private void populatePayPeriods() {
+
+        payPeriodLoading.start(
+                payrollService::getPayPeriods,
+                periods -> {
+                    payPeriods = periods;
+                    for (PayPeriod period : periods) {
+                        jcbDateRange.addItem(period.toString());
+                    }
+                },
+                error -> JOptionPane.showMessageDialog(this, "Error loading pay periods: " + error.getMessage()));
+    }
+
+    // METHOD NAME: selectedPayPeriod
+    // The PayPeriod chosen in the combo box, or null for the placeholder.
+    private PayPeriod selectedPayPeriod() {
+        int index = jcbDateRange.getSelectedIndex() - 1;   // item 0 is "Select Pay Period..."
+        return (index >= 0 && index < payPeriods.size()) ? payPeriods.get(index) : null;
     }
 
     // METHOD NAME: fetchEmployee
     // Retrieves employee object from EmployeeService and updates UI outputs.
     private void fetchEmployee() {
 
+        salaryComputation.cancel();
         int employeeId;
 
         try {
@@ -89,7 +107,7 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
 
         labelOutputEmpNo.setText(String.valueOf(currentEmployee.getEmployeeId()));
         labelOutputName.setText(currentEmployee.getFullName());
-        labelOutputBasic.setText(String.format("%.2f", currentEmployee.getBasicSalary()));
+        labelOutputBasic.setText(Money.format(currentEmployee.getBasicSalary()));
         labelOutputHoursWorked.setText("");
     }
 
@@ -102,25 +120,35 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
             return;
         }
 
-        if (jcbDateRange.getSelectedItem() == null) {
-            JOptionPane.showMessageDialog(this, "Please select a pay period.");
-            return;
-        }
+        PayPeriod period = selectedPayPeriod();
 
-        String selectedRange = jcbDateRange.getSelectedItem().toString();
-
-        if ("Select Pay Period...".equals(selectedRange)) {
+        if (period == null) {
             JOptionPane.showMessageDialog(this, "Please select a pay period.");
             return;
         }
 
-        double hoursWorked = payrollService.calculateHoursWorked(currentEmployee, selectedRange);
-
-        // Salary-on-hours uses hourly rate derived from monthly salary basis
-        double hourlyRate = currentEmployee.getBasicSalary() / 160.0;
-        double salaryOnHours = hoursWorked * hourlyRate;
+        Employee employee = currentEmployee;
+        labelOutputHoursWorked.setText("Computing...");
+
+        salaryComputation.start(
+                () -> {
+                    double hoursWorked = payrollService.calculatePayrollResult(employee, period).getHoursWorked();
+
+                    // Salary-on-hours prorates the monthly salary over standard hours
+                    return payrollService.calculateBasicPay(employee, hoursWorked);
+                },
+                salaryOnHours -> labelOutputHoursWorked.setText(Money.format(salaryOnHours)),
+                error -> {
+                    labelOutputHoursWorked.setText("");
+                    JOptionPane.showMessageDialog(this, "Error computing salary: " + error.getMessage());
+                });
+    }
 
-        labelOutputHoursWorked.setText(String.format("%.2f", salaryOnHours));
+    // METHOD NAME: payPeriodChanged
+    // Drops the result of the previous pay period (running or shown).
+    private void payPeriodChanged() {
+        salaryComputation.cancel();
+        labelOutputHoursWorked.setText("");
     }
 
     // METHOD NAME: clearOutputs
@@ -327,7 +355,7 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
      * then displays the basic salary and computed amount.
      */
     private void btnCalculateSalaryActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnCalculateSalaryActionPerformed
-      
+        calculateSalaryOnHours();
     }//GEN-LAST:event_btnCalculateSalaryActionPerformed
 
     /**
@@ -335,7 +363,7 @@ public class HoursWorkedPanel extends javax.swing.JPanel {
      * and clears any previous salary‐on‐hours output.
      */
     private void buttonSubmitActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonSubmitActionPerformed
-
+        fetchEmployee();
     }//GEN-LAST:event_buttonSubmitActionPerformed
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
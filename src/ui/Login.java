@@ -7,20 +7,23 @@
 package ui;
 
 import javax.swing.JOptionPane;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 import model.Employee;
+import service.ApplicationContext;
 import service.AuthenticationService;
-import repository.EmployeeRepository;
+import service.Session;
 
 /*
  * Class: Login
  * Description: Handles user authentication using Employee ID as username
- *              and Birthday as password.
+ *              and the employee's password (the Birthday, MM/dd/yyyy, until
+ *              a new password is set) as password.
  *
- *              Delegates credential validation to AuthenticationService.
+ *              Delegates credential validation to AuthenticationService and
+ *              opens a Session for the user that logged in.
+ *              Owns the ApplicationContext of the session and hands it to
+ *              MotorPHGUI, so the roster read for login is the one the
+ *              dashboard uses.
  *
  * OOP PRINCIPLES APPLIED:
  *
@@ -37,19 +40,27 @@ public class Login extends javax.swing.JFrame {
     // ATTRIBUTES
     // =========================
 
+    private final ApplicationContext context;
     private final AuthenticationService authenticationService;
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
 
     private MotorPHGUI dashboard;
 
+    // Password hashing runs here, off the EDT
+    private final BackgroundComputation<Employee> authentication;
+
     // =========================
     // CONSTRUCTOR
     // =========================
 
     public Login() {
+        this(new ApplicationContext());
+    }
+
+    public Login(ApplicationContext context) {
         initComponents();
-        EmployeeRepository repository = new EmployeeRepository();
-        authenticationService = new AuthenticationService(repository);
+        this.context = context;
+        this.authenticationService = context.getAuthenticationService();
+        this.authentication = new BackgroundComputation<>(loginPanel);
     }
 
     /**
@@ -190,34 +201,60 @@ public class Login extends javax.swing.JFrame {
     // =========================
     private void loginBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_loginBtnActionPerformed
             String userInput = userIDField.getText().trim();
-            String birthdayInput = new String(passwordField.getPassword()).trim();
+            // Not trimmed: spaces are part of a password
+            String passwordInput = new String(passwordField.getPassword());
 
             if (!isInputValid(userInput, "userid") ||
-                !isInputValid(birthdayInput, "birthday")) {
+                !isInputValid(passwordInput, "password")) {
 
                 JOptionPane.showMessageDialog(loginPanel,
                         "Please enter valid credentials.\n" +
-                        "ID must be numeric and Birthday must be in MM/dd/yyyy format.");
+                        "ID must be numeric and a password is required.");
                 return;
             }
 
             int userID = Integer.parseInt(userInput);
 
             // SERVICE LAYER AUTHENTICATION
-            Employee authenticatedEmployee =
-                    authenticationService.authenticate(userID, birthdayInput);
+            // The password hash is deliberately slow, so it is checked on a
+            // worker thread; the button stays disabled until it answers
+            loginBtn.setEnabled(false);
+            authentication.start(
+                    () -> authenticationService.authenticate(userID, passwordInput),
+                    authenticatedEmployee -> {
+                        loginBtn.setEnabled(true);
+                        loginFinished(userID, authenticatedEmployee);
+                    },
+                    error -> {
+                        loginBtn.setEnabled(true);
+                        JOptionPane.showMessageDialog(loginPanel, "Error checking credentials: " + error.getMessage());
+                    });
+        }//GEN-LAST:event_loginBtnActionPerformed
 
-            if (authenticatedEmployee != null) {
+    // METHOD NAME: loginFinished
+    // Opens the dashboard for a successful login, or explains the refusal.
+    private void loginFinished(int userID, Employee authenticatedEmployee) {
 
-                dispose();
-                dashboard = new MotorPHGUI(authenticatedEmployee);
-                dashboard.setVisible(true);
+        if (authenticatedEmployee != null) {
 
+            Session session = context.getSessionManager().open(authenticatedEmployee);
+
+            dispose();
+            dashboard = new MotorPHGUI(context, session);
+            dashboard.setVisible(true);
+
+        } else {
+            long retryAfter = authenticationService.getRetryAfterMillis(userID);
+            if (retryAfter > 0) {
+                JOptionPane.showMessageDialog(loginPanel,
+                        "Too many failed attempts. Try again in "
+                        + ((retryAfter + 999) / 1000) + " seconds.");
             } else {
                 JOptionPane.showMessageDialog(loginPanel,
-                        "Invalid employee ID or birthday. Access denied.");
+                        "Invalid employee ID or password. Access denied.");
             }
-        }//GEN-LAST:event_loginBtnActionPerformed
+        }
+    }
 
     // =========================
     // INPUT VALIDATION (GUI LEVEL)
@@ -237,13 +274,10 @@ public class Login extends javax.swing.JFrame {
             }
         }
 
-        if (fieldType.equalsIgnoreCase("birthday")) {
-            try {
-                LocalDate.parse(input, formatter);
-                return true;
-            } catch (DateTimeParseException e) {
-                return false;
-            }
+        // Any non-blank password; birthdays and set passwords are both
+        // checked by AuthenticationService
+        if (fieldType.equalsIgnoreCase("password")) {
+            return true;
         }
 
         return false;
@@ -6,21 +6,40 @@
 
 package ui;
 
-import model.Employee;
+import model.Permission;
+import service.ApplicationContext;
+import service.Session;
+
 import java.awt.CardLayout;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
 
 /*
  * Class: MotorPHGUI
  * Description: Main dashboard frame that manages navigation
  *              and role-based panel visibility using CardLayout.
  *
+ *              Each panel is created the first time its card is shown and
+ *              kept for later visits. Panels the user's role cannot open are
+ *              never created. All panels share the ApplicationContext
+ *              passed in by Login.
+ *
+ *              The frame keeps only the token of the user's Session. Every
+ *              navigation looks the session up (which also keeps it alive)
+ *              and checks the permissions fixed at login; if the session has
+ *              expired or ended, the frame closes and Login is shown again.
+ *              Exit ends the session.
+ *
  * OOP PRINCIPLES APPLIED:
  *
  * 1. ABSTRACTION
  *    - Handles navigation logic only.
  *
  * 2. ENCAPSULATION
- *    - Controls panel access using permission methods.
+ *    - Controls panel access using the session's permissions.
  */
 
 public class MotorPHGUI extends javax.swing.JFrame {
@@ -29,70 +48,143 @@ public class MotorPHGUI extends javax.swing.JFrame {
     // ATTRIBUTES
     // =========================
 
-    private BlankPanel blankPanel;
-    private EmployeeDirectoryPanel empDirPanel;
-    private NetSalaryPanel netSalaryPanel;
-    private HoursWorkedPanel hoursWorkedPanel;
-    private ExitPanel exitPanel;
+    private static final String BLANK        = "BLANK";
+    private static final String EMP_DIR      = "EMP_DIR";
+    private static final String NET_SALARY   = "NET_SALARY";
+    private static final String HOURS_WORKED = "HOURS_WORKED";
+    private static final String EXIT_PANEL   = "EXIT_PANEL";
+
+    // Cards created so far, by CardLayout key
+    private final Map<String, JPanel> panels = new HashMap<>();
 
-    private Employee currentUser;
+    private final ApplicationContext context;
+    private final String sessionToken;
 
     // =========================
     // CONSTRUCTOR
     // =========================
 
-    public MotorPHGUI(Employee employee) {
+    public MotorPHGUI(ApplicationContext context, Session session) {
         initComponents();
 
-        this.currentUser = employee;
+        this.context = context;
+        this.sessionToken = session.getToken();
 
-        initializePanels();
-        applyRoleAccess();
+        initializePanels(session);
+        applyRoleAccess(session);
     }
 
     // =========================
     // INITIALIZE PANELS
     // =========================
 
-    private void initializePanels() {
+    // Only the blank card is created at login; the rest wait for navigation
+    private void initializePanels(Session session) {
+        showPanel(BLANK, "Welcome back, " + session.getFullName());
+    }
+
+    // =========================
+    // SHOW PANEL
+    // =========================
+
+    // Shows the card, creating its panel on first use.
+    // Does nothing if the user's role has no access to it.
+    private void showPanel(String key, String subHeader) {
 
-        blankPanel       = new BlankPanel();
-        empDirPanel      = new EmployeeDirectoryPanel(currentUser);
-        netSalaryPanel   = new NetSalaryPanel(currentUser);
-        hoursWorkedPanel = new HoursWorkedPanel(currentUser);
-        exitPanel        = new ExitPanel();
+        Session session = context.getSessionManager().find(sessionToken);
+        if (session == null) {
+            returnToLogin();
+            return;
+        }
 
-        panelCard.add(blankPanel,       "BLANK");
-        panelCard.add(empDirPanel,      "EMP_DIR");
-        panelCard.add(netSalaryPanel,   "NET_SALARY");
-        panelCard.add(hoursWorkedPanel, "HOURS_WORKED");
-        panelCard.add(exitPanel,        "EXIT_PANEL");
+        if (!canAccess(session, key)) {
+            return;
+        }
+
+        JPanel panel = panels.get(key);
+        if (panel == null) {
+            panel = createPanel(key);
+            panels.put(key, panel);
+            panelCard.add(panel, key);
+        }
 
         CardLayout cl = (CardLayout) panelCard.getLayout();
-        cl.show(panelCard, "BLANK");
+        cl.show(panelCard, key);
+        labelSubHeader.setText(subHeader);
+    }
 
-        labelSubHeader.setText("Welcome back, " + currentUser.getFullName());
+    private JPanel createPanel(String key) {
+
+        switch (key) {
+            case EMP_DIR:
+                return new EmployeeDirectoryPanel(context);
+            case NET_SALARY:
+                return new NetSalaryPanel(context.getEmployeeService(), context.getPayrollService());
+            case HOURS_WORKED:
+                return new HoursWorkedPanel(context.getEmployeeService(), context.getPayrollService());
+            case EXIT_PANEL:
+                return new ExitPanel();
+            default:
+                return new BlankPanel();
+        }
+    }
+
+    // Drops every card; each is created again on its next visit
+    private void resetPanels() {
+        panelCard.removeAll();
+        panels.clear();
+        panelCard.revalidate();
+        panelCard.repaint();
     }
 
     // =========================
     // APPLY ROLE ACCESS
     // =========================
 
-    private void applyRoleAccess() {
+    private void applyRoleAccess(Session session) {
 
         // Finance privilege
-        if (!currentUser.canProcessPayroll()) {
+        if (!canAccess(session, NET_SALARY)) {
             buttonNetSalary.setVisible(false);
             buttonWorkHours.setVisible(false);
         }
 
         // HR privilege
-        if (!currentUser.canManageEmployees()) {
+        if (!canAccess(session, EMP_DIR)) {
             buttonEmpDirect.setVisible(false);
         }
 
         // IT privilege (future use)
-        // if (!currentUser.canResetPassword()) { ... }
+        // if (!session.hasPermission(Permission.RESET_PASSWORD)) { ... }
+    }
+
+    // Whether the session's permissions allow opening the card
+    private boolean canAccess(Session session, String key) {
+
+        switch (key) {
+            case EMP_DIR:
+                return session.hasPermission(Permission.MANAGE_EMPLOYEES);
+            case NET_SALARY:
+            case HOURS_WORKED:
+                return session.hasPermission(Permission.PROCESS_PAYROLL);
+            default:
+                return true;
+        }
+    }
+
+    // =========================
+    // SESSION END
+    // =========================
+
+    // Closes the dashboard and shows Login again once the session has
+    // expired or the user has exited
+    private void returnToLogin() {
+
+        JOptionPane.showMessageDialog(this,
+                "Your session has ended. Please log in again.");
+
+        dispose();
+        new Login(context).setVisible(true);
     }
 
     /** NetBeans-generated UI setup (components and layout) */
@@ -297,9 +389,7 @@ public class MotorPHGUI extends javax.swing.JFrame {
      * Switches the card to the Employee Directory panel and updates subheader.
      */
     private void buttonEmpDirectActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonEmpDirectActionPerformed
-        CardLayout cl = (CardLayout) panelCard.getLayout();
-        cl.show(panelCard, "EMP_DIR");
-        labelSubHeader.setText("Employee Directory");
+        showPanel(EMP_DIR, "Employee Directory");
     }//GEN-LAST:event_buttonEmpDirectActionPerformed
     
     /**
@@ -307,9 +397,7 @@ public class MotorPHGUI extends javax.swing.JFrame {
      * Switches the card to the Net Salary panel and updates subheader.
      */
     private void buttonNetSalaryActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonNetSalaryActionPerformed
-        CardLayout cl = (CardLayout) panelCard.getLayout();
-        cl.show(panelCard, "NET_SALARY");
-        labelSubHeader.setText("Compute Net Salary");
+        showPanel(NET_SALARY, "Compute Net Salary");
     }//GEN-LAST:event_buttonNetSalaryActionPerformed
     
     /**
@@ -317,42 +405,23 @@ public class MotorPHGUI extends javax.swing.JFrame {
      * Switches the card to the Hours Worked panel and updates subheader.
      */
     private void buttonWorkHoursActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonWorkHoursActionPerformed
-        CardLayout cl = (CardLayout) panelCard.getLayout();
-        cl.show(panelCard, "HOURS_WORKED");
-        labelSubHeader.setText("Compute Salary Based on Work Hours");
+        showPanel(HOURS_WORKED, "Compute Salary Based on Work Hours");
     }//GEN-LAST:event_buttonWorkHoursActionPerformed
 
     /**
      * Handler for the "Exit" button.
-     * Clears and re-instantiates all panels to reset their state,
-     * then displays the Exit panel.
+     * Discards all panels to reset their state (they are created again
+     * on the next visit), displays the Exit panel and ends the session.
      */
     private void buttonExitActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonExitActionPerformed
         // Remove all existing cards
-        panelCard.removeAll();
-
-        // Re-instantiate each panel to reset fields
-        blankPanel       = new BlankPanel();
-        empDirPanel      = new EmployeeDirectoryPanel(currentUser);
-        netSalaryPanel   = new NetSalaryPanel(currentUser);
-        hoursWorkedPanel = new HoursWorkedPanel(currentUser);
-        exitPanel        = new ExitPanel();
-
-        // Re-add cards under the same identifiers
-        panelCard.add(blankPanel,       "BLANK");
-        panelCard.add(empDirPanel,      "EMP_DIR");
-        panelCard.add(netSalaryPanel,   "NET_SALARY");
-        panelCard.add(hoursWorkedPanel, "HOURS_WORKED");
-        panelCard.add(exitPanel,        "EXIT_PANEL");
-
-        // Refresh the card layout
-        panelCard.revalidate();
-        panelCard.repaint();
+        resetPanels();
 
         // Show the Exit panel and update subheader
-        CardLayout cl = (CardLayout) panelCard.getLayout();
-        cl.show(panelCard, "EXIT_PANEL");
-        labelSubHeader.setText("Exit");
+        showPanel(EXIT_PANEL, "Exit");
+
+        // Log out; the next navigation returns to Login
+        context.getSessionManager().end(sessionToken);
     }//GEN-LAST:event_buttonExitActionPerformed
 
     
@@ -398,7 +467,8 @@ public class MotorPHGUI extends javax.swing.JFrame {
 //                            model.EmploymentStatus.REGULAR
 //                    );
 //
-//            new MotorPHGUI(tempUser).setVisible(true);
+//            service.ApplicationContext context = new service.ApplicationContext();
+//            new MotorPHGUI(context, context.getSessionManager().open(tempUser)).setVisible(true);
 //        });
 //    }
 
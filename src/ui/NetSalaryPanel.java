@@ -7,16 +7,23 @@
 package ui;
 
 import model.Employee;
+import model.Money;
+import model.PayPeriod;
 import service.EmployeeService;
 import service.PayrollService;
 
+import java.util.Collections;
+import java.util.List;
+
 import javax.swing.JOptionPane;
 
 /*
  * Class: NetSalaryPanel
  * Description: GUI panel that fetches an employee by ID and displays the computed
  *              net salary for a selected pay period by delegating computations
- *              to PayrollService.
+ *              to PayrollService. The computation runs in the background so the
+ *              window stays responsive; changing the employee or pay period
+ *              cancels it.
  */
 
 /*
@@ -31,6 +38,12 @@ public class NetSalaryPanel extends javax.swing.JPanel {
     private final PayrollService payrollService;
     private Employee currentEmployee;
 
+    private final BackgroundComputation<Long> netSalaryComputation = new BackgroundComputation<>(this);
+    private final BackgroundComputation<List<PayPeriod>> payPeriodLoading = new BackgroundComputation<>(this);
+
+    // Pay periods in combo box order (after the placeholder item)
+    private List<PayPeriod> payPeriods = Collections.emptyList();
+
     // CONSTRUCTOR
     // Initializes UI and service dependencies
     public NetSalaryPanel(EmployeeService employeeService,
@@ -40,35 +53,40 @@ public class NetSalaryPanel extends javax.swing.JPanel {
         this.employeeService = employeeService;
         this.payrollService = payrollService;
 
-        populateDateRanges();
+        populatePayPeriods();
         clearOutputs();
+
+        comboDateRange.addActionListener(evt -> payPeriodChanged());
     }
 
-    // METHOD NAME: populateDateRanges
-    // Loads predefined pay period ranges into the combo box.
-    private void populateDateRanges() {
-
-        String[] ranges = {
-                "2024-06-01 to 2024-06-15", "2024-06-16 to 2024-06-30",
-                "2024-07-01 to 2024-07-15", "2024-07-16 to 2024-07-31",
-                "2024-08-01 to 2024-08-15", "2024-08-16 to 2024-08-31",
-                "2024-09-01 to 2024-09-15", "2024-09-16 to 2024-09-30",
-                "2024-10-01 to 2024-10-15", "2024-10-16 to 2024-10-31",
-                "2024-11-01 to 2024-11-15", "2024-11-16 to 2024-11-30",
-                "2024-12-01 to 2024-12-15", "2024-12-16 to 2024-12-31"
-        };
-
-        comboDateRange.removeAllItems();
-        comboDateRange.addItem("Select Pay Period...");
-        for (String r : ranges) {
-            comboDateRange.addItem(r);
-        }
+    // METHOD NAME: populatePayPeriods
+    // Lists the pay periods covering the attendance on file (from the
+    // PayCalendar). Finding them loads attendance, so it runs in the background.
+    private void populatePayPeriods() {
+
+        payPeriodLoading.start(
+                payrollService::getPayPeriods,
+                periods -> {
+                    payPeriods = periods;
+                    for (PayPeriod period : periods) {
+                        comboDateRange.addItem(period.toString());
+                    }
+                },
+                error -> JOptionPane.showMessageDialog(this, "Error loading pay periods: " + error.getMessage()));
+    }
+
+    // METHOD NAME: selectedPayPeriod
+    // The PayPeriod chosen in the combo box, or null for the placeholder.
+    private PayPeriod selectedPayPeriod() {
+        int index = comboDateRange.getSelectedIndex() - 1;   // item 0 is "Select Pay Period..."
+        return (index >= 0 && index < payPeriods.size()) ? payPeriods.get(index) : null;
     }
 
     // METHOD NAME: fetchEmployee
     // Retrieves employee from EmployeeService using employee number input.
     private void fetchEmployee() {
 
+        netSalaryComputation.cancel();
         int employeeId;
 
         try {
@@ -90,7 +108,7 @@ public class NetSalaryPanel extends javax.swing.JPanel {
 
         labelOutput1.setText(String.valueOf(currentEmployee.getEmployeeId()));
         labelOutput2.setText(currentEmployee.getLastName() + ", " + currentEmployee.getFirstName());
-        labelOutput3.setText(String.format("%.2f", currentEmployee.getBasicSalary()));
+        labelOutput3.setText(Money.format(currentEmployee.getBasicSalary()));
 
         computeNetSalary();
     }
@@ -103,22 +121,36 @@ public class NetSalaryPanel extends javax.swing.JPanel {
             return;
         }
 
-        if (comboDateRange.getSelectedItem() == null) {
+        PayPeriod period = selectedPayPeriod();
+
+        if (period == null) {
             JOptionPane.showMessageDialog(this, "Please select a pay period.");
             labelOutput4.setText("");
             return;
         }
 
-        String selectedRange = comboDateRange.getSelectedItem().toString();
+        Employee employee = currentEmployee;
+        labelOutput4.setText("Computing...");
 
-        if ("Select Pay Period...".equals(selectedRange)) {
-            JOptionPane.showMessageDialog(this, "Please select a pay period.");
-            labelOutput4.setText("");
-            return;
-        }
+        netSalaryComputation.start(
+                () -> payrollService.calculateNetSalary(employee, period),
+                netSalary -> labelOutput4.setText(Money.format(netSalary)),
+                error -> {
+                    labelOutput4.setText("");
+                    JOptionPane.showMessageDialog(this, "Error computing net salary: " + error.getMessage());
+                });
+    }
 
-        double netSalary = payrollService.calculateNetSalary(currentEmployee, selectedRange);
-        labelOutput4.setText(String.format("%.2f", netSalary));
+    // METHOD NAME: payPeriodChanged
+    // Recomputes for the new pay period, cancelling the previous computation.
+    private void payPeriodChanged() {
+
+        netSalaryComputation.cancel();
+        labelOutput4.setText("");
+
+        if (currentEmployee != null && selectedPayPeriod() != null) {
+            computeNetSalary();
+        }
     }
 
     // METHOD NAME: clearOutputs
@@ -1,20 +1,166 @@
 /*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/GUIForms/JPanel.java to edit this template
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
  */
+
 package ui;
 
-/**
- *
- * @author admin
+import model.Employee;
+import model.Money;
+import model.PayPeriod;
+import model.PayrollResult;
+import service.ApplicationContext;
+import service.EmployeeService;
+import service.PayrollService;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.JOptionPane;
+import javax.swing.JTextField;
+
+/*
+ * Class: PayrollProcessing
+ * Description: Payslip view of one employee for one pay period. The
+ *              employee number and pay period are entered on the form; the
+ *              earnings, deductions and take-home pay all come from
+ *              PayrollService.calculatePayrollResult, the same computation
+ *              the other payroll panels and batch runs use. The computation
+ *              runs in the background so the window stays responsive.
  */
+
 public class PayrollProcessing extends javax.swing.JPanel {
 
-    /**
-     * Creates new form PayrollProcessing
-     */
-    public PayrollProcessing() {
+    // Standard working hours in a day (for the days-worked figure)
+    private static final double HOURS_PER_DAY = 8.0;
+
+    private final EmployeeService employeeService;
+    private final PayrollService payrollService;
+
+    private final BackgroundComputation<PayrollResult> payrollComputation = new BackgroundComputation<>(this);
+    private final BackgroundComputation<List<PayPeriod>> payPeriodLoading = new BackgroundComputation<>(this);
+
+    // Pay periods in combo box order (after the placeholder item)
+    private List<PayPeriod> payPeriods = Collections.emptyList();
+
+    // CONSTRUCTOR
+    // Initializes UI and takes the shared services of the context
+    public PayrollProcessing(ApplicationContext context) {
+
         initComponents();
+        this.employeeService = context.getEmployeeService();
+        this.payrollService = context.getPayrollService();
+
+        populatePayPeriods();
+        clearOutputs();
+
+        txtEmpNo.addActionListener(evt -> computePayroll());
+        jcbDateRange.addActionListener(evt -> {
+            payrollComputation.cancel();
+            clearOutputs();
+        });
+    }
+
+    // METHOD NAME: populatePayPeriods
+    // Lists the pay periods covering the attendance on file (from the
+    // PayCalendar). Finding them loads attendance, so it runs in the background.
+    private void populatePayPeriods() {
+
+        payPeriodLoading.start(
+                payrollService::getPayPeriods,
+                periods -> {
+                    payPeriods = periods;
+                    for (PayPeriod period : periods) {
+                        jcbDateRange.addItem(period.toString());
+                    }
+                },
+                error -> JOptionPane.showMessageDialog(this, "Error loading pay periods: " + error.getMessage()));
+    }
+
+    // METHOD NAME: selectedPayPeriod
+    // The PayPeriod chosen in the combo box, or null for the placeholder.
+    private PayPeriod selectedPayPeriod() {
+        int index = jcbDateRange.getSelectedIndex() - 1;   // item 0 is "Select Pay Period..."
+        return (index >= 0 && index < payPeriods.size()) ? payPeriods.get(index) : null;
+    }
+
+    // METHOD NAME: computePayroll
+    // Looks up the employee and computes the payslip for the selected period.
+    private void computePayroll() {
+
+        payrollComputation.cancel();
+        clearOutputs();
+
+        Employee employee;
+        try {
+            employee = employeeService.getEmployeeById(Integer.parseInt(txtEmpNo.getText().trim()));
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Invalid Employee Number.");
+            return;
+        }
+
+        if (employee == null) {
+            JOptionPane.showMessageDialog(this, "Employee not found.");
+            return;
+        }
+
+        PayPeriod period = selectedPayPeriod();
+        if (period == null) {
+            JOptionPane.showMessageDialog(this, "Please select a pay period.");
+            return;
+        }
+
+        payrollComputation.start(
+                () -> payrollService.calculatePayrollResult(employee, period),
+                result -> showPayslip(employee, period, result),
+                error -> JOptionPane.showMessageDialog(this, "Error computing payroll: " + error.getMessage()));
+    }
+
+    // METHOD NAME: showPayslip
+    // Fills the payslip fields. Gross pay from PayrollService includes the
+    // allowances, so earnings show the basic pay part and benefits the rest.
+    private void showPayslip(Employee employee, PayPeriod period, PayrollResult result) {
+
+        long allowances = employee.getTotalAllowances();
+        long basicPay = payrollService.calculateBasicPay(employee, result.getHoursWorked());
+
+        txtMonthlyRateOutput.setText(Money.format(employee.getBasicSalary()));
+        txtDailyRateOutput.setText(  Money.format(Money.prorate(employee.getBasicSalary(), 1,
+                                                                period.getStart().lengthOfMonth())));
+        txtDaysWorkedOutput.setText( String.format("%.2f", result.getHoursWorked() / HOURS_PER_DAY));
+        txtEarningsGrossIncomeOutput.setText(Money.format(basicPay));
+
+        txtRiceSubsidyOutput.setText(      Money.format(employee.getRiceSubsidy()));
+        txtPhoneAllowanceOutput.setText(   Money.format(employee.getPhoneAllowance()));
+        txtClothingAllowanceOutput.setText(Money.format(employee.getClothingAllowance()));
+        txtTotalOutput1.setText(           Money.format(allowances));
+
+        txtSSSOutput.setText(            Money.format(result.getSss()));
+        txtPhHealthOutput.setText(       Money.format(result.getPhilHealth()));
+        txtPagIbigOutput.setText(        Money.format(result.getPagIbig()));
+        txtWithholdingTaxOutput.setText( Money.format(result.getWithholdingTax()));
+        txtTotalDeductionsOutput.setText(Money.format(result.getTotalDeductions()));
+
+        txtGrossIncomeOutput.setText(      Money.format(basicPay));
+        txtSummaryBenefitsOutput.setText(  Money.format(allowances));
+        txtSummaryDeductionsOutput.setText(Money.format(result.getTotalDeductions()));
+        txtTakeHomePayOutput.setText(      Money.format(result.getNetSalary()));
+    }
+
+    // METHOD NAME: clearOutputs
+    // Clears every payslip field. Overtime is not computed by PayrollService
+    // (attendance is summed per period, not per day), so it stays blank.
+    private void clearOutputs() {
+        for (JTextField field : new JTextField[] {
+                txtMonthlyRateOutput, txtDailyRateOutput, txtDaysWorkedOutput, txtOvertimeOutput,
+                txtEarningsGrossIncomeOutput, txtRiceSubsidyOutput, txtPhoneAllowanceOutput,
+                txtClothingAllowanceOutput, txtTotalOutput1, txtSSSOutput, txtPhHealthOutput,
+                txtPagIbigOutput, txtWithholdingTaxOutput, txtTotalDeductionsOutput,
+                txtGrossIncomeOutput, txtSummaryBenefitsOutput, txtSummaryDeductionsOutput,
+                txtTakeHomePayOutput }) {
+            field.setText("");
+        }
     }
 
     /**
@@ -30,6 +176,8 @@ public class PayrollProcessing extends javax.swing.JPanel {
         jPanel2 = new javax.swing.JPanel();
         jTabbedPane8 = new javax.swing.JTabbedPane();
         hoursComputationTab = new javax.swing.JPanel();
+        labelEmpNo = new javax.swing.JLabel();
+        txtEmpNo = new javax.swing.JTextField();
         labelPayCoverage = new javax.swing.JLabel();
         jcbDateRange = new javax.swing.JComboBox<>();
         btnCompute = new javax.swing.JButton();
@@ -91,6 +239,9 @@ public class PayrollProcessing extends javax.swing.JPanel {
 
         hoursComputationTab.setMaximumSize(null);
 
+        labelEmpNo.setFont(new java.awt.Font("Arial", 0, 12)); // NOI18N
+        labelEmpNo.setText("Employee No.");
+
         labelPayCoverage.setFont(new java.awt.Font("Arial", 0, 12)); // NOI18N
         labelPayCoverage.setText("Pay Coverage");
 
@@ -416,6 +567,10 @@ public class PayrollProcessing extends javax.swing.JPanel {
                 .addGap(20, 20, 20)
                 .addGroup(hoursComputationTabLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
                     .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 570, Short.MAX_VALUE)
+                    .addGroup(hoursComputationTabLayout.createSequentialGroup()
+                        .addComponent(labelEmpNo, javax.swing.GroupLayout.PREFERRED_SIZE, 110, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(txtEmpNo))
                     .addGroup(hoursComputationTabLayout.createSequentialGroup()
                         .addComponent(labelPayCoverage, javax.swing.GroupLayout.PREFERRED_SIZE, 110, javax.swing.GroupLayout.PREFERRED_SIZE)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
@@ -428,6 +583,10 @@ public class PayrollProcessing extends javax.swing.JPanel {
             hoursComputationTabLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addGroup(hoursComputationTabLayout.createSequentialGroup()
                 .addGap(22, 22, 22)
+                .addGroup(hoursComputationTabLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(labelEmpNo)
+                    .addComponent(txtEmpNo, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addGap(5, 5, 5)
                 .addGroup(hoursComputationTabLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                     .addComponent(labelPayCoverage)
                     .addComponent(jcbDateRange, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
@@ -477,71 +636,7 @@ public class PayrollProcessing extends javax.swing.JPanel {
     }// </editor-fold>//GEN-END:initComponents
 
     private void btnComputeActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnComputeActionPerformed
-        String sel = (String) jcbDateRange.getSelectedItem();
-        if (employeeTimeRecord == null) {
-            JOptionPane.showMessageDialog(this, "Employee data not loaded.");
-            return;
-        }
-        if (sel == null || !sel.contains(" to ")) {
-            JOptionPane.showMessageDialog(this, "Please select a valid pay period.");
-            return;
-        }
-
-        try {
-            String[] parts    = sel.split(" to ");
-            LocalDate start   = LocalDate.parse(parts[0], ISO_DATE);
-            // (end date parsed but not used directly)
-            LocalDate end     = LocalDate.parse(parts[1], ISO_DATE);
-
-            double monthlyRate = Double.parseDouble(salaryField.getText());
-            double dailyRate   = monthlyRate / start.lengthOfMonth();
-
-            int totalHours     = employeeTimeRecord.getTotalHoursWorked(parts[0], parts[1]);
-            double daysWorked  = totalHours / 8.0;
-            double overtime    = totalHours % 8;
-            double hourlyRate  = employeeTimeRecord.getHourlyRate();
-            double grossIncome = totalHours * hourlyRate;
-
-            double rice        = employeeTimeRecord.getRiceSubsidy();
-            double phone       = employeeTimeRecord.getPhoneAllowance();
-            double cloth       = employeeTimeRecord.getClothingAllowance();
-            double benefits    = rice + phone + cloth;
-
-            double sssDed      = grossIncome * 0.045;
-            double phDed       = grossIncome * 0.035;
-            double piDed       = grossIncome * 0.02;
-            double taxDed      = grossIncome * 0.10;
-            double totalDed    = sssDed + phDed + piDed + taxDed;
-
-            double takeHome    = grossIncome + benefits - totalDed;
-
-            // Populate UI outputs (two‐decimal format)
-            txtMonthlyRateOutput.setText(String.format("%.2f", monthlyRate));
-            txtDailyRateOutput.setText(  String.format("%.2f", dailyRate));
-            txtDaysWorkedOutput.setText( String.format("%.2f", daysWorked));
-            txtOvertimeOutput.setText(   String.format("%.2f", overtime));
-            txtEarningsGrossIncomeOutput.setText(String.format("%.2f", grossIncome));
-
-            txtRiceSubsidyOutput.setText(      String.format("%.2f", rice));
-            txtPhoneAllowanceOutput.setText(   String.format("%.2f", phone));
-            txtClothingAllowanceOutput.setText(String.format("%.2f", cloth));
-            txtTotalOutput1.setText(           String.format("%.2f", benefits));
-
-            txtSSSOutput.setText(            String.format("%.2f", sssDed));
-            txtPhHealthOutput.setText(       String.format("%.2f", phDed));
-            txtPagIbigOutput.setText(        String.format("%.2f", piDed));
-            txtWithholdingTaxOutput.setText( String.format("%.2f", taxDed));
-            txtTotalDeductionsOutput.setText(String.format("%.2f", totalDed));
-
-            txtGrossIncomeOutput.setText(      String.format("%.2f", grossIncome));
-            txtSummaryBenefitsOutput.setText(  String.format("%.2f", benefits));
-            txtSummaryDeductionsOutput.setText(String.format("%.2f", totalDed));
-            txtTakeHomePayOutput.setText(      String.format("%.2f", takeHome));
-
-        } catch (NumberFormatException nfe) {
-            JOptionPane.showMessageDialog(this,
-                "Invalid numeric value in salary.\n" + nfe.getMessage());
-        }
+        computePayroll();
     }//GEN-LAST:event_btnComputeActionPerformed
 
     private void btnUpdateActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnUpdateActionPerformed
@@ -563,6 +658,7 @@ public class PayrollProcessing extends javax.swing.JPanel {
     private javax.swing.JSeparator jSeparator4;
     private javax.swing.JTabbedPane jTabbedPane8;
     private javax.swing.JComboBox<String> jcbDateRange;
+    private javax.swing.JLabel labelEmpNo;
     private javax.swing.JLabel labelPayCoverage;
     private javax.swing.JLabel lblBenefits;
     private javax.swing.JLabel lblClothingAllowance;
@@ -591,6 +687,7 @@ public class PayrollProcessing extends javax.swing.JPanel {
     private javax.swing.JTextField txtDailyRateOutput;
     private javax.swing.JTextField txtDaysWorkedOutput;
     private javax.swing.JTextField txtEarningsGrossIncomeOutput;
+    private javax.swing.JTextField txtEmpNo;
     private javax.swing.JTextField txtGrossIncomeOutput;
     private javax.swing.JTextField txtMonthlyRateOutput;
     private javax.swing.JTextField txtOvertimeOutput;
@@ -4,17 +4,80 @@
  */
 package ui;
 
-/**
- *
- * @author admin
+import javax.swing.JOptionPane;
+
+import model.Employee;
+import service.ApplicationContext;
+import service.AuthenticationService;
+import service.EmployeeService;
+
+/*
+ * Class: ResetPassword
+ * Description: Lets IT look up an employee by ID and set a new password.
+ *              The password is stored as a salted PBKDF2 hash through
+ *              AuthenticationService.resetPassword.
  */
 public class ResetPassword extends javax.swing.JPanel {
 
+    /** Employee lookups */
+    private final EmployeeService employeeService;
+    /** Password changes */
+    private final AuthenticationService authenticationService;
+    /** Employee found by the last search, or null */
+    private Employee selectedEmployee;
+    /** Password hashing runs here, off the EDT */
+    private final BackgroundComputation<Boolean> passwordReset;
+
     /**
      * Creates new form ResetPassword
      */
-    public ResetPassword() {
+    public ResetPassword(ApplicationContext context) {
+        this.employeeService = context.getEmployeeService();
+        this.authenticationService = context.getAuthenticationService();
         initComponents();
+        this.passwordReset = new BackgroundComputation<>(this);
+
+        // Name, department and status are display-only
+        txtFieldEmpName.setEditable(false);
+        txtFieldEmpName1.setEditable(false);
+        txtFieldEmpName2.setEditable(false);
+    }
+
+    /**
+     * Looks up the employee and shows their name, department and status.
+     */
+    private void getEmployeeInfo(String input) {
+        clearFields();
+
+        int employeeId;
+        try {
+            employeeId = Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Employee ID must be numeric.");
+            return;
+        }
+
+        Employee employee = employeeService.getEmployeeById(employeeId);
+        if (employee == null) {
+            JOptionPane.showMessageDialog(this, "Employee not found.");
+            return;
+        }
+
+        selectedEmployee = employee;
+        txtFieldEmpName.setText(employee.getFullName());
+        txtFieldEmpName1.setText(employee.getDepartment());
+        txtFieldEmpName2.setText(employee.getEmploymentStatus().getLabel());
+    }
+
+    /**
+     * Clears the looked-up employee and the new password.
+     */
+    private void clearFields() {
+        selectedEmployee = null;
+        txtFieldEmpName.setText("");
+        txtFieldEmpName1.setText("");
+        txtFieldEmpName2.setText("");
+        txtFieldEmpName3.setText("");
     }
 
     /**
@@ -300,11 +363,46 @@ public class ResetPassword extends javax.swing.JPanel {
     }//GEN-LAST:event_txtFieldEmpName3ActionPerformed
 
     private void buttonSearch2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonSearch2ActionPerformed
-        // TODO add your handling code here:
+        if (selectedEmployee == null) {
+            JOptionPane.showMessageDialog(this, "Please search for an employee first.");
+            return;
+        }
+
+        // Not trimmed, so it matches exactly what Login checks
+        String newPassword = txtFieldEmpName3.getText();
+        if (newPassword.length() < AuthenticationService.MIN_PASSWORD_LENGTH) {
+            JOptionPane.showMessageDialog(this, "The new password must be at least "
+                    + AuthenticationService.MIN_PASSWORD_LENGTH + " characters.");
+            return;
+        }
+
+        // The password hash is deliberately slow, so it is computed on a
+        // worker thread; the button stays disabled until it answers
+        Employee employee = selectedEmployee;
+        buttonSearch2.setEnabled(false);
+        passwordReset.start(
+                () -> authenticationService.resetPassword(employee.getEmployeeId(), newPassword),
+                saved -> {
+                    buttonSearch2.setEnabled(true);
+                    if (!saved) {
+                        JOptionPane.showMessageDialog(this, "Error saving the new password.",
+                                                      "Reset Error", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(this, "Password reset for " + employee.getFullName() + ".");
+                    textFieldEmpID.setText("");
+                    clearFields();
+                },
+                error -> {
+                    buttonSearch2.setEnabled(true);
+                    JOptionPane.showMessageDialog(this, "Error saving the new password: " + error.getMessage(),
+                                                  "Reset Error", JOptionPane.ERROR_MESSAGE);
+                });
     }//GEN-LAST:event_buttonSearch2ActionPerformed
 
     private void buttonSearch3ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_buttonSearch3ActionPerformed
-        // TODO add your handling code here:
+        textFieldEmpID.setText("");
+        clearFields();
     }//GEN-LAST:event_buttonSearch3ActionPerformed
 
 
@@ -0,0 +1,42 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EmploymentStatusTest {
+
+    @Test
+    public void testParseLabels() {
+        for (EmploymentStatus status : EmploymentStatus.values()) {
+            assertEquals(status, EmploymentStatus.parse(status.getLabel()));
+        }
+        assertEquals(EmploymentStatus.REGULAR, EmploymentStatus.parse(" regular "));
+        assertEquals(EmploymentStatus.PROBATIONARY, EmploymentStatus.parse("PROBATIONARY"));
+    }
+    /*
+     * Every label parses back to its status, ignoring case and the spaces
+     * around it.
+     */
+
+    @Test
+    public void testParseRejectsUnknownText() {
+        for (String text : new String[] { "", "Contractual", "Regular employee", "Prob" }) {
+            try {
+                EmploymentStatus.parse(text);
+                fail("Parsed \"" + text + "\"");
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+    /*
+     * Text that is not a status label is rejected instead of defaulting to
+     * either status.
+     */
+}
@@ -0,0 +1,88 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package model;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MoneyTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(9_000_000, Money.parse("90,000"));
+        assertEquals(150_050, Money.parse("1,500.50"));
+        assertEquals(-1_250, Money.parse("-12.5"));
+        assertEquals(7, Money.parse(" .07 "));
+        assertEquals(1_235, Money.parse("12.345"));
+        assertEquals(1_234, Money.parse("12.3449"));
+        assertEquals(-1_235, Money.parse("-12.345"));
+    }
+    /*
+     * Amounts from the CSV files parse to exact centavos, with commas
+     * allowed and extra decimals rounded half up.
+     */
+
+    @Test
+    public void testParseRejectsGarbage() {
+        for (String text : new String[] { "", "-", ".", "12a", "1.2.3", "1,000.0,0" }) {
+            try {
+                Money.parse(text);
+                fail("Parsed \"" + text + "\"");
+            } catch (NumberFormatException expected) {
+                // expected
+            }
+        }
+    }
+    /*
+     * Anything that is not a number is a NumberFormatException, like
+     * Double.parseDouble.
+     */
+
+    @Test
+    public void testParseRate() {
+        assertEquals(45_000, Money.parseRate("0.045"));
+        assertEquals(27_500, Money.parseRate("0.0275"));
+        assertEquals(1_000_000, Money.parseRate("1"));
+        assertEquals(1, Money.parseRate("0.0000005"));
+    }
+    /*
+     * Rates parse to exact parts per million.
+     */
+
+    @Test
+    public void testDivideRoundsHalfAwayFromZero() {
+        assertEquals(3, Money.divide(5, 2));
+        assertEquals(2, Money.divide(7, 3));
+        assertEquals(-3, Money.divide(-5, 2));
+        assertEquals(-2, Money.divide(-7, 3));
+        assertEquals(0, Money.divide(-1, 3));
+        assertEquals(1_125_00, Money.applyRate(Money.ofPesos(25_000), 45_000));
+        assertEquals(4_528_125, Money.prorate(Money.ofPesos(90_000), 80 * 60 + 30, 160 * 60));
+    }
+    /*
+     * Every product or quotient is rounded once, half up, symmetrically
+     * for negative amounts.
+     */
+
+    @Test
+    public void testFormat() {
+        assertEquals("1234.56", Money.format(123_456));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-0.50", Money.format(-50));
+        assertEquals("1,234,567.89", Money.formatGrouped(123_456_789));
+        assertEquals("999.00", Money.formatGrouped(99_900));
+        assertEquals(123_456_789, Money.parse(Money.formatGrouped(123_456_789)));
+        assertEquals("1,000,005.07", Money.formatGrouped(100_000_507));
+
+        StringBuilder sb = new StringBuilder("Net: ");
+        Money.appendTo(sb, -100_000_507, true);
+        assertEquals("Net: -1,000,005.07", sb.toString());
+    }
+    /*
+     * Formatting always shows two decimals and round-trips through parse.
+     */
+}
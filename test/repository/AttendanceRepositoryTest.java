@@ -0,0 +1,223 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+
+import model.AttendanceRecord;
+import model.EmploymentStatus;
+import model.Money;
+import model.StaffEmployee;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AttendanceRepositoryTest {
+
+    private static final String FILE_PATH = "src/resources/attendance_record.csv";
+
+    private AttendanceRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new AttendanceRepository(FILE_PATH);
+    }
+    /*
+     * @Before runs before each test.
+     * It initializes the AttendanceRepository instance.
+     */
+
+    @After
+    public void tearDown() {
+        repository = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the AttendanceRepository instance.
+     */
+
+    @Test
+    public void testHoursMatchFullScan() throws IOException {
+        LocalDate start = LocalDate.of(2024, 6, 1);
+        LocalDate end = LocalDate.of(2024, 6, 15);
+
+        for (int id = 10001; id <= 10034; id++) {
+            double expected = scanHoursWorked(id, start, end);
+            double actual = repository.getHoursWorked(id, start, end);
+            assertEquals(expected, actual, 0.001);
+        }
+    }
+    /*
+     * Indexed lookup must agree with a plain scan of the CSV file
+     * for every employee in a semi-monthly pay period.
+     */
+
+    @Test
+    public void testSingleDayRangeIsInclusive() throws IOException {
+        LocalDate day = LocalDate.of(2024, 6, 3);
+        double expected = scanHoursWorked(10001, day, day);
+        double actual = repository.getHoursWorked(10001, day, day);
+        assertTrue(actual > 0);
+        assertEquals(expected, actual, 0.001);
+    }
+    /*
+     * A range whose start and end are the same day
+     * should still include that day's record.
+     */
+
+    @Test
+    public void testUnknownEmployeeOrInvertedRange() {
+        LocalDate start = LocalDate.of(2024, 6, 1);
+        LocalDate end = LocalDate.of(2024, 6, 30);
+        assertEquals(0.0, repository.getHoursWorked(99999, start, end), 0.001);
+        assertEquals(0.0, repository.getHoursWorked(10001, end, start), 0.001);
+    }
+    /*
+     * Unknown employees and end-before-start ranges return 0 hours.
+     */
+
+    @Test
+    public void testEpochDayMatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1899, 1, 1);
+             date.isBefore(LocalDate.of(2101, 1, 1));
+             date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(),
+                    EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+    /*
+     * The parser's date arithmetic must agree with LocalDate.toEpochDay.
+     */
+
+    @Test
+    public void testMalformedRowsSkipped() throws IOException {
+        Path file = Files.createTempFile("attendance", ".csv");
+        Files.write(file, ("Employee #,Last Name,First Name,Date,Log In,Log Out\r\n"
+                + "10001,Garcia,Manuel III,06/03/2024,8:00,17:30\r\n"
+                + "10001,Garcia,Manuel III,02/30/2024,8:00,17:00\r\n"
+                + "10001,Garcia,Manuel III,06/04/2024,8:x0,17:00\r\n"
+                + "abc,Garcia,Manuel III,06/05/2024,8:00,17:00\r\n"
+                + "10001,\"Garcia, Jr.\",Manuel III,06/06/2024,08:00,12:00\r\n"
+                + "10001,Garcia,Manuel III,06/07/2024,18:00,8:00\r\n"
+                + "10001,Garcia,Manuel III,06/08/2024,9:15,10:00").getBytes());
+
+        AttendanceRepository fromFile = new AttendanceRepository(file.toString());
+        double hours = fromFile.getHoursWorked(10001, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertEquals(9.5 + 4.0 + 0.75, hours, 0.001);
+    }
+    /*
+     * Invalid dates, bad times, non-numeric IDs and negative hours are
+     * skipped; quoted names and a last line without a newline are read.
+     */
+
+    @Test
+    public void testLedgerMatchesStoreForRandomRanges() throws IOException {
+        AttendanceStore.Builder builder = new AttendanceStore.Builder();
+        AttendanceCsvParser.parse(Paths.get(FILE_PATH), (id, day, in, out) -> {
+            if (out >= in) builder.add(id, day, in, out);
+        });
+        AttendanceStore store = builder.build();
+        HoursLedger ledger = HoursLedger.from(store);
+
+        Random random = new Random(42);
+        int first = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+        for (int i = 0; i < 2000; i++) {
+            int k = random.nextInt(store.employeeCount());
+            int startDay = first + random.nextInt(400);
+            int endDay = startDay + random.nextInt(60) - 5;
+            assertEquals(store.sumMinutes(k, startDay, endDay),
+                    ledger.minutesBetween(store.employeeAt(k), startDay, endDay));
+        }
+    }
+    /*
+     * Prefix-sum lookups must agree with summing the store's rows,
+     * including ranges that fall partly or wholly outside the data.
+     */
+
+    @Test
+    public void testRecordAttendanceUpdatesHours() throws IOException {
+        Path file = Files.createTempFile("attendance", ".csv");
+        Files.copy(Paths.get(FILE_PATH), file, StandardCopyOption.REPLACE_EXISTING);
+
+        AttendanceRepository fromFile = new AttendanceRepository(file.toString());
+        StaffEmployee employee = new StaffEmployee(10001, "Manuel III", "Garcia", "10/11/1983",
+                "Chief Executive Officer", "Executive", Money.ofPesos(90000), Money.ofPesos(1500), Money.ofPesos(2000), Money.ofPesos(1000), EmploymentStatus.REGULAR);
+
+        LocalDate start = LocalDate.of(2024, 6, 1);
+        LocalDate end = LocalDate.of(2024, 6, 15);
+        LocalDate later = LocalDate.of(2025, 3, 3);
+        LocalDate earlier = LocalDate.of(2023, 1, 2);
+        double before = fromFile.getHoursWorked(10001, start, end);
+
+        assertTrue(fromFile.recordAttendance(employee, LocalDate.of(2024, 6, 15), LocalTime.of(18, 0), LocalTime.of(20, 30)));
+        assertTrue(fromFile.recordAttendance(employee, later, LocalTime.of(8, 0), LocalTime.of(17, 0)));
+        assertTrue(fromFile.recordAttendance(employee, earlier, LocalTime.of(8, 0), LocalTime.of(12, 0)));
+        assertFalse(fromFile.recordAttendance(employee, later, LocalTime.of(17, 0), LocalTime.of(8, 0)));
+
+        assertEquals(before + 2.5, fromFile.getHoursWorked(10001, start, end), 0.001);
+        assertEquals(9.0, fromFile.getHoursWorked(10001, later, later), 0.001);
+        assertEquals(4.0, fromFile.getHoursWorked(10001, earlier, earlier), 0.001);
+        assertEquals(before + 2.5, fromFile.getHoursWorkedByEmployee(start, end).get(10001), 0.001);
+
+        List<AttendanceRecord> records = fromFile.getRecords(10001, earlier, later);
+        assertEquals(earlier, records.get(0).getDate());
+        assertEquals(later, records.get(records.size() - 1).getDate());
+
+        // The rows were saved: a fresh load gives the same totals
+        AttendanceRepository reloaded = new AttendanceRepository(file.toString());
+        assertEquals(before + 2.5, reloaded.getHoursWorked(10001, start, end), 0.001);
+        assertEquals(9.0, reloaded.getHoursWorked(10001, later, later), 0.001);
+        assertEquals(4.0, reloaded.getHoursWorked(10001, earlier, earlier), 0.001);
+        assertEquals(records.size(), reloaded.getRecords(10001, earlier, later).size());
+
+        Files.delete(file);
+    }
+    /*
+     * Recorded rows update totals at once (after, inside and before the
+     * employee's existing days), are rejected when time out is before
+     * time in, and are persisted to the CSV file.
+     */
+
+    // Reference implementation: reads the whole file on every call
+    private double scanHoursWorked(int employeeId, LocalDate start, LocalDate end) throws IOException {
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("H:mm");
+        double total = 0.0;
+
+        try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
+            br.readLine();
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] data = line.split(",");
+                if (Integer.parseInt(data[0].trim()) != employeeId) continue;
+
+                LocalDate date = LocalDate.parse(data[3].trim(), dateFormat);
+                if (date.isBefore(start) || date.isAfter(end)) continue;
+
+                LocalTime in = LocalTime.parse(data[4].trim(), timeFormat);
+                LocalTime out = LocalTime.parse(data[5].trim(), timeFormat);
+                double hours = (out.toSecondOfDay() - in.toSecondOfDay()) / 3600.0;
+                if (hours >= 0) total += hours;
+            }
+        }
+        return total;
+    }
+}
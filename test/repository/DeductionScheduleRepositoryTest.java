@@ -0,0 +1,146 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import model.DeductionSchedule;
+import model.Money;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DeductionScheduleRepositoryTest {
+
+    private DeductionScheduleRepository repository;
+    private DeductionSchedule schedule;
+
+    @Before
+    public void setUp() {
+        repository = new DeductionScheduleRepository();
+        schedule = repository.findEffective(LocalDate.of(2024, 6, 15));
+    }
+    /*
+     * @Before runs before each test.
+     * It loads the deduction tables under src/resources/deductions and
+     * picks the one in force in June 2024.
+     */
+
+    @After
+    public void tearDown() {
+        schedule = null;
+        repository = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the repository instance.
+     */
+
+    @Test
+    public void testSss() {
+        assertEquals(pesos("900.00"), schedule.sss(pesos("20000")));
+        assertEquals(pesos("1125.00"), schedule.sss(pesos("30000")));
+    }
+    /*
+     * SSS is 4.5% of the salary, capped at a salary of 25,000.
+     */
+
+    @Test
+    public void testPhilHealth() {
+        assertEquals(pesos("350.00"), schedule.philHealth(pesos("10000")));
+        assertEquals(pesos("1375.00"), schedule.philHealth(pesos("50000")));
+        assertEquals(pesos("1500.00"), schedule.philHealth(pesos("100000")));
+    }
+    /*
+     * PhilHealth is 2.75% of the salary, at least 350 and at most 1,500.
+     */
+
+    @Test
+    public void testPagIbig() {
+        assertEquals(pesos("14.00"), schedule.pagIbig(pesos("1400")));
+        assertEquals(pesos("40.00"), schedule.pagIbig(pesos("2000")));
+        assertEquals(pesos("100.00"), schedule.pagIbig(pesos("30000")));
+    }
+    /*
+     * Pag-IBIG is 1% up to 1,500 and 2% above it, up to 100.
+     */
+
+    @Test
+    public void testWithholdingTaxBrackets() {
+        assertEquals(0, schedule.withholdingTax(pesos("20000")));
+        assertEquals(0, schedule.withholdingTax(pesos("20833")));
+        assertEquals(pesos("625.05"), schedule.withholdingTax(pesos("25000")));       // 15% of 4,167
+        assertEquals(pesos("5208.60"), schedule.withholdingTax(pesos("50000")));      // 1,875 + 20% of 16,668
+        assertEquals(pesos("16875.30"), schedule.withholdingTax(pesos("100000")));    // 8,541.80 + 25% of 33,334
+        assertEquals(pesos("133542.00"), schedule.withholdingTax(pesos("500000")));   // 33,541.80 + 30% of 333,334
+        assertEquals(pesos("300208.70"), schedule.withholdingTax(pesos("1000000")));  // 183,541.80 + 35% of 333,334
+    }
+    /*
+     * Each BIR bracket adds its rate on the excess over its lower bound.
+     */
+
+    @Test
+    public void testTotalTaxesIncomeAfterContributions() {
+        // 1,125 + 825 + 100 = 2,050; tax = 15% of (27,950 - 20,833) = 1,067.55
+        assertEquals(pesos("3117.55"), schedule.totalDeductions(pesos("30000")));
+    }
+    /*
+     * Withholding tax is computed on the salary less the contributions.
+     */
+
+    @Test
+    public void testEachItemRoundedHalfUp() {
+        assertEquals(pesos("550.00"), schedule.philHealth(pesos("20000.18")));   // 550.00495
+        assertEquals(pesos("550.01"), schedule.philHealth(pesos("20000.20")));   // 550.0055
+    }
+    /*
+     * A deduction is rounded to the centavo, half up, on its own.
+     */
+
+    @Test
+    public void testVersionSelection() throws IOException {
+        Path dir = Files.createTempDirectory("deductions");
+        String header = "Schedule,Over,Base,Rate,Minimum,Maximum\n";
+        String rest = "PHILHEALTH,0,0,0,,\nPAGIBIG,0,0,0,,\nTAX,0,0,0,,\n";
+        Files.writeString(dir.resolve("2024-01-01.csv"), header + "SSS,0,0,0.04,,\n" + rest);
+        Files.writeString(dir.resolve("2025-01-01.csv"), header + "SSS,0,0,0.05,,\n" + rest);
+
+        DeductionScheduleRepository versions = new DeductionScheduleRepository(dir.toString());
+
+        assertEquals(2, versions.size());
+        assertNull(versions.findEffective(LocalDate.of(2023, 12, 31)));
+        long salary = pesos("10000");
+        assertEquals(pesos("400"), versions.findEffective(LocalDate.of(2024, 1, 1)).sss(salary));
+        assertEquals(pesos("400"), versions.findEffective(LocalDate.of(2024, 12, 31)).sss(salary));
+        assertEquals(pesos("500"), versions.findEffective(LocalDate.of(2025, 1, 1)).sss(salary));
+        assertEquals(pesos("500"), versions.getLatest().sss(salary));
+    }
+    /*
+     * The schedule in force is the latest one effective on or before
+     * the date.
+     */
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingScheduleRejected() throws IOException {
+        Path dir = Files.createTempDirectory("deductions");
+        Files.writeString(dir.resolve("2024-01-01.csv"),
+                "Schedule,Over,Base,Rate,Minimum,Maximum\nSSS,0,0,0.045,,\n");
+        new DeductionScheduleRepository(dir.toString());
+    }
+    /*
+     * A version missing one of the four schedules is not loaded.
+     */
+
+    private static long pesos(String amount) {
+        return Money.parse(amount);
+    }
+}
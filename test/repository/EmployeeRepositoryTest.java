@@ -0,0 +1,374 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import model.EmploymentStatus;
+import model.Employee;
+import model.Money;
+import model.StaffEmployee;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EmployeeRepositoryTest {
+
+    private Path file;
+    private EmployeeRepository repository;
+
+    @Before
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("motorph");
+        file = dir.resolve("employee_record.csv");
+        Files.copy(Paths.get("src/resources/employee_record.csv"), file);
+        repository = new EmployeeRepository(file.toString());
+    }
+    /*
+     * @Before runs before each test.
+     * It loads a temporary copy of the employee roster into a fresh
+     * repository, so mutations never touch src/resources.
+     */
+
+    @After
+    public void tearDown() {
+        repository = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the EmployeeRepository instance.
+     */
+
+    @Test
+    public void testFindById() {
+        Employee employee = repository.findById(10001);
+        assertNotNull(employee);
+        assertEquals("Garcia", employee.getLastName());
+        assertNull(repository.findById(99999));
+    }
+    /*
+     * Lookup by ID returns the loaded employee, or null if unknown.
+     */
+
+    @Test
+    public void testAddRejectsDuplicateId() {
+        assertFalse(repository.addEmployee(newEmployee(10001)));
+        assertTrue(repository.addEmployee(newEmployee(20001)));
+        assertNotNull(repository.findById(20001));
+    }
+    /*
+     * Adding an employee whose ID already exists is refused.
+     */
+
+    @Test
+    public void testUpdateAndDeleteKeepInsertionOrder() {
+        List<Employee> before = repository.getAllEmployees();
+
+        repository.deleteEmployeeById(10002);
+        repository.updateEmployee(newEmployee(10003));
+        repository.addEmployee(newEmployee(20001));
+
+        List<Employee> after = repository.getAllEmployees();
+        assertEquals(before.size(), after.size());
+        assertNull(repository.findById(10002));
+        assertEquals("Updated", repository.findById(10003).getLastName());
+
+        assertEquals(10001, after.get(0).getEmployeeId());
+        assertEquals(10003, after.get(1).getEmployeeId());
+        assertEquals(20001, after.get(after.size() - 1).getEmployeeId());
+    }
+    /*
+     * Update replaces a record in place, delete removes it,
+     * and getAllEmployees keeps insertion order throughout.
+     */
+
+    @Test
+    public void testManyDeletesCompactList() {
+        for (int id = 30000; id < 30500; id++) {
+            repository.addEmployee(newEmployee(id));
+        }
+        for (int id = 30000; id < 30500; id += 2) {
+            repository.deleteEmployeeById(id);
+        }
+
+        for (int id = 30000; id < 30500; id++) {
+            Employee employee = repository.findById(id);
+            if (id % 2 == 0) {
+                assertNull(employee);
+            } else {
+                assertEquals(id, employee.getEmployeeId());
+            }
+        }
+
+        List<Employee> all = repository.getAllEmployees();
+        assertEquals(30001, all.get(34).getEmployeeId());
+        assertEquals(30499, all.get(all.size() - 1).getEmployeeId());
+    }
+    /*
+     * Lookups stay correct after enough deletes to trigger compaction.
+     */
+
+    @Test
+    public void testIntIntHashMapAgainstHashMap() {
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -1000; key < 1000; key++) {
+            assertEquals(expected.getOrDefault(key, -1).intValue(), map.getOrDefault(key, -1));
+        }
+    }
+    /*
+     * Random puts and removes must leave the primitive index
+     * in the same state as java.util.HashMap.
+     */
+
+    @Test
+    public void testSaveRoundTrip() throws IOException {
+        EmployeeRepository original = repository;
+        Employee added = newEmployee(20001);
+        added.setAddress("12 Rizal Street, Quezon City");
+        added.setSssNumber("12-3456789-0");
+        original.addEmployee(added);
+        original.deleteEmployeeById(10002);
+        assertTrue(original.compactJournal());
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        List<Employee> expected = original.getAllEmployees();
+        List<Employee> actual = reloaded.getAllEmployees();
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Employee e = expected.get(i);
+            Employee a = actual.get(i);
+            assertEquals(e.getEmployeeId(), a.getEmployeeId());
+            assertEquals(e.getFullName(), a.getFullName());
+            assertEquals(e.getBirthday(), a.getBirthday());
+            assertEquals(e.getAddress(), a.getAddress());
+            assertEquals(e.getPhoneNumber(), a.getPhoneNumber());
+            assertEquals(e.getSssNumber(), a.getSssNumber());
+            assertEquals(e.getPhilHealthNumber(), a.getPhilHealthNumber());
+            assertEquals(e.getTinNumber(), a.getTinNumber());
+            assertEquals(e.getPagIbigNumber(), a.getPagIbigNumber());
+            assertEquals(e.getEmploymentStatus(), a.getEmploymentStatus());
+            assertEquals(e.getPosition(), a.getPosition());
+            assertEquals(e.getImmediateSupervisor(), a.getImmediateSupervisor());
+            assertEquals(e.getBasicSalary(), a.getBasicSalary());
+            assertEquals(e.getTotalAllowances(), a.getTotalAllowances(), 0.001);
+        }
+
+        assertFalse(Files.exists(Paths.get(file + ".tmp")));
+        assertFalse(Files.exists(Paths.get(file + ".journal")));
+    }
+    /*
+     * Writing a snapshot and reloading must reproduce every field, including
+     * quoted addresses and comma-grouped salaries, and leave no temp file.
+     */
+
+    @Test
+    public void testUnknownStatusRowSkipped() throws IOException {
+        String csv = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        int row = csv.indexOf("\n10001,");
+        int status = csv.indexOf(",Regular,", row);
+        Files.write(file, (csv.substring(0, status) + ",Contractual," + csv.substring(status + 9))
+                .getBytes(StandardCharsets.UTF_8));
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        assertNull(reloaded.findById(10001));
+        assertNotNull(reloaded.findById(10002));
+    }
+    /*
+     * A row whose status is neither Regular nor Probationary is treated as
+     * malformed and skipped, like a row with a bad amount.
+     */
+
+    @Test
+    public void testJournalReplayedOnLoad() throws IOException {
+        byte[] snapshot = Files.readAllBytes(file);
+
+        repository.addEmployee(newEmployee(20001));
+        repository.updateEmployee(newEmployee(10003));
+        repository.deleteEmployeeById(10002);
+        assertTrue(repository.saveEmployees());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(file));
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        assertNotNull(reloaded.findById(20001));
+        assertNull(reloaded.findById(10002));
+        assertEquals("Updated", reloaded.findById(10003).getLastName());
+        assertEquals(repository.getAllEmployees().size(), reloaded.getAllEmployees().size());
+    }
+    /*
+     * Saving appends to the journal and leaves the CSV untouched;
+     * a new repository replays the journal over the CSV.
+     */
+
+    @Test
+    public void testTornJournalEntryIgnored() throws IOException {
+        repository.deleteEmployeeById(10002);
+        repository.saveEmployees();
+        Files.write(Paths.get(file + ".journal"), "D,1000".getBytes(),
+                java.nio.file.StandardOpenOption.APPEND);
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        assertNull(reloaded.findById(10002));
+        assertEquals(33, reloaded.getAllEmployees().size());
+    }
+    /*
+     * A final journal line without a newline (crash mid-append)
+     * is discarded instead of being applied.
+     */
+
+    @Test
+    public void testAppendAfterTornJournalEntry() throws IOException {
+        repository.deleteEmployeeById(10002);
+        repository.saveEmployees();
+        Files.write(Paths.get(file + ".journal"), "U,10001,Gar".getBytes(),
+                java.nio.file.StandardOpenOption.APPEND);
+
+        EmployeeRepository restarted = new EmployeeRepository(file.toString());
+        restarted.updateEmployee(newEmployee(10034));
+        assertTrue(restarted.saveEmployees());
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        assertNull(reloaded.findById(10002));
+        assertEquals("Updated", reloaded.findById(10034).getLastName());
+        assertEquals("Garcia", reloaded.findById(10001).getLastName());
+        assertFalse(new String(Files.readAllBytes(Paths.get(file + ".journal"))).contains("Gar\n"));
+    }
+    /*
+     * After a restart over a torn journal, the next entry starts on a
+     * line of its own, so it survives the following replay.
+     */
+
+    @Test
+    public void testFailedJournalWriteReported() throws IOException {
+        Files.createDirectory(Paths.get(file + ".journal"));   // cannot be opened for writing
+
+        assertFalse(repository.updateEmployee(newEmployee(10003)));
+        assertFalse(repository.deleteEmployeeById(10002));
+
+        assertEquals("Aquino", repository.findById(10003).getLastName());
+        assertNotNull(repository.findById(10002));
+
+        assertFalse(repository.updateEmployee(newEmployee(99999)));
+        assertFalse(repository.deleteEmployeeById(99999));
+    }
+    /*
+     * Update and delete report false, and change nothing, when the
+     * journal cannot be written or the ID is unknown.
+     */
+
+    @Test
+    public void testRolledJournalReplayedAfterFailedCompaction() throws IOException {
+        repository.deleteEmployeeById(10002);
+        repository.saveEmployees();
+        Files.move(Paths.get(file + ".journal"), Paths.get(file + ".journal.old"));
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        reloaded.deleteEmployeeById(10003);
+        reloaded.saveEmployees();
+        assertTrue(reloaded.compactJournal());
+
+        EmployeeRepository compacted = new EmployeeRepository(file.toString());
+        assertNull(compacted.findById(10002));
+        assertNull(compacted.findById(10003));
+        assertFalse(Files.exists(Paths.get(file + ".journal.old")));
+    }
+    /*
+     * Entries left in a rolled journal by an interrupted compaction are
+     * replayed, and folded into the snapshot by the next compaction.
+     */
+
+    @Test
+    public void testBackgroundCompaction() throws Exception {
+        EmployeeRepository small = new EmployeeRepository(file.toString(), 1024);
+        for (int id = 20001; id <= 20010; id++) {
+            small.addEmployee(newEmployee(id));
+            small.saveEmployees();
+        }
+
+        boolean compacted = false;
+        for (int i = 0; i < 100 && !compacted; i++) {
+            Thread.sleep(50);
+            compacted = new String(Files.readAllBytes(file)).contains("20001,");
+        }
+        assertTrue(compacted);
+
+        EmployeeRepository reloaded = new EmployeeRepository(file.toString());
+        assertEquals(44, reloaded.getAllEmployees().size());
+    }
+    /*
+     * Once the journal passes its size threshold, a background snapshot
+     * folds the journal into the CSV without losing any mutation. Adds
+     * made after the snapshot started stay in the fresh journal, so only
+     * the early IDs are looked for in the CSV itself.
+     */
+
+    @Test
+    public void testChangeListenerSeesEachMutation() {
+        List<String> events = new ArrayList<>();
+        EmployeeChangeListener listener = new EmployeeChangeListener() {
+            public void employeeAdded(Employee employee) {
+                events.add("added " + employee.getEmployeeId());
+            }
+            public void employeeUpdated(Employee employee) {
+                events.add("updated " + employee.getEmployeeId());
+            }
+            public void employeeRemoved(int employeeId) {
+                events.add("removed " + employeeId);
+            }
+        };
+        repository.addChangeListener(listener);
+
+        repository.addEmployee(newEmployee(20001));
+        repository.addEmployee(newEmployee(20001));   // duplicate, no event
+        repository.updateEmployee(newEmployee(10001));
+        repository.updateEmployee(newEmployee(99999)); // unknown, no event
+        repository.deleteEmployeeById(10002);
+        repository.deleteEmployeeById(10002);          // already gone, no event
+
+        repository.removeChangeListener(listener);
+        repository.deleteEmployeeById(10003);
+
+        assertEquals(Arrays.asList("added 20001", "updated 10001", "removed 10002"), events);
+    }
+    /*
+     * Listeners get one event per applied add, update and delete, nothing
+     * for rejected changes, and nothing once removed.
+     */
+
+    private Employee newEmployee(int id) {
+        return new StaffEmployee(id, "Test", "Updated", "01/01/2000",
+                "Staff", "Operations", Money.ofPesos(20000), Money.ofPesos(1500), Money.ofPesos(1000), Money.ofPesos(1000),
+                EmploymentStatus.REGULAR);
+    }
+}
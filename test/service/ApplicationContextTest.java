@@ -0,0 +1,159 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import model.Employee;
+import model.EmploymentStatus;
+import model.FinanceEmployee;
+import model.HREmployee;
+import model.Money;
+import repository.AttendanceRepository;
+import repository.EmployeeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ApplicationContextTest {
+
+    private Path file;
+    private ApplicationContext context;
+
+    @Before
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("motorph");
+        file = dir.resolve("employee_record.csv");
+        Files.copy(Paths.get("src/resources/employee_record.csv"), file);
+        context = new ApplicationContext(new EmployeeRepository(file.toString()), new AttendanceRepository());
+    }
+    /*
+     * @Before runs before each test.
+     * It builds a context over a temporary copy of the employee roster.
+     */
+
+    @After
+    public void tearDown() {
+        context = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the ApplicationContext instance.
+     */
+
+    @Test
+    public void testServicesShareOneRoster() {
+        Employee created = context.getEmployeeService().createEmployee(20001, "Ana", "Cruz", "02/14/1995",
+                "HR Rank and File", Money.ofPesos(25000), Money.ofPesos(1500), Money.ofPesos(500), Money.ofPesos(500), EmploymentStatus.REGULAR);
+        assertTrue(context.getEmployeeService().addEmployee(created));
+
+        assertSame(created, context.getEmployeeRepository().findById(20001));
+        assertSame(created, context.getAuthenticationService().authenticate(20001, "02/14/1995"));
+    }
+    /*
+     * An employee added through EmployeeService is seen by the repository
+     * and by AuthenticationService without re-reading the file.
+     */
+
+    @Test
+    public void testCreateEmployeeFollowsPosition() {
+        EmployeeService service = context.getEmployeeService();
+        assertTrue(service.createEmployee(20002, "A", "B", "01/01/2000", "HR Team Leader",
+                0, 0, 0, 0, EmploymentStatus.REGULAR) instanceof HREmployee);
+        assertTrue(service.createEmployee(20003, "A", "B", "01/01/2000", "Account Manager",
+                0, 0, 0, 0, EmploymentStatus.REGULAR) instanceof FinanceEmployee);
+        assertNull(service.getEmployeeById(20002));
+    }
+    /*
+     * createEmployee picks the subclass from the position, the same way
+     * rows read from the CSV are typed, and does not add the employee.
+     */
+
+    @Test
+    public void testEmployeeUpdateRecomputesPayroll() {
+        PayrollService payroll = context.getPayrollService();
+        Employee employee = context.getEmployeeService().getEmployeeById(10001);
+
+        long before = payroll.calculateNetSalary(employee, "2024-06-01 to 2024-06-15");
+        assertEquals(before, payroll.calculateNetSalary(employee, "2024-06-01 to 2024-06-15"));
+        assertEquals(1, payroll.getResultCache().getHits());
+
+        employee.setBasicSalary(employee.getBasicSalary() + Money.ofPesos(10000));
+        context.getEmployeeService().updateEmployee(employee);
+
+        assertTrue(payroll.calculateNetSalary(employee, "2024-06-01 to 2024-06-15") > before);
+        assertEquals(2, payroll.getResultCache().getMisses());
+    }
+    /*
+     * Cached payroll results are dropped when the employee record is
+     * saved, so a raise shows up in the next computation.
+     */
+
+    @Test
+    public void testEditedCopyReplacesRecordOnlyWhenSaved() {
+        EmployeeService employees = context.getEmployeeService();
+        Employee shared = employees.getEmployeeById(10001);
+
+        Employee edited = shared.copy();
+        edited.setLastName("Renamed");
+        assertSame(shared.getClass(), edited.getClass());
+        assertEquals("Garcia", employees.getEmployeeById(10001).getLastName());
+
+        assertTrue(employees.updateEmployee(edited));
+        assertEquals("Garcia", shared.getLastName());
+        assertSame(edited, employees.getEmployeeById(10001));
+    }
+    /*
+     * Editing a copy leaves the shared record alone until the update is
+     * saved, then the saved copy becomes the shared record.
+     */
+
+    @Test
+    public void testFailedJournalWriteReportedByService() throws IOException {
+        Files.createDirectory(Paths.get(file + ".journal"));   // cannot be opened for writing
+        EmployeeService employees = context.getEmployeeService();
+
+        Employee edited = employees.getEmployeeById(10001).copy();
+        edited.setLastName("Renamed");
+
+        assertFalse(employees.updateEmployee(edited));
+        assertFalse(employees.deleteEmployee(10002));
+        assertEquals("Garcia", employees.getEmployeeById(10001).getLastName());
+        assertNotNull(employees.getEmployeeById(10002));
+    }
+    /*
+     * When the change cannot be journaled, the service reports failure
+     * instead of success, and the roster is unchanged.
+     */
+
+    @Test
+    public void testReusedEmployeeNumberDoesNotInheritPassword() {
+        AuthenticationService authentication = context.getAuthenticationService();
+        EmployeeService employees = context.getEmployeeService();
+
+        assertTrue(authentication.resetPassword(10002, "old-password"));
+        assertTrue(employees.deleteEmployee(10002));
+        assertNull(context.getCredentialRepository().findById(10002));
+
+        Employee newHire = employees.createEmployee(10002, "Nina", "Reyes", "03/04/2001",
+                "Account Rank and File", Money.ofPesos(22500), Money.ofPesos(1500),
+                Money.ofPesos(500), Money.ofPesos(500), EmploymentStatus.PROBATIONARY);
+        assertTrue(employees.addEmployee(newHire));
+
+        assertNull(authentication.authenticate(10002, "old-password"));
+        assertNotNull(authentication.authenticate(10002, "03/04/2001"));
+    }
+    /*
+     * Deleting an employee removes their stored password, so a new hire
+     * given the same number logs in with their own birthday.
+     */
+}
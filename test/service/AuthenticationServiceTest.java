@@ -0,0 +1,183 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import model.Credential;
+import model.Employee;
+import model.EmploymentStatus;
+import model.Money;
+import repository.CredentialRepository;
+import repository.EmployeeRepository;
+import repository.EpochDays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AuthenticationServiceTest {
+
+    private static final int ITERATIONS = 1000;
+
+    private Path dir;
+    private EmployeeRepository repository;
+    private CredentialRepository credentials;
+    private AuthenticationService authenticationService;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("motorph");
+        Path file = dir.resolve("employee_record.csv");
+        Files.copy(Paths.get("src/resources/employee_record.csv"), file);
+        repository = new EmployeeRepository(file.toString());
+        credentials = new CredentialRepository(dir.resolve("credentials.csv").toString());
+        authenticationService = new AuthenticationService(repository, credentials,
+                new PasswordHasher(ITERATIONS));
+    }
+    /*
+     * @Before runs before each test.
+     * It builds the service over a temporary copy of the employee roster
+     * and an empty credential store, with a low iteration count so the
+     * tests run quickly.
+     */
+
+    @After
+    public void tearDown() {
+        authenticationService = null;
+        credentials = null;
+        repository = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the AuthenticationService instance.
+     */
+
+    @Test
+    public void testAuthenticate() {
+        Employee employee = authenticationService.authenticate(10001, "10/11/1983");
+        assertNotNull(employee);
+        assertEquals(10001, employee.getEmployeeId());
+
+        assertNull(authenticationService.authenticate(10001, "10/12/1983"));
+        assertNull(authenticationService.authenticate(99999, "10/11/1983"));
+    }
+    /*
+     * The birthday logs the employee in; a wrong date or unknown ID does not.
+     */
+
+    @Test
+    public void testMalformedInputRejected() {
+        String[] inputs = {null, "", "10/11/83", "1983-10-11", "10/11/1983 ",
+                           "13/11/1983", "02/30/1983", "1a/11/1983", "10-11-1983"};
+        for (String input : inputs) {
+            assertNull(input, authenticationService.authenticate(10001, input));
+        }
+    }
+    /*
+     * Malformed or impossible dates are refused without an exception.
+     */
+
+    @Test
+    public void testBirthdayChangeTakesEffect() {
+        repository.updateEmployee(repository.createEmployee(10002, "Antonio", "Lim",
+                "01/02/1990", "Chief Operating Officer", Money.ofPesos(60000), Money.ofPesos(1500), Money.ofPesos(2000), Money.ofPesos(1000),
+                EmploymentStatus.REGULAR));
+
+        assertNotNull(authenticationService.authenticate(10002, "01/02/1990"));
+        assertNull(authenticationService.authenticate(10002, "06/19/1988"));
+
+        repository.deleteEmployeeById(10002);
+        assertNull(authenticationService.authenticate(10002, "01/02/1990"));
+    }
+    /*
+     * The credential index follows updates and deletes.
+     */
+
+    @Test
+    public void testParseAgreesWithLocalDate() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+        for (LocalDate date = LocalDate.of(1940, 1, 1);
+             date.isBefore(LocalDate.of(2030, 1, 1));
+             date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(), EpochDays.parse(date.format(formatter)));
+        }
+    }
+    /*
+     * EpochDays.parse gives the same day as LocalDate for every valid date.
+     */
+
+    @Test
+    public void testResetPasswordReplacesBirthday() {
+        assertFalse(authenticationService.resetPassword(10001, "short"));
+        assertFalse(authenticationService.resetPassword(99999, "longenough"));
+
+        assertTrue(authenticationService.resetPassword(10001, "n3w-Passw0rd"));
+        assertNotNull(authenticationService.authenticate(10001, "n3w-Passw0rd"));
+        assertNull(authenticationService.authenticate(10001, "10/11/1983"));
+        assertNull(authenticationService.authenticate(10001, "n3w-passw0rd"));
+
+        CredentialRepository reloaded = new CredentialRepository(dir.resolve("credentials.csv").toString());
+        assertEquals(credentials.findById(10001), reloaded.findById(10001));
+    }
+    /*
+     * A reset stores a salted hash on disk; from then on only the new
+     * password logs in.
+     */
+
+    @Test
+    public void testLowerIterationHashUpgradedOnLogin() {
+        credentials.save(new PasswordHasher(500).hash(10003, "01/01/2001"));
+
+        assertNotNull(authenticationService.authenticate(10003, "01/01/2001"));
+        assertEquals(ITERATIONS, credentials.findById(10003).getIterations());
+        assertNotNull(authenticationService.authenticate(10003, "01/01/2001"));
+    }
+    /*
+     * A hash made with fewer iterations than configured is re-derived
+     * after a successful login.
+     */
+
+    @Test
+    public void testSaltsDiffer() {
+        PasswordHasher hasher = new PasswordHasher(ITERATIONS);
+        Credential first = hasher.hash(10001, "same password");
+        Credential second = hasher.hash(10001, "same password");
+
+        assertFalse(java.util.Arrays.equals(first.getHash(), second.getHash()));
+        assertTrue(hasher.verify(first, "same password"));
+        assertTrue(hasher.verify(second, "same password"));
+        assertFalse(hasher.verify(first, null));
+    }
+    /*
+     * Each hash gets its own random salt, so equal passwords never share
+     * a stored hash.
+     */
+
+    @Test
+    public void testRepeatedFailuresThrottled() {
+        for (int i = 0; i < LoginThrottle.FREE_ATTEMPTS; i++) {
+            assertNull(authenticationService.authenticate(10001, "01/01/2000"));
+        }
+        assertTrue(authenticationService.getRetryAfterMillis(10001) > 0);
+        assertNull(authenticationService.authenticate(10001, "10/11/1983"));
+
+        assertEquals(0, authenticationService.getRetryAfterMillis(10002));
+        assertTrue(authenticationService.resetPassword(10001, "n3w-Passw0rd"));
+        assertNotNull(authenticationService.authenticate(10001, "n3w-Passw0rd"));
+    }
+    /*
+     * After too many failures even the right password is refused until
+     * the backoff passes; a password reset unlocks the account.
+     */
+}
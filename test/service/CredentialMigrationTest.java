@@ -0,0 +1,105 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import model.Credential;
+import model.Employee;
+import repository.CredentialRepository;
+import repository.EmployeeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CredentialMigrationTest {
+
+    private Path credentialFile;
+    private EmployeeRepository employees;
+    private CredentialRepository credentials;
+    private PasswordHasher hasher;
+
+    @Before
+    public void setUp() throws IOException {
+        Path dir = Files.createTempDirectory("motorph");
+        Path file = dir.resolve("employee_record.csv");
+        Files.copy(Paths.get("src/resources/employee_record.csv"), file);
+        credentialFile = dir.resolve("credentials.csv");
+
+        employees = new EmployeeRepository(file.toString());
+        credentials = new CredentialRepository(credentialFile.toString());
+        hasher = new PasswordHasher(1000);
+    }
+    /*
+     * @Before runs before each test.
+     * It uses a temporary copy of the employee roster and an empty
+     * credential store.
+     */
+
+    @After
+    public void tearDown() {
+        credentials = null;
+        employees = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the repositories.
+     */
+
+    @Test
+    public void testMigrateHashesEveryBirthday() {
+        int count = employees.getAllEmployees().size();
+        assertEquals(count, new CredentialMigration(employees, credentials, hasher).migrate(4));
+
+        CredentialRepository reloaded = new CredentialRepository(credentialFile.toString());
+        assertEquals(count, reloaded.size());
+        for (Employee employee : employees.getAllEmployees()) {
+            Credential credential = reloaded.findById(employee.getEmployeeId());
+            assertTrue(hasher.verify(credential, employee.getBirthday()));
+        }
+
+        AuthenticationService auth = new AuthenticationService(employees, reloaded, hasher);
+        assertNotNull(auth.authenticate(10001, "10/11/1983"));
+        assertNull(auth.authenticate(10001, "10/12/1983"));
+    }
+    /*
+     * Every employee gets a credential hashed from their birthday, so the
+     * birthday still logs them in after migration.
+     */
+
+    @Test
+    public void testMigrateSkipsExistingCredentials() {
+        AuthenticationService auth = new AuthenticationService(employees, credentials, hasher);
+        assertTrue(auth.resetPassword(10001, "chosen-password"));
+
+        int count = employees.getAllEmployees().size();
+        CredentialMigration migration = new CredentialMigration(employees, credentials, hasher);
+        assertEquals(count - 1, migration.migrate(2));
+        assertEquals(0, migration.migrate(2));
+
+        assertNotNull(auth.authenticate(10001, "chosen-password"));
+        assertNull(auth.authenticate(10001, "10/11/1983"));
+    }
+    /*
+     * Employees that already have a password keep it, and re-running the
+     * migration changes nothing.
+     */
+
+    @Test
+    public void testCalibrateMeetsMinimum() {
+        assertTrue(PasswordHasher.calibrate(0) >= PasswordHasher.MIN_ITERATIONS);
+        assertTrue(PasswordHasher.measureMillis(1000) > 0);
+    }
+    /*
+     * Calibration never suggests fewer than MIN_ITERATIONS.
+     */
+}
@@ -0,0 +1,128 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.Employee;
+import model.EmploymentStatus;
+import model.Money;
+import model.StaffEmployee;
+import repository.EmployeeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EmployeeSearchIndexTest {
+
+    private List<Employee> employees;
+    private EmployeeSearchIndex index;
+
+    @Before
+    public void setUp() {
+        employees = new EmployeeRepository().getAllEmployees();
+        index = new EmployeeSearchIndex(employees);
+    }
+    /*
+     * @Before runs before each test.
+     * It indexes the employee roster.
+     */
+
+    @After
+    public void tearDown() {
+        index = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the EmployeeSearchIndex instance.
+     */
+
+    @Test
+    public void testSearchByEachField() {
+        assertEquals(10001, only(index.search("10001")).getEmployeeId());
+        assertEquals(10001, only(index.search("garc")).getEmployeeId());
+        assertEquals(10001, only(index.search("Manuel III")).getEmployeeId());
+        assertEquals(10001, only(index.search("44-4506057")).getEmployeeId());
+        assertEquals(10001, only(index.search("4445060573")).getEmployeeId());
+        assertEquals(10001, only(index.search("442-605")).getEmployeeId());
+        assertEquals(10002, only(index.search("chief operating")).getEmployeeId());
+        assertTrue(index.search("zzz").isEmpty());
+    }
+    /*
+     * Every searchable field matches by word prefix, government numbers
+     * with or without dashes, and all query words must match.
+     */
+
+    @Test
+    public void testBlankQueryReturnsRosterInOrder() {
+        assertEquals(employees, index.search("  "));
+    }
+    /*
+     * An empty query lists every employee in roster order.
+     */
+
+    @Test
+    public void testAgreesWithScan() {
+        Random random = new Random(16);
+        for (int i = 0; i < 200; i++) {
+            Employee sample = employees.get(random.nextInt(employees.size()));
+            String word = sample.getLastName().split(" ")[0];
+            String query = word.substring(0, 1 + random.nextInt(word.length()));
+            if (random.nextBoolean()) {
+                query += " " + sample.getPosition().substring(0, 2);
+            }
+            assertEquals(query, scan(query), index.search(query));
+        }
+    }
+    /*
+     * Indexed results equal a plain scan of the roster with matches().
+     */
+
+    @Test
+    public void testChangesKeepIndexCurrent() {
+        Employee added = newEmployee(20001, "Zamora");
+        index.employeeAdded(added);
+        assertSame(added, only(index.search("zam")));
+
+        index.employeeUpdated(newEmployee(20001, "Yap"));
+        assertTrue(index.search("zam").isEmpty());
+        assertEquals("Yap", only(index.search("yap")).getLastName());
+
+        index.employeeRemoved(20001);
+        assertTrue(index.search("yap").isEmpty());
+        assertEquals(employees, index.search(""));
+    }
+    /*
+     * Added, updated and removed employees are reflected in results,
+     * with no stale matches for replaced or deleted words.
+     */
+
+    private List<Employee> scan(String query) {
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (EmployeeSearchIndex.matches(query, employee)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    private Employee only(List<Employee> matches) {
+        assertEquals(1, matches.size());
+        return matches.get(0);
+    }
+
+    private Employee newEmployee(int id, String lastName) {
+        return new StaffEmployee(id, "Test", lastName, "01/01/2000",
+                "Staff", "Operations", Money.ofPesos(20000), Money.ofPesos(1500), Money.ofPesos(1000), Money.ofPesos(1000),
+                EmploymentStatus.REGULAR);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LoginThrottleTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private AtomicLong clock;
+    private LoginThrottle throttle;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong(5_000 * MILLIS);
+        throttle = new LoginThrottle(3, 1_000, 8_000, 60_000, 20, 50, clock::get);
+    }
+    /*
+     * @Before runs before each test.
+     * It creates a throttle on a fake clock that the tests move by hand.
+     */
+
+    @After
+    public void tearDown() {
+        throttle = null;
+        clock = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the LoginThrottle instance.
+     */
+
+    @Test
+    public void testBackoffDoubles() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire(10001));
+            throttle.recordFailure(10001);
+        }
+        assertEquals(1_000, throttle.tryAcquire(10001));
+        assertEquals(0, throttle.tryAcquire(10002));
+
+        advance(1_000);
+        assertEquals(0, throttle.tryAcquire(10001));
+        throttle.recordFailure(10001);
+        assertEquals(2_000, throttle.retryAfterMillis(10001));
+
+        advance(2_000);
+        throttle.recordFailure(10001);
+        assertEquals(4_000, throttle.retryAfterMillis(10001));
+
+        advance(4_000);
+        throttle.recordFailure(10001);
+        advance(8_000);
+        throttle.recordFailure(10001);
+        assertEquals(8_000, throttle.retryAfterMillis(10001));
+    }
+    /*
+     * After three free failures the account waits one second, doubling
+     * with each further failure up to the maximum; other IDs are unaffected.
+     */
+
+    @Test
+    public void testSuccessAndQuietPeriodReset() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure(10001);
+        }
+        throttle.recordSuccess(10001);
+        assertEquals(0, throttle.failures(10001));
+        assertEquals(0, throttle.tryAcquire(10001));
+
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure(10001);
+        }
+        advance(60_001);
+        assertEquals(0, throttle.tryAcquire(10001));
+        throttle.recordFailure(10001);
+        assertEquals(1, throttle.failures(10001));
+    }
+    /*
+     * A successful login clears the count at once; a quiet period longer
+     * than the reset window clears it on the next failure.
+     */
+
+    @Test
+    public void testAccountsCountedByExactId() {
+        int other = 10001 + 65536;
+
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure(10001);
+        }
+        assertEquals(0, throttle.failures(other));
+        assertEquals(0, throttle.retryAfterMillis(other));
+
+        throttle.recordSuccess(other);
+        assertEquals(5, throttle.failures(10001));
+        assertTrue(throttle.retryAfterMillis(10001) > 0);
+    }
+    /*
+     * IDs that agree in their low bits still have separate counts: one
+     * account's failures never block the other, and its success never
+     * clears the other's backoff.
+     */
+
+    @Test
+    public void testQuietAccountsSweptOut() {
+        for (int id = 0; id < 4096; id++) {
+            throttle.recordFailure(id);
+        }
+        advance(60_001);
+        throttle.recordFailure(10001);
+
+        assertEquals(1, throttle.trackedAccounts());
+        assertEquals(1, throttle.failures(10001));
+    }
+    /*
+     * Once the map is large, IDs whose failures are past the reset window
+     * are dropped, so guessing many IDs cannot grow it without bound.
+     */
+
+    @Test
+    public void testGlobalLimit() {
+        for (int i = 0; i < 50; i++) {
+            assertEquals(0, throttle.tryAcquire(20000 + i));
+        }
+        assertTrue(throttle.tryAcquire(30000) > 0);
+        assertTrue(throttle.retryAfterMillis(30000) > 0);
+
+        advance(50);
+        assertEquals(0, throttle.tryAcquire(30000));
+        assertTrue(throttle.tryAcquire(30001) > 0);
+    }
+    /*
+     * A burst of 50 attempts passes, then attempts are let through at
+     * the sustained rate of one per 50 ms.
+     */
+
+    @Test
+    public void testConcurrentFailuresAllCounted() throws InterruptedException {
+        int threads = 4;
+        int perThread = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    throttle.recordFailure(10001);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, throttle.failures(10001));
+    }
+    /*
+     * Failures recorded from several threads at once are never lost.
+     */
+
+    @Test
+    public void testAttemptsInProgressReserved() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire(10001));
+        }
+        assertTrue(throttle.tryAcquire(10001) > 0);
+        assertEquals(3, throttle.pending(10001));
+
+        throttle.recordFailure(10001);
+        assertTrue(throttle.tryAcquire(10001) > 0);
+
+        throttle.recordSuccess(10001);
+        assertEquals(0, throttle.failures(10001));
+        assertEquals(1, throttle.pending(10001));
+        assertEquals(0, throttle.tryAcquire(10001));
+    }
+    /*
+     * Attempts that have not finished yet count against the free attempts,
+     * so a fourth simultaneous login is refused; settling one attempt
+     * (here as a success, which clears the failures) frees its place.
+     */
+
+    @Test
+    public void testOneRetryAtATimeAfterBackoff() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(10001);
+        }
+        advance(1_000);
+
+        assertEquals(0, throttle.tryAcquire(10001));
+        assertTrue(throttle.tryAcquire(10001) > 0);
+
+        throttle.recordFailure(10001);
+        assertEquals(2_000, throttle.tryAcquire(10001));
+        assertEquals(0, throttle.pending(10001));
+    }
+    /*
+     * Once the delay of a blocked account is up, a single attempt may run;
+     * others are refused until it fails and starts the next delay.
+     */
+
+    @Test
+    public void testGlobalRefusalReleasesReservation() {
+        for (int i = 0; i < 50; i++) {
+            assertEquals(0, throttle.tryAcquire(20000 + i));
+        }
+        assertTrue(throttle.tryAcquire(30000) > 0);
+        assertEquals(0, throttle.pending(30000));
+        assertEquals(50, throttle.trackedAccounts());
+    }
+    /*
+     * An attempt refused by the global limit does not stay reserved on the
+     * account, and leaves nothing behind in the map.
+     */
+
+    @Test
+    public void testConcurrentAttemptsLimitedToFreeAttempts() throws InterruptedException {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong allowed = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (throttle.tryAcquire(10001) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(3, allowed.get());
+    }
+    /*
+     * Of several logins for the same account started at once, only the
+     * free attempts get through before any of them is settled.
+     */
+
+    private void advance(long millis) {
+        clock.addAndGet(millis * MILLIS);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import model.PayFrequency;
+import model.PayPeriod;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PayCalendarTest {
+
+    @Test
+    public void testSemiMonthlyPeriods() {
+        List<PayPeriod> periods = new PayCalendar(PayFrequency.SEMI_MONTHLY).periods(2024);
+
+        assertEquals(24, periods.size());
+        assertEquals("2024-01-01 to 2024-01-15", periods.get(0).toString());
+        assertEquals("2024-02-16 to 2024-02-29", periods.get(3).toString());
+        assertEquals("2024-12-16 to 2024-12-31", periods.get(23).toString());
+        assertCoversEveryDay(periods, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+    /*
+     * Two periods a month, split after the 15th, ending on the real last
+     * day of the month (leap years included).
+     */
+
+    @Test
+    public void testMonthlyPeriods() {
+        List<PayPeriod> periods = new PayCalendar(PayFrequency.MONTHLY).periods(2023);
+
+        assertEquals(12, periods.size());
+        assertEquals("2023-02-01 to 2023-02-28", periods.get(1).toString());
+        assertCoversEveryDay(periods, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+    }
+    /*
+     * One period per calendar month.
+     */
+
+    @Test
+    public void testWeeklyPeriodsStartOnWeekStart() {
+        PayCalendar calendar = new PayCalendar(PayFrequency.WEEKLY, DayOfWeek.MONDAY);
+        List<PayPeriod> periods = calendar.periods(2025);
+
+        assertEquals(LocalDate.of(2025, 1, 6), periods.get(0).getStart());
+        for (PayPeriod period : periods) {
+            assertEquals(DayOfWeek.MONDAY, period.getStart().getDayOfWeek());
+            assertEquals(7, period.getDays());
+        }
+
+        // 2025-01-01 (a Wednesday) is in the last week started in 2024
+        PayPeriod newYear = calendar.periodContaining(LocalDate.of(2025, 1, 1));
+        assertEquals(LocalDate.of(2024, 12, 30), newYear.getStart());
+        assertSame(newYear, calendar.periods(2024).get(calendar.periods(2024).size() - 1));
+    }
+    /*
+     * Weekly periods belong to the year they start in, so the first days
+     * of January can fall in the previous year's last week.
+     */
+
+    @Test
+    public void testPeriodContainingReturnsSharedInstances() {
+        PayCalendar calendar = new PayCalendar(PayFrequency.SEMI_MONTHLY);
+
+        PayPeriod period = calendar.periodContaining(LocalDate.of(2024, 6, 15));
+        assertEquals("2024-06-01 to 2024-06-15", period.toString());
+        assertSame(period, calendar.periodContaining(LocalDate.of(2024, 6, 1)));
+        assertSame(calendar.periods(2024), calendar.periods(2024));
+        assertEquals("2024-06-16 to 2024-06-30", calendar.periodContaining(LocalDate.of(2024, 6, 16)).toString());
+    }
+    /*
+     * Looking up a date returns the precomputed period, not a new one.
+     */
+
+    @Test
+    public void testPeriodsBetweenSpansYears() {
+        List<PayPeriod> periods = new PayCalendar(PayFrequency.SEMI_MONTHLY)
+                .periodsBetween(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 3));
+
+        assertEquals(2, periods.size());
+        assertEquals("2024-12-16 to 2024-12-31", periods.get(0).toString());
+        assertEquals("2025-01-01 to 2025-01-15", periods.get(1).toString());
+    }
+    /*
+     * Every period that overlaps the dates is listed, across a year end.
+     */
+
+    @Test
+    public void testPayPeriodParseAndEpochDays() {
+        PayPeriod period = PayPeriod.parse("2024-06-01 to 2024-06-15");
+
+        assertEquals(LocalDate.of(2024, 6, 1).toEpochDay(), period.getStartDay());
+        assertEquals(LocalDate.of(2024, 6, 15).toEpochDay(), period.getEndDay());
+        assertEquals(period, PayPeriod.parse(period.toString()));
+        assertTrue(period.contains(LocalDate.of(2024, 6, 15)));
+        assertFalse(period.contains(LocalDate.of(2024, 6, 16)));
+
+        for (String text : new String[] { "2024-06-01", "2024-06-01 to June 15", "2024-06-15 to 2024-06-01" }) {
+            try {
+                PayPeriod.parse(text);
+                fail("Parsed \"" + text + "\"");
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+    /*
+     * The label parses back to an equal period with the same epoch-day
+     * bounds; malformed or reversed ranges are rejected.
+     */
+
+    // Periods are in order, never overlap and leave no gaps
+    private void assertCoversEveryDay(List<PayPeriod> periods, LocalDate first, LocalDate last) {
+        assertEquals(first, periods.get(0).getStart());
+        for (int i = 1; i < periods.size(); i++) {
+            assertEquals(periods.get(i - 1).getEndDay() + 1, periods.get(i).getStartDay());
+        }
+        assertEquals(last, periods.get(periods.size() - 1).getEnd());
+    }
+}
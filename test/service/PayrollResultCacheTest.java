@@ -0,0 +1,192 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import model.PayPeriod;
+import model.PayrollResult;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PayrollResultCacheTest {
+
+    private static final long MINUTE = 60_000_000_000L;
+
+    private static final PayPeriod FIRST_HALF =
+            new PayPeriod(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 15));
+    private static final PayPeriod SECOND_HALF =
+            new PayPeriod(LocalDate.of(2024, 6, 16), LocalDate.of(2024, 6, 30));
+
+    private AtomicLong clock;
+    private AtomicInteger computations;
+    private PayrollResultCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong(1_000 * MINUTE);
+        computations = new AtomicInteger();
+        cache = new PayrollResultCache(3, 10 * MINUTE, clock::get);
+    }
+    /*
+     * @Before runs before each test.
+     * It creates a three-entry cache with a ten-minute TTL on a fake clock.
+     */
+
+    @After
+    public void tearDown() {
+        cache = null;
+        computations = null;
+        clock = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the PayrollResultCache instance.
+     */
+
+    @Test
+    public void testHitAndMissCounted() {
+        PayrollResult first = cache.get(10001, FIRST_HALF, compute(10001));
+        PayrollResult second = cache.get(10001, FIRST_HALF, compute(10001));
+        cache.get(10001, SECOND_HALF, compute(10001));
+
+        assertSame(first, second);
+        assertEquals(2, computations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+    /*
+     * The same employee and period is computed once; another period of the
+     * same employee is a separate entry.
+     */
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        cache.get(10001, FIRST_HALF, compute(10001));
+        cache.get(10002, FIRST_HALF, compute(10002));
+        cache.get(10003, FIRST_HALF, compute(10003));
+        cache.get(10001, FIRST_HALF, compute(10001));   // 10002 is now eldest
+        cache.get(10004, FIRST_HALF, compute(10004));
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        computations.set(0);
+        cache.get(10001, FIRST_HALF, compute(10001));
+        cache.get(10003, FIRST_HALF, compute(10003));
+        assertEquals(0, computations.get());
+
+        cache.get(10002, FIRST_HALF, compute(10002));
+        assertEquals(1, computations.get());
+    }
+    /*
+     * Past the size bound, the least recently used result is dropped.
+     */
+
+    @Test
+    public void testExpiresAfterTtl() {
+        cache.get(10001, FIRST_HALF, compute(10001));
+
+        clock.addAndGet(10 * MINUTE - 1);
+        cache.get(10001, FIRST_HALF, compute(10001));
+        assertEquals(1, computations.get());
+
+        clock.addAndGet(1);
+        cache.get(10001, FIRST_HALF, compute(10001));
+        assertEquals(2, computations.get());
+    }
+    /*
+     * A result is served for exactly the TTL after it was computed.
+     */
+
+    @Test
+    public void testAttendanceInvalidatesOnlyContainingPeriods() {
+        cache.get(10001, FIRST_HALF, compute(10001));
+        cache.get(10001, SECOND_HALF, compute(10001));
+        cache.get(10002, FIRST_HALF, compute(10002));
+
+        cache.attendanceRecorded(10001, LocalDate.of(2024, 6, 15));
+        assertEquals(2, cache.size());
+
+        computations.set(0);
+        cache.get(10001, SECOND_HALF, compute(10001));
+        cache.get(10002, FIRST_HALF, compute(10002));
+        assertEquals(0, computations.get());
+
+        cache.get(10001, FIRST_HALF, compute(10001));
+        assertEquals(1, computations.get());
+
+        cache.attendanceReloaded();
+        assertEquals(0, cache.size());
+    }
+    /*
+     * A recorded attendance row drops only that employee's periods that
+     * contain its date; a reload drops everything.
+     */
+
+    @Test
+    public void testEmployeeChangeInvalidatesAllPeriods() {
+        cache.get(10001, FIRST_HALF, compute(10001));
+        cache.get(10001, SECOND_HALF, compute(10001));
+        cache.get(10002, FIRST_HALF, compute(10002));
+
+        cache.employeeRemoved(10001);
+        assertEquals(1, cache.size());
+
+        computations.set(0);
+        cache.get(10002, FIRST_HALF, compute(10002));
+        assertEquals(0, computations.get());
+    }
+    /*
+     * A changed employee record drops every period of that employee and
+     * nothing else.
+     */
+
+    @Test
+    public void testInvalidationDuringComputationNotStored() {
+        PayrollResult result = cache.get(10001, FIRST_HALF, () -> {
+            cache.invalidate(10001);
+            return compute(10001).get();
+        });
+
+        assertNotNull(result);
+        assertEquals(0, cache.size());
+    }
+    /*
+     * A result computed while its data changed is returned to the caller
+     * but never cached.
+     */
+
+    @Test
+    public void testZeroEntriesDisablesCache() {
+        PayrollResultCache disabled = new PayrollResultCache(0, MINUTE, clock::get);
+        disabled.get(10001, FIRST_HALF, compute(10001));
+        disabled.get(10001, FIRST_HALF, compute(10001));
+
+        assertEquals(2, computations.get());
+        assertEquals(0, disabled.size());
+    }
+    /*
+     * With no room, every lookup computes.
+     */
+
+    // Counts each computation
+    private Supplier<PayrollResult> compute(int employeeId) {
+        return () -> {
+            computations.incrementAndGet();
+            return new PayrollResult(employeeId, "Employee " + employeeId, 80.0,
+                    2_000_000, 90_000, 55_000, 10_000, 100_000, 1_745_000);
+        };
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.Employee;
+import model.Money;
+import model.PayPeriod;
+import model.PayrollResult;
+import model.PayrollRun;
+import repository.AttendanceRepository;
+import repository.EmployeeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PayrollServiceTest {
+
+    private static final String PAY_PERIOD = "2024-06-01 to 2024-06-15";
+
+    private PayrollService payrollService;
+    private List<Employee> employees;
+
+    @Before
+    public void setUp() {
+        payrollService = new PayrollService(new AttendanceRepository());
+        employees = new EmployeeRepository().getAllEmployees();
+    }
+    /*
+     * @Before runs before each test.
+     * It initializes the PayrollService and loads the employee roster.
+     */
+
+    @After
+    public void tearDown() {
+        payrollService = null;
+        employees = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the PayrollService and employee roster.
+     */
+
+    @Test
+    public void testRunMatchesSingleEmployeeCalls() {
+        PayrollRun run = payrollService.runPayroll(employees, PAY_PERIOD);
+        assertEquals(employees.size(), run.size());
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            PayrollResult result = run.getResults().get(i);
+
+            assertEquals(employee.getEmployeeId(), result.getEmployeeId());
+            assertEquals(payrollService.calculateHoursWorked(employee, PAY_PERIOD),
+                    result.getHoursWorked(), 0.001);
+            assertEquals(payrollService.calculateNetSalary(employee, PAY_PERIOD),
+                    result.getNetSalary());
+        }
+    }
+    /*
+     * A batch run must produce the same hours and net salary,
+     * in the same order, as calling PayrollService once per employee.
+     */
+
+    @Test
+    public void testRunTotalsReconcile() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            roster.addAll(employees);
+        }
+
+        PayrollRun run = payrollService.runPayroll(roster, PAY_PERIOD);
+        assertEquals(run.getTotalGrossSalary() - run.getTotalDeductions(),
+                run.getTotalNetSalary());
+
+        long net = 0;
+        for (PayrollResult result : run.getResults()) {
+            assertEquals(result.getGrossSalary() - result.getSss() - result.getPhilHealth()
+                    - result.getPagIbig() - result.getWithholdingTax(), result.getNetSalary());
+            net += result.getNetSalary();
+        }
+        assertEquals(net, run.getTotalNetSalary());
+    }
+    /*
+     * Gross minus deductions must equal net exactly, for every payslip
+     * and across a run of tens of thousands of them.
+     */
+
+    @Test
+    public void testPayPeriodsCoverAttendance() {
+        AttendanceRepository attendance = new AttendanceRepository();
+        List<PayPeriod> periods = new PayrollService(attendance).getPayPeriods();
+
+        assertTrue(periods.get(0).contains(attendance.getFirstDate()));
+        assertTrue(periods.get(periods.size() - 1).contains(attendance.getLastDate()));
+        assertTrue(periods.contains(PayPeriod.parse(PAY_PERIOD)));
+
+        for (Employee employee : employees) {
+            assertEquals(payrollService.calculateNetSalary(employee, PAY_PERIOD),
+                    payrollService.calculateNetSalary(employee, PayPeriod.parse(PAY_PERIOD)));
+        }
+    }
+    /*
+     * The pay periods offered span the attendance on file, and a PayPeriod
+     * gives the same pay as its "YYYY-MM-DD to YYYY-MM-DD" label.
+     */
+
+    @Test
+    public void testRecordedAttendanceRecomputesCachedResult() throws IOException {
+        Path file = Files.createTempFile("attendance", ".csv");
+        Files.copy(Paths.get("src/resources/attendance_record.csv"), file, StandardCopyOption.REPLACE_EXISTING);
+
+        AttendanceRepository attendance = new AttendanceRepository(file.toString());
+        PayrollService service = new PayrollService(attendance);
+        Employee employee = employees.get(0);
+
+        PayrollResult before = service.calculatePayrollResult(employee, PAY_PERIOD);
+        assertSame(before, service.calculatePayrollResult(employee, PAY_PERIOD));
+
+        assertTrue(attendance.recordAttendance(employee, LocalDate.of(2024, 6, 15),
+                LocalTime.of(18, 0), LocalTime.of(20, 30)));
+
+        PayrollResult after = service.calculatePayrollResult(employee, PAY_PERIOD);
+        assertEquals(before.getHoursWorked() + 2.5, after.getHoursWorked(), 0.001);
+        assertEquals(1, service.getResultCache().getHits());
+        assertEquals(2, service.getResultCache().getMisses());
+
+        Files.delete(file);
+    }
+    /*
+     * A cached result is served until attendance is recorded inside its
+     * pay period, then recomputed with the new hours.
+     */
+
+    @Test
+    public void testBasicPayProratedToTheMinute() {
+        Employee employee = employees.get(0);
+        long basic = employee.getBasicSalary();
+
+        assertEquals(basic, payrollService.calculateBasicPay(employee, 160.0));
+        assertEquals(Money.prorate(basic, 80 * 60 + 30, 160 * 60),
+                payrollService.calculateBasicPay(employee, 80.5));
+        assertEquals(0, payrollService.calculateBasicPay(employee, 0.0));
+    }
+    /*
+     * Basic pay is the monthly salary prorated over 160 hours, to the
+     * minute, with a single rounding.
+     */
+
+    @Test
+    public void testParallelRunMatchesSequentialRun() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            roster.addAll(employees);
+        }
+
+        PayrollRun sequential = payrollService.runPayroll(roster, PAY_PERIOD);
+
+        for (int parallelism = 1; parallelism <= 4; parallelism++) {
+            payrollService.setParallelism(parallelism);
+            PayrollRun parallel = payrollService.runPayrollParallel(roster, PAY_PERIOD);
+
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                PayrollResult expected = sequential.getResults().get(i);
+                PayrollResult actual = parallel.getResults().get(i);
+                assertEquals(expected.getEmployeeId(), actual.getEmployeeId());
+                assertEquals(expected.getNetSalary(), actual.getNetSalary());
+            }
+            assertEquals(sequential.getTotalNetSalary(), parallel.getTotalNetSalary());
+        }
+    }
+    /*
+     * A parallel run must return exactly the same results, in the same
+     * order, as a single-threaded run for any degree of parallelism.
+     */
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelismMustBePositive() {
+        payrollService.setParallelism(0);
+    }
+    /*
+     * At least one worker thread is required.
+     */
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRunResultsAreReadOnly() {
+        PayrollRun run = payrollService.runPayroll(employees, PAY_PERIOD);
+        run.getResults().clear();
+    }
+    /*
+     * The result list of a payroll run cannot be modified.
+     */
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRunRejectsInvalidPeriod() {
+        payrollService.runPayroll(employees, "June 2024");
+    }
+    /*
+     * A malformed pay period is rejected instead of producing an empty run.
+     */
+}
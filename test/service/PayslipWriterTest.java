@@ -0,0 +1,137 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import model.Money;
+import model.PayPeriod;
+import model.PayrollResult;
+import model.PayrollRun;
+import repository.AttendanceRepository;
+import repository.EmployeeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PayslipWriterTest {
+
+    private static final PayPeriod PAY_PERIOD = PayPeriod.parse("2024-06-01 to 2024-06-15");
+
+    private PayrollRun run;
+    private PayslipWriter writer;
+
+    @Before
+    public void setUp() {
+        run = new PayrollService(new AttendanceRepository())
+                .runPayroll(new EmployeeRepository().getAllEmployees(), PAY_PERIOD);
+        writer = new PayslipWriter(1024);
+    }
+    /*
+     * @Before runs before each test.
+     * It runs payroll for one period over the sample data, and creates a
+     * writer whose buffer is smaller than the run's output.
+     */
+
+    @After
+    public void tearDown() {
+        run = null;
+        writer = null;
+    }
+    /*
+     * @After runs after each test.
+     * It clears the payroll run and the PayslipWriter instance.
+     */
+
+    @Test
+    public void testStreamHoldsEveryPayslipInOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(run.size(), writer.write(run, out));
+
+        StringBuilder expected = new StringBuilder();
+        for (PayrollResult result : run.getResults()) {
+            expected.append(writer.format(result, PAY_PERIOD));
+        }
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+    /*
+     * The stream output is exactly the payslips one after another, even
+     * though the byte buffer fills up many times along the way.
+     */
+
+    @Test
+    public void testPayslipShowsHoursAndDeductions() {
+        PayrollResult result = new PayrollResult(10001, "Manuel III Garcia", 88.5,
+                Money.ofPesos(54281), 112_500, 149_273, 10_000, 1_089_340, 4_066_987);
+        String payslip = writer.format(result, PAY_PERIOD);
+
+        assertTrue(payslip.contains("Pay Period: 2024-06-01 to 2024-06-15\n"));
+        assertTrue(payslip.contains("Employee #: 10001\n"));
+        assertTrue(payslip.contains(line("Hours Worked:", "88.50")));
+        assertTrue(payslip.contains(line("Gross Salary:", "54,281.00")));
+        assertTrue(payslip.contains(line("SSS:", "1,125.00")));
+        assertTrue(payslip.contains(line("PhilHealth:", "1,492.73")));
+        assertTrue(payslip.contains(line("Pag-IBIG:", "100.00")));
+        assertTrue(payslip.contains(line("Withholding Tax:", "10,893.40")));
+        assertTrue(payslip.contains(line("Total Deductions:", "13,611.13")));
+        assertTrue(payslip.contains(line("Net Salary:", "40,669.87")));
+    }
+    /*
+     * Each payslip carries the period, the attendance hours and every
+     * deduction, with amounts right-aligned in one column.
+     */
+
+    @Test
+    public void testDirectoryHoldsOneFilePerEmployee() throws IOException {
+        Path dir = Files.createTempDirectory("payslips");
+        assertEquals(run.size(), writer.writeToDirectory(run, dir));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(run.size(), files.count());
+        }
+
+        for (PayrollResult result : run.getResults()) {
+            Path file = dir.resolve("payslip-" + result.getEmployeeId() + "-2024-06-01.txt");
+            assertEquals(writer.format(result, PAY_PERIOD),
+                    new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+    /*
+     * Split output writes one file per employee with the same payslip
+     * text as the stream output.
+     */
+
+    @Test
+    public void testNonAsciiNameEncoded() throws IOException {
+        PayrollResult result = new PayrollResult(20001, "Señora Peña", 0.0, 0, 0, 0, 0, 0, 0);
+        PayrollRun single = new PayrollRun(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 15),
+                Arrays.asList(result));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(single, out);
+        assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains("Employee: Señora Peña\n"));
+    }
+    /*
+     * Payslips are written as UTF-8.
+     */
+
+    // Label left in 18 columns, amount right-aligned in the next 21
+    private static String line(String label, String amount) {
+        return String.format("%-18s%21s\n", label, amount);
+    }
+}
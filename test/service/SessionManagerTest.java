@@ -0,0 +1,135 @@
+/*
+ * Programmer: H2101 GROUP 14 | Franco, C., Jardeliza, L., Lasic, J.
+ * Date: March 2026
+ * Project: MotorPH Payroll System
+ */
+
+package service;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.EmploymentStatus;
+import model.FinanceEmployee;
+import model.HREmployee;
+import model.Money;
+import model.Permission;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SessionManagerTest {
+
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(30);
+
+    private AtomicLong clock;
+    private SessionManager sessionManager;
+    private HREmployee hr;
+    private FinanceEmployee finance;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong(1_000);
+        sessionManager = new SessionManager(IDLE_NANOS, clock::get);
+        hr = new HREmployee(10001, "Manuel III", "Garcia", "10/11/1983",
+                "HR Manager", "HR", Money.ofPesos(90000), Money.ofPesos(1500), Money.ofPesos(2000), Money.ofPesos(1000), EmploymentStatus.REGULAR);
+        finance = new FinanceEmployee(10002, "Antonio", "Lim", "06/19/1988",
+                "Payroll Manager", "Finance", Money.ofPesos(60000), Money.ofPesos(1500), Money.ofPesos(2000), Money.ofPesos(1000), EmploymentStatus.REGULAR);
+    }
+    /*
+     * @Before runs before each test.
+     * It creates a SessionManager on a fake clock and two employees
+     * with different roles.
+     */
+
+    @After
+    public void tearDown() {
+        sessionManager.close();
+        sessionManager = null;
+    }
+    /*
+     * @After runs after each test.
+     * It stops the sweeper thread.
+     */
+
+    @Test
+    public void testPermissionsFixedAtLogin() {
+        Session hrSession = sessionManager.open(hr);
+        Session financeSession = sessionManager.open(finance);
+
+        assertEquals(EnumSet.of(Permission.MANAGE_EMPLOYEES), hrSession.getPermissions());
+        assertTrue(financeSession.hasPermission(Permission.PROCESS_PAYROLL));
+        assertFalse(financeSession.hasPermission(Permission.MANAGE_EMPLOYEES));
+        assertEquals("Manuel III Garcia", hrSession.getFullName());
+
+        try {
+            hrSession.getPermissions().add(Permission.PROCESS_PAYROLL);
+            fail("permissions must be unmodifiable");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+    /*
+     * Each session carries the permissions of its employee's role, and
+     * they cannot be changed afterwards.
+     */
+
+    @Test
+    public void testTokensAreOpaqueAndUnique() {
+        Session first = sessionManager.open(hr);
+        Session second = sessionManager.open(hr);
+
+        assertNotEquals(first.getToken(), second.getToken());
+        assertFalse(first.getToken().contains("10001"));
+        assertTrue(first.getToken().length() >= 43);
+        assertSame(first, sessionManager.find(first.getToken()));
+        assertNull(sessionManager.find("not-a-token"));
+        assertNull(sessionManager.find(null));
+    }
+    /*
+     * Tokens are long random strings that reveal nothing about the user;
+     * only a token that was handed out finds a session.
+     */
+
+    @Test
+    public void testIdleExpiry() {
+        Session active = sessionManager.open(hr);
+        Session idle = sessionManager.open(finance);
+
+        advance(IDLE_NANOS - 1);
+        assertNotNull(sessionManager.find(active.getToken()));
+
+        advance(2);
+        assertNotNull(sessionManager.find(active.getToken()));
+        assertNull(sessionManager.find(idle.getToken()));
+        assertEquals(1, sessionManager.size());
+
+        advance(IDLE_NANOS + 1);
+        assertEquals(1, sessionManager.sweep());
+        assertEquals(0, sessionManager.size());
+    }
+    /*
+     * Using a session keeps it alive; one left idle past the timeout is
+     * refused, and the sweep removes expired sessions nobody looks up.
+     */
+
+    @Test
+    public void testEnd() {
+        Session session = sessionManager.open(hr);
+        sessionManager.end(session.getToken());
+        sessionManager.end("unknown");
+
+        assertNull(sessionManager.find(session.getToken()));
+        assertEquals(0, sessionManager.size());
+    }
+    /*
+     * A session that was ended (logout) can no longer be used.
+     */
+
+    private void advance(long nanos) {
+        clock.addAndGet(nanos);
+    }
+}